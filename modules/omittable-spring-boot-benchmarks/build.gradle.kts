@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    id("me.champeau.jmh")
+    java
+}
+
+jmh {
+    jmhVersion = buildDeps.versions.jmh
+    profilers.add("gc")
+    resultFormat = "JSON"
+}
+
+dependencies {
+    jmhImplementation(project(":omittable-spring-boot-webflux"))
+    jmhImplementation(project(":omittable-spring-boot-webmvc"))
+
+    jmhImplementation(platform(libs.spring.boot.dependencies))
+    jmhImplementation(libs.jackson.dataformat.cbor)
+    jmhImplementation(libs.jackson.dataformat.smile)
+    jmhImplementation(libs.jackson.datatype.jdk8)
+    jmhImplementation(libs.jackson3.databind)
+    jmhImplementation(libs.jakarta.servlet.api)
+    jmhImplementation(libs.spring.boot.jackson2)
+    jmhImplementation(libs.spring.test)
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Handler methods whose parameters are used as the subjects of the argument resolution benchmarks.
+ *
+ * <p>The methods mirror the shapes used by the sample applications in the integration tests. Each {@code Omittable}
+ * parameter has a plain and an {@code Optional} counterpart that is resolved by Spring's built-in resolvers.</p>
+ *
+ * @author  Leon Linhart
+ */
+@SuppressWarnings("unused")
+final class BenchmarkHandlers {
+
+    static final String SAMPLE_ID = "d3a33656-3fb4-4430-8103-b7c60f018eb4";
+
+    public void omittableString(@RequestParam(name = "name", required = false) Omittable<@Nullable String> name) {}
+
+    public void plainString(@RequestParam(name = "name", required = false) @Nullable String name) {}
+
+    public void optionalString(@RequestParam(name = "name") Optional<String> name) {}
+
+    public void omittableUuid(@RequestParam(name = "myId") Omittable<@Nullable UUID> id) {}
+
+    public void plainUuid(@RequestParam(name = "myId", required = false) @Nullable UUID id) {}
+
+    public void optionalUuid(@RequestParam(name = "myId") Optional<UUID> id) {}
+
+    BenchmarkHandlers() {}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson.OmittableModule;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the serialization and deserialization of {@code PersonUpdate}-style records through the
+ * {@link OmittableModule} in the binary Smile and CBOR dataformats, compared against JSON.
+ *
+ * <p>The size of the payloads is reported by the {@code bytes} counter of the {@code serialize} benchmark. Dividing it
+ * by the throughput of the benchmark yields the size of a single payload in bytes.</p>
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BinaryDataformatBenchmark {
+
+    public record PersonUpdate(
+        Omittable<String> name,
+        String required,
+        @Nullable String requiredNullable,
+        Omittable<@Nullable UUID> nullable
+    ) {}
+
+    /**
+     * The dataformat of the payload.
+     */
+    @Param({ "json", "smile", "cbor" })
+    public String format;
+
+    /**
+     * The shape of the payload: {@code full} (all members present), {@code sparse} (only required members present), or
+     * {@code nulls} (optional members explicitly {@code null}).
+     */
+    @Param({ "full", "sparse", "nulls" })
+    public String shape;
+
+    private byte[] payload;
+    private PersonUpdate value;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setup() throws Exception {
+        String json = switch (this.shape) {
+            case "full" -> """
+                { "name": "Karl", "required": "foo", "requiredNullable": "bar", "nullable": "%s" }
+                """.formatted(BenchmarkHandlers.SAMPLE_ID);
+            case "sparse" -> """
+                { "required": "foo", "requiredNullable": null }
+                """;
+            case "nulls" -> """
+                { "name": null, "required": "foo", "requiredNullable": null, "nullable": null }
+                """;
+            default -> throw new IllegalStateException("Unknown shape: " + this.shape);
+        };
+
+        ObjectMapper mapper = switch (this.format) {
+            case "json" -> JsonMapper.builder().addModule(new OmittableModule()).build();
+            case "smile" -> SmileMapper.builder().addModule(new OmittableModule()).build();
+            case "cbor" -> CBORMapper.builder().addModule(new OmittableModule()).build();
+            default -> throw new IllegalStateException("Unknown format: " + this.format);
+        };
+
+        // The tree is converted instead of the record so that the payloads of all formats have the same members.
+        JsonNode tree = new ObjectMapper().readTree(json);
+        this.payload = mapper.writeValueAsBytes(tree);
+
+        this.reader = mapper.readerFor(PersonUpdate.class);
+        this.writer = mapper.writerFor(PersonUpdate.class);
+        this.value = this.reader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public PersonUpdate deserialize() throws Exception {
+        return this.reader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize size) throws Exception {
+        byte[] bytes = this.writer.writeValueAsBytes(this.value);
+        size.bytes += bytes.length;
+
+        return bytes;
+    }
+
+    /**
+     * Counts the number of bytes that are written by the {@code serialize} benchmark.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.bytes = 0;
+        }
+
+    }
+
+}
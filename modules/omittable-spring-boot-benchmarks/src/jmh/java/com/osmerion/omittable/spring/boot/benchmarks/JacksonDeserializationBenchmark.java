@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson.OmittableModule;
+import com.osmerion.omittable.spring.boot.core.jackson3.OmittableJackson3Module;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the deserialization of {@code PersonUpdate}-style records through the {@link OmittableModule},
+ * compared against records with plain and {@code Optional} components, and against the
+ * {@link OmittableJackson3Module} for Jackson 3.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JacksonDeserializationBenchmark {
+
+    public record PersonUpdate(
+        Omittable<String> name,
+        String required,
+        @Nullable String requiredNullable,
+        Omittable<@Nullable UUID> nullable
+    ) {}
+
+    public record PlainPersonUpdate(
+        @Nullable String name,
+        String required,
+        @Nullable String requiredNullable,
+        @Nullable UUID nullable
+    ) {}
+
+    public record OptionalPersonUpdate(
+        Optional<String> name,
+        String required,
+        @Nullable String requiredNullable,
+        Optional<UUID> nullable
+    ) {}
+
+    /**
+     * The shape of the payload: {@code full} (all members present), {@code sparse} (only required members present), or
+     * {@code nulls} (optional members explicitly {@code null}).
+     */
+    @Param({ "full", "sparse", "nulls" })
+    public String shape;
+
+    private byte[] payload;
+
+    private ObjectReader omittableReader;
+    private ObjectReader plainReader;
+    private ObjectReader optionalReader;
+
+    private tools.jackson.databind.ObjectReader omittableJackson3Reader;
+    private tools.jackson.databind.ObjectReader plainJackson3Reader;
+
+    @Setup
+    public void setup() {
+        String json = switch (this.shape) {
+            case "full" -> """
+                { "name": "Karl", "required": "foo", "requiredNullable": "bar", "nullable": "%s" }
+                """.formatted(BenchmarkHandlers.SAMPLE_ID);
+            case "sparse" -> """
+                { "required": "foo", "requiredNullable": null }
+                """;
+            case "nulls" -> """
+                { "name": null, "required": "foo", "requiredNullable": null, "nullable": null }
+                """;
+            default -> throw new IllegalStateException("Unknown shape: " + this.shape);
+        };
+
+        this.payload = json.getBytes(StandardCharsets.UTF_8);
+
+        JsonMapper mapper = JsonMapper.builder()
+            .addModule(new Jdk8Module())
+            .addModule(new OmittableModule())
+            .build();
+
+        this.omittableReader = mapper.readerFor(PersonUpdate.class);
+        this.plainReader = mapper.readerFor(PlainPersonUpdate.class);
+        this.optionalReader = mapper.readerFor(OptionalPersonUpdate.class);
+
+        tools.jackson.databind.json.JsonMapper jackson3Mapper = tools.jackson.databind.json.JsonMapper.builder()
+            .addModule(new OmittableJackson3Module())
+            .build();
+
+        this.omittableJackson3Reader = jackson3Mapper.readerFor(PersonUpdate.class);
+        this.plainJackson3Reader = jackson3Mapper.readerFor(PlainPersonUpdate.class);
+    }
+
+    @Benchmark
+    public PersonUpdate omittable() throws Exception {
+        return this.omittableReader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public PlainPersonUpdate plain() throws Exception {
+        return this.plainReader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public OptionalPersonUpdate optional() throws Exception {
+        return this.optionalReader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public PersonUpdate omittableJackson3() {
+        return this.omittableJackson3Reader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public PlainPersonUpdate plainJackson3() {
+        return this.plainJackson3Reader.readValue(this.payload);
+    }
+
+}
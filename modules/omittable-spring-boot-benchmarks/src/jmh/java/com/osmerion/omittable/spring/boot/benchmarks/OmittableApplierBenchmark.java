@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableApplier;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for copying the present components of an {@code Omittable} record onto a mutable target using an
+ * {@link OmittableApplier}, compared against hand-written presence checks and a reflection-based copy.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OmittableApplierBenchmark {
+
+    public record PersonUpdate(Omittable<String> name, Omittable<@Nullable String> email, Omittable<Integer> age, Omittable<String> city) {}
+
+    public static final class Person {
+
+        private @Nullable String name;
+        private @Nullable String email;
+        private int age;
+        private @Nullable String city;
+
+        public void setName(@Nullable String name) {
+            this.name = name;
+        }
+
+        public void setEmail(@Nullable String email) {
+            this.email = email;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public void setCity(@Nullable String city) {
+            this.city = city;
+        }
+
+    }
+
+    private OmittableApplier<PersonUpdate, Person> applier;
+    private RecordComponent[] components;
+    private Method[] setters;
+
+    private PersonUpdate update;
+    private Person person;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        this.applier = OmittableApplier.of(PersonUpdate.class, Person.class);
+
+        this.components = PersonUpdate.class.getRecordComponents();
+        this.setters = new Method[this.components.length];
+
+        for (int i = 0; i < this.components.length; i++) {
+            String name = this.components[i].getName();
+            Class<?> type = (i == 2) ? int.class : String.class;
+
+            this.setters[i] = Person.class.getMethod("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1), type);
+        }
+
+        this.update = new PersonUpdate(Omittable.of("Karl"), Omittable.of(null), Omittable.absent(), Omittable.of("Berlin"));
+        this.person = new Person();
+    }
+
+    @Benchmark
+    public Person manual() {
+        PersonUpdate update = this.update;
+        Person person = this.person;
+
+        if (update.name().isPresent()) person.setName(update.name().orElseThrow());
+        if (update.email().isPresent()) person.setEmail(update.email().orElseThrow());
+        if (update.age().isPresent()) person.setAge(update.age().orElseThrow());
+        if (update.city().isPresent()) person.setCity(update.city().orElseThrow());
+
+        return person;
+    }
+
+    @Benchmark
+    public Person applier() {
+        return this.applier.apply(this.update, this.person);
+    }
+
+    @Benchmark
+    public Person reflection() throws ReflectiveOperationException {
+        for (int i = 0; i < this.components.length; i++) {
+            Omittable<?> value = (Omittable<?>) this.components[i].getAccessor().invoke(this.update);
+            if (value.isPresent()) this.setters[i].invoke(this.person, value.orElseThrow());
+        }
+
+        return this.person;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.osmerion.omittable.spring.boot.core.convert.CachingOmittableConverter;
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for conversions through the {@link OmittableConverter} and the {@link CachingOmittableConverter} that is
+ * registered by the auto-configurations, compared against the direct conversion to the wrapped type and to
+ * {@code Optional}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OmittableConverterBenchmark {
+
+    private DefaultFormattingConversionService conversionService;
+    private DefaultFormattingConversionService cachingConversionService;
+
+    private TypeDescriptor sourceType;
+
+    private TypeDescriptor omittableString;
+    private TypeDescriptor plainString;
+    private TypeDescriptor optionalString;
+    private TypeDescriptor omittableUuid;
+    private TypeDescriptor plainUuid;
+    private TypeDescriptor optionalUuid;
+
+    @Setup
+    public void setup() {
+        this.conversionService = new DefaultFormattingConversionService();
+        this.conversionService.addConverter(new OmittableConverter(this.conversionService));
+
+        this.cachingConversionService = new DefaultFormattingConversionService();
+        this.cachingConversionService.addConverter(new CachingOmittableConverter(this.cachingConversionService, 256));
+
+        this.sourceType = TypeDescriptor.valueOf(String.class);
+
+        this.omittableString = parameterType("omittableString");
+        this.plainString = parameterType("plainString");
+        this.optionalString = parameterType("optionalString");
+        this.omittableUuid = parameterType("omittableUuid");
+        this.plainUuid = parameterType("plainUuid");
+        this.optionalUuid = parameterType("optionalUuid");
+    }
+
+    private static TypeDescriptor parameterType(String methodName) {
+        Method method = Arrays.stream(BenchmarkHandlers.class.getDeclaredMethods())
+            .filter(it -> it.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+
+        return new TypeDescriptor(SynthesizingMethodParameter.forExecutable(method, 0));
+    }
+
+    @Benchmark
+    public @Nullable Object omittableString() {
+        return this.conversionService.convert("Karl", this.sourceType, this.omittableString);
+    }
+
+    @Benchmark
+    public @Nullable Object cachedOmittableString() {
+        return this.cachingConversionService.convert("Karl", this.sourceType, this.omittableString);
+    }
+
+    @Benchmark
+    public @Nullable Object plainString() {
+        return this.conversionService.convert("Karl", this.sourceType, this.plainString);
+    }
+
+    @Benchmark
+    public @Nullable Object optionalString() {
+        return this.conversionService.convert("Karl", this.sourceType, this.optionalString);
+    }
+
+    @Benchmark
+    public @Nullable Object omittableUuid() {
+        return this.conversionService.convert(BenchmarkHandlers.SAMPLE_ID, this.sourceType, this.omittableUuid);
+    }
+
+    @Benchmark
+    public @Nullable Object cachedOmittableUuid() {
+        return this.cachingConversionService.convert(BenchmarkHandlers.SAMPLE_ID, this.sourceType, this.omittableUuid);
+    }
+
+    @Benchmark
+    public @Nullable Object plainUuid() {
+        return this.conversionService.convert(BenchmarkHandlers.SAMPLE_ID, this.sourceType, this.plainUuid);
+    }
+
+    @Benchmark
+    public @Nullable Object optionalUuid() {
+        return this.conversionService.convert(BenchmarkHandlers.SAMPLE_ID, this.sourceType, this.optionalUuid);
+    }
+
+}
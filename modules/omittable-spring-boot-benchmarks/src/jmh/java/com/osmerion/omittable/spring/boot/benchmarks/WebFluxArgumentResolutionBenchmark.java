@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.osmerion.omittable.spring.boot.webflux.OmittableBindingArgumentResolver;
+import com.osmerion.omittable.spring.boot.webflux.OmittableBindingPlans;
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestParamMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the resolution of query parameters by the {@link OmittableBindingArgumentResolver} that is
+ * registered by {@code OmittableReactiveAutoConfiguration} and by the {@link OmittableRequestParamMethodArgumentResolver}
+ * it delegates to, compared against Spring's {@link RequestParamMethodArgumentResolver} for plain and {@code Optional}
+ * parameters.
+ *
+ * <p>The benchmarks block on the returned {@code Mono} to include the cost of assembling and subscribing to the
+ * reactive pipeline of each resolver.</p>
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WebFluxArgumentResolutionBenchmark {
+
+    /**
+     * The shape of the query parameter: {@code present} ({@code ?name=value}), {@code absent}, or {@code null}
+     * ({@code ?name}).
+     */
+    @Param({ "present", "absent", "null" })
+    public String shape;
+
+    private OmittableRequestParamMethodArgumentResolver omittableResolver;
+    private OmittableBindingArgumentResolver bindingResolver;
+    private RequestParamMethodArgumentResolver requestParamResolver;
+
+    private BindingContext bindingContext;
+    private ServerWebExchange stringExchange;
+    private ServerWebExchange uuidExchange;
+
+    private MethodParameter omittableString;
+    private MethodParameter plainString;
+    private MethodParameter optionalString;
+    private MethodParameter omittableUuid;
+    private MethodParameter plainUuid;
+    private MethodParameter optionalUuid;
+    private MethodParameter boundString;
+    private MethodParameter boundUuid;
+
+    @Setup
+    public void setup() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new OmittableConverter(conversionService));
+
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(conversionService);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        ReactiveAdapterRegistry adapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+
+        this.omittableResolver = new OmittableRequestParamMethodArgumentResolver(beanFactory, adapterRegistry);
+        this.requestParamResolver = new RequestParamMethodArgumentResolver(beanFactory, adapterRegistry, false);
+
+        this.bindingContext = new BindingContext(initializer);
+        this.stringExchange = createExchange("name", "Karl");
+        this.uuidExchange = createExchange("myId", BenchmarkHandlers.SAMPLE_ID);
+
+        this.omittableString = parameter("omittableString");
+        this.plainString = parameter("plainString");
+        this.optionalString = parameter("optionalString");
+        this.omittableUuid = parameter("omittableUuid");
+        this.plainUuid = parameter("plainUuid");
+        this.optionalUuid = parameter("optionalUuid");
+
+        /* The binding resolver only takes its synchronous path for the parameters of handler methods with a plan. */
+        BenchmarkHandlers handlers = new BenchmarkHandlers();
+        HandlerMethod stringHandler = new HandlerMethod(handlers, method("omittableString"));
+        HandlerMethod uuidHandler = new HandlerMethod(handlers, method("omittableUuid"));
+
+        OmittableBindingPlans plans = OmittableBindingPlans.create(List.of(stringHandler, uuidHandler), this.omittableResolver, adapterRegistry);
+        this.bindingResolver = new OmittableBindingArgumentResolver(plans, this.omittableResolver);
+        this.boundString = stringHandler.getMethodParameters()[0];
+        this.boundUuid = uuidHandler.getMethodParameters()[0];
+    }
+
+    private ServerWebExchange createExchange(String name, String value) {
+        String query = switch (this.shape) {
+            case "present" -> "?" + name + "=" + value;
+            case "null" -> "?" + name;
+            case "absent" -> "";
+            default -> throw new IllegalStateException("Unknown shape: " + this.shape);
+        };
+
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/person" + query));
+    }
+
+    private static Method method(String methodName) {
+        return Arrays.stream(BenchmarkHandlers.class.getDeclaredMethods())
+            .filter(it -> it.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static MethodParameter parameter(String methodName) {
+        return SynthesizingMethodParameter.forExecutable(method(methodName), 0);
+    }
+
+    private @Nullable Object resolve(HandlerMethodArgumentResolver resolver, MethodParameter parameter, ServerWebExchange exchange) {
+        return resolver.resolveArgument(parameter, this.bindingContext, exchange).block();
+    }
+
+    @Benchmark
+    public @Nullable Object omittableString() {
+        return this.resolve(this.omittableResolver, this.omittableString, this.stringExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object boundString() {
+        return this.resolve(this.bindingResolver, this.boundString, this.stringExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object plainString() {
+        return this.resolve(this.requestParamResolver, this.plainString, this.stringExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object optionalString() {
+        return this.resolve(this.requestParamResolver, this.optionalString, this.stringExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object omittableUuid() {
+        return this.resolve(this.omittableResolver, this.omittableUuid, this.uuidExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object boundUuid() {
+        return this.resolve(this.bindingResolver, this.boundUuid, this.uuidExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object plainUuid() {
+        return this.resolve(this.requestParamResolver, this.plainUuid, this.uuidExchange);
+    }
+
+    @Benchmark
+    public @Nullable Object optionalUuid() {
+        return this.resolve(this.requestParamResolver, this.optionalUuid, this.uuidExchange);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.benchmarks;
+
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import com.osmerion.omittable.spring.web.OmittableRequestParamMethodArgumentResolver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.DefaultDataBinderFactory;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.annotation.RequestParamMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the resolution of request parameters by the {@link OmittableRequestParamMethodArgumentResolver} that
+ * is registered by {@code OmittableAutoConfiguration}, compared against Spring's {@link RequestParamMethodArgumentResolver}
+ * for plain and {@code Optional} parameters.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WebMvcArgumentResolutionBenchmark {
+
+    /**
+     * The shape of the request parameter: {@code present} ({@code ?name=value}), {@code absent}, or {@code null}
+     * ({@code ?name}).
+     */
+    @Param({ "present", "absent", "null" })
+    public String shape;
+
+    private OmittableRequestParamMethodArgumentResolver omittableResolver;
+    private RequestParamMethodArgumentResolver requestParamResolver;
+
+    private WebDataBinderFactory binderFactory;
+    private ModelAndViewContainer mavContainer;
+    private NativeWebRequest stringRequest;
+    private NativeWebRequest uuidRequest;
+
+    private MethodParameter omittableString;
+    private MethodParameter plainString;
+    private MethodParameter optionalString;
+    private MethodParameter omittableUuid;
+    private MethodParameter plainUuid;
+    private MethodParameter optionalUuid;
+
+    @Setup
+    public void setup() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new OmittableConverter(conversionService));
+
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(conversionService);
+
+        this.omittableResolver = new OmittableRequestParamMethodArgumentResolver();
+        this.requestParamResolver = new RequestParamMethodArgumentResolver(false);
+
+        this.binderFactory = new DefaultDataBinderFactory(initializer);
+        this.mavContainer = new ModelAndViewContainer();
+        this.stringRequest = createRequest("name", "Karl");
+        this.uuidRequest = createRequest("myId", BenchmarkHandlers.SAMPLE_ID);
+
+        this.omittableString = parameter("omittableString");
+        this.plainString = parameter("plainString");
+        this.optionalString = parameter("optionalString");
+        this.omittableUuid = parameter("omittableUuid");
+        this.plainUuid = parameter("plainUuid");
+        this.optionalUuid = parameter("optionalUuid");
+    }
+
+    private NativeWebRequest createRequest(String name, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/person");
+
+        switch (this.shape) {
+            case "present" -> request.addParameter(name, value);
+            case "null" -> request.addParameter(name, "");
+            case "absent" -> {}
+            default -> throw new IllegalStateException("Unknown shape: " + this.shape);
+        }
+
+        return new ServletWebRequest(request);
+    }
+
+    private static MethodParameter parameter(String methodName) {
+        Method method = Arrays.stream(BenchmarkHandlers.class.getDeclaredMethods())
+            .filter(it -> it.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+
+        return SynthesizingMethodParameter.forExecutable(method, 0);
+    }
+
+    @Benchmark
+    public Object omittableString() throws Exception {
+        return this.omittableResolver.resolveArgument(this.omittableString, this.mavContainer, this.stringRequest, this.binderFactory);
+    }
+
+    @Benchmark
+    public Object plainString() throws Exception {
+        return this.requestParamResolver.resolveArgument(this.plainString, this.mavContainer, this.stringRequest, this.binderFactory);
+    }
+
+    @Benchmark
+    public Object optionalString() throws Exception {
+        return this.requestParamResolver.resolveArgument(this.optionalString, this.mavContainer, this.stringRequest, this.binderFactory);
+    }
+
+    @Benchmark
+    public Object omittableUuid() throws Exception {
+        return this.omittableResolver.resolveArgument(this.omittableUuid, this.mavContainer, this.uuidRequest, this.binderFactory);
+    }
+
+    @Benchmark
+    public Object plainUuid() throws Exception {
+        return this.requestParamResolver.resolveArgument(this.plainUuid, this.mavContainer, this.uuidRequest, this.binderFactory);
+    }
+
+    @Benchmark
+    public Object optionalUuid() throws Exception {
+        return this.requestParamResolver.resolveArgument(this.optionalUuid, this.mavContainer, this.uuidRequest, this.binderFactory);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    id("com.osmerion.maven-publish-conventions")
+    `java-library`
+    `java-test-fixtures`
+}
+
+java {
+    withSourcesJar()
+    withJavadocJar()
+}
+
+// The test fixtures (e.g. the load generator) are shared by the test suites of other modules and are not published.
+(components["java"] as AdhocComponentWithVariants).apply {
+    withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+    withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
+}
+
+publishing {
+    publications.register<MavenPublication>("mavenJava") {
+        from(components["java"])
+
+        pom {
+            description = "Shared Spring Boot support for Omittable types."
+        }
+    }
+}
+
+dependencies {
+    api(libs.omittable.spring.core)
+
+    api(platform(libs.spring.boot.dependencies))
+    api(libs.spring.boot.autoconfigure)
+
+    compileOnly(libs.jackson.databind)
+    compileOnly(libs.jackson3.databind)
+    compileOnly(libs.micrometer.core)
+    compileOnly(libs.protobuf.java)
+    compileOnly(libs.spring.web)
+}
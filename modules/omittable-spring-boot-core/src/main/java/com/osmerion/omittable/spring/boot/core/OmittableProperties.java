@@ -0,0 +1,423 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Omittable support.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@ConfigurationProperties(prefix = "omittable")
+public class OmittableProperties {
+
+    private final Cache cache = new Cache();
+
+    private final Conversion conversion = new Conversion();
+
+    private final Fields fields = new Fields();
+
+    private final Jfr jfr = new Jfr();
+
+    private final Metrics metrics = new Metrics();
+
+    public OmittableProperties() {}
+
+    /**
+     * {@return the cache properties}
+     *
+     * @since   2.1.0
+     */
+    public Cache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * {@return the conversion properties}
+     *
+     * @since   2.1.0
+     */
+    public Conversion getConversion() {
+        return this.conversion;
+    }
+
+    /**
+     * {@return the sparse fieldset properties}
+     *
+     * @since   2.1.0
+     */
+    public Fields getFields() {
+        return this.fields;
+    }
+
+    /**
+     * {@return the JDK Flight Recorder properties}
+     *
+     * @since   2.1.0
+     */
+    public Jfr getJfr() {
+        return this.jfr;
+    }
+
+    /**
+     * {@return the metrics properties}
+     *
+     * @since   2.1.0
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Properties for caching the results of methods with {@code Omittable} parameters.
+     *
+     * @since   2.1.0
+     */
+    public static class Cache {
+
+        /**
+         * Whether the Omittable-aware key generator is used as the default key generator of the cache abstraction.
+         */
+        private boolean enabled = false;
+
+        public Cache() {}
+
+        /**
+         * {@return whether the Omittable-aware key generator is used as the default key generator}
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether the Omittable-aware key generator is used as the default key generator.
+         *
+         * @param enabled   whether the Omittable-aware key generator is used as the default key generator
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    /**
+     * Properties for the conversion of values to {@code Omittable} types.
+     *
+     * @since   2.1.0
+     */
+    public static class Conversion {
+
+        /**
+         * The maximum number of target types for which the type of the wrapped value is cached. A value of zero
+         * disables the cache.
+         */
+        private int cacheSize = 256;
+
+        public Conversion() {}
+
+        /**
+         * {@return the maximum number of cached target types}
+         *
+         * @since   2.1.0
+         */
+        public int getCacheSize() {
+            return this.cacheSize;
+        }
+
+        /**
+         * Sets the maximum number of cached target types.
+         *
+         * @param cacheSize the maximum number of cached target types
+         *
+         * @since   2.1.0
+         */
+        public void setCacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+        }
+
+    }
+
+    /**
+     * Properties for sparse fieldsets, which limit the serialization of response bodies to the properties that are
+     * requested by a query parameter.
+     *
+     * @since   2.1.0
+     */
+    public static class Fields {
+
+        /**
+         * Whether response bodies are limited to the properties that are requested by the query parameter.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The name of the query parameter with the comma-separated property paths.
+         */
+        private String parameterName = "fields";
+
+        /**
+         * The maximum number of distinct field sets for which a writer is cached. A value of zero disables the cache.
+         */
+        private int cacheSize = 256;
+
+        public Fields() {}
+
+        /**
+         * {@return whether response bodies are limited to the requested properties}
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether response bodies are limited to the requested properties.
+         *
+         * @param enabled   whether response bodies are limited to the requested properties
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * {@return the name of the query parameter}
+         *
+         * @since   2.1.0
+         */
+        public String getParameterName() {
+            return this.parameterName;
+        }
+
+        /**
+         * Sets the name of the query parameter.
+         *
+         * @param parameterName the name of the query parameter
+         *
+         * @since   2.1.0
+         */
+        public void setParameterName(String parameterName) {
+            this.parameterName = parameterName;
+        }
+
+        /**
+         * {@return the maximum number of cached field sets}
+         *
+         * @since   2.1.0
+         */
+        public int getCacheSize() {
+            return this.cacheSize;
+        }
+
+        /**
+         * Sets the maximum number of cached field sets.
+         *
+         * @param cacheSize the maximum number of cached field sets
+         *
+         * @since   2.1.0
+         */
+        public void setCacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+        }
+
+    }
+
+    /**
+     * Properties for the JDK Flight Recorder events of {@code Omittable} types.
+     *
+     * @since   2.1.0
+     */
+    public static class Jfr {
+
+        /**
+         * Whether JDK Flight Recorder events are emitted for {@code Omittable} request parameters, conversions, and
+         * request body fields.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The minimum resolution duration of request parameters for which events are emitted.
+         */
+        private Duration parameterThreshold = Duration.ZERO;
+
+        /**
+         * The minimum conversion duration of values for which events are emitted.
+         */
+        private Duration conversionThreshold = Duration.ZERO;
+
+        /**
+         * The minimum deserialization duration of request body fields for which events are emitted.
+         */
+        private Duration bodyFieldThreshold = Duration.ZERO;
+
+        public Jfr() {}
+
+        /**
+         * {@return whether events are emitted}
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether events are emitted.
+         *
+         * @param enabled   whether events are emitted
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * {@return the minimum resolution duration of request parameters for which events are emitted}
+         *
+         * @since   2.1.0
+         */
+        public Duration getParameterThreshold() {
+            return this.parameterThreshold;
+        }
+
+        /**
+         * Sets the minimum resolution duration of request parameters for which events are emitted.
+         *
+         * @param parameterThreshold    the threshold
+         *
+         * @since   2.1.0
+         */
+        public void setParameterThreshold(Duration parameterThreshold) {
+            this.parameterThreshold = parameterThreshold;
+        }
+
+        /**
+         * {@return the minimum conversion duration of values for which events are emitted}
+         *
+         * @since   2.1.0
+         */
+        public Duration getConversionThreshold() {
+            return this.conversionThreshold;
+        }
+
+        /**
+         * Sets the minimum conversion duration of values for which events are emitted.
+         *
+         * @param conversionThreshold   the threshold
+         *
+         * @since   2.1.0
+         */
+        public void setConversionThreshold(Duration conversionThreshold) {
+            this.conversionThreshold = conversionThreshold;
+        }
+
+        /**
+         * {@return the minimum deserialization duration of request body fields for which events are emitted}
+         *
+         * @since   2.1.0
+         */
+        public Duration getBodyFieldThreshold() {
+            return this.bodyFieldThreshold;
+        }
+
+        /**
+         * Sets the minimum deserialization duration of request body fields for which events are emitted.
+         *
+         * @param bodyFieldThreshold    the threshold
+         *
+         * @since   2.1.0
+         */
+        public void setBodyFieldThreshold(Duration bodyFieldThreshold) {
+            this.bodyFieldThreshold = bodyFieldThreshold;
+        }
+
+    }
+
+    /**
+     * Properties for the metrics of {@code Omittable} request parameters.
+     *
+     * @since   2.1.0
+     */
+    public static class Metrics {
+
+        /**
+         * Whether metrics for {@code Omittable} request parameters are recorded when Micrometer is available.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The maximum number of distinct values of the {@code endpoint} tag. Further endpoints are recorded with the
+         * tag value {@code OTHER}.
+         */
+        private int maxEndpointTags = 100;
+
+        public Metrics() {}
+
+        /**
+         * {@return whether metrics are recorded}
+         *
+         * @since   2.1.0
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether metrics are recorded.
+         *
+         * @param enabled   whether metrics are recorded
+         *
+         * @since   2.1.0
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * {@return the maximum number of distinct values of the {@code endpoint} tag}
+         *
+         * @since   2.1.0
+         */
+        public int getMaxEndpointTags() {
+            return this.maxEndpointTags;
+        }
+
+        /**
+         * Sets the maximum number of distinct values of the {@code endpoint} tag.
+         *
+         * @param maxEndpointTags   the maximum number of distinct values of the {@code endpoint} tag
+         *
+         * @since   2.1.0
+         */
+        public void setMaxEndpointTags(int maxEndpointTags) {
+            this.maxEndpointTags = maxEndpointTags;
+        }
+
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.aot;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableHandlerMetadataRegistry;
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableParameterMetadata;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+
+import javax.lang.model.element.Modifier;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link BeanFactoryInitializationAotProcessor} that inspects the {@code Omittable} parameters of request handler
+ * methods ahead of time.
+ *
+ * <p>For each handler method of a {@link Controller controller} bean, the processor records which parameters are
+ * bound to {@code Omittable} request parameters, together with their name, whether they are wrapped in a reactive
+ * type, and whether a default value is declared. The recorded metadata is registered as an
+ * {@link OmittableHandlerMetadataRegistry} bean by generated code. This way, neither AOT-processed applications on the
+ * JVM nor native images have to inspect these parameters reflectively at startup.</p>
+ *
+ * <p>The value types are not recorded. Consumers resolve them (including generics and annotations such as
+ * {@code @DateTimeFormat}) from the handler method parameter. Handler methods with parameters that cannot be
+ * described reliably ahead of time (for example, parameters without {@code @RequestParam}) are not recorded and are
+ * inspected at runtime instead.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableHandlerMethodAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+        "org.springframework.web.bind.annotation.RequestMapping",
+        OmittableHandlerMethodAotProcessor.class.getClassLoader()
+    );
+
+    @Override
+    public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (!WEB_PRESENT) return null;
+
+        List<HandlerMetadata> handlers = HandlerMethodInspector.inspect(beanFactory);
+        if (handlers.isEmpty()) return null;
+
+        return new Contribution(handlers);
+    }
+
+    private record HandlerMetadata(Method method, List<OmittableParameterMetadata> parameters) {}
+
+    private static final class HandlerMethodInspector {
+
+        private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+        static List<HandlerMetadata> inspect(ConfigurableListableBeanFactory beanFactory) {
+            ReactiveAdapterRegistry adapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+            List<HandlerMetadata> handlers = new ArrayList<>();
+
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType == null) continue;
+
+                Class<?> userType = ClassUtils.getUserClass(beanType);
+                if (!AnnotatedElementUtils.hasAnnotation(userType, Controller.class)) continue;
+
+                Map<Method, Boolean> methods = MethodIntrospector.selectMethods(
+                    userType,
+                    (MethodIntrospector.MetadataLookup<Boolean>) method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class) ? Boolean.TRUE : null
+                );
+
+                for (Method method : methods.keySet()) {
+                    List<OmittableParameterMetadata> parameters = inspect(method, adapterRegistry);
+                    if (parameters != null) handlers.add(new HandlerMetadata(method, parameters));
+                }
+            }
+
+            handlers.sort(Comparator.comparing((HandlerMetadata handler) -> handler.method().toGenericString()));
+            return handlers;
+        }
+
+        /*
+         * Returns the metadata for the Omittable parameters of the given method, or null if the parameters of the
+         * method cannot be described reliably ahead of time.
+         */
+        private static @Nullable List<OmittableParameterMetadata> inspect(Method method, ReactiveAdapterRegistry adapterRegistry) {
+            List<OmittableParameterMetadata> parameters = new ArrayList<>();
+
+            for (int i = 0; i < method.getParameterCount(); i++) {
+                MethodParameter parameter = SynthesizingMethodParameter.forExecutable(method, i);
+                ResolvableType type = ResolvableType.forMethodParameter(parameter);
+
+                boolean reactive = adapterRegistry.getAdapter(parameter.getParameterType()) != null;
+                if (reactive) type = type.getGeneric(0);
+
+                if (!Omittable.class.equals(type.resolve())) continue;
+
+                RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+                if (requestParam == null) return null;
+
+                String name = resolveName(parameter, requestParam);
+                if (name == null) return null;
+
+                parameters.add(new OmittableParameterMetadata(
+                    i,
+                    name,
+                    reactive,
+                    !ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())
+                ));
+            }
+
+            return parameters;
+        }
+
+        private static @Nullable String resolveName(MethodParameter parameter, RequestParam requestParam) {
+            if (StringUtils.hasText(requestParam.name())) return requestParam.name();
+
+            parameter.initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+            return parameter.getParameterName();
+        }
+
+    }
+
+    private static final class Contribution implements BeanFactoryInitializationAotContribution {
+
+        private final List<HandlerMetadata> handlers;
+
+        Contribution(List<HandlerMetadata> handlers) {
+            this.handlers = handlers;
+        }
+
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+            GeneratedClass generatedClass = generationContext.getGeneratedClasses().addForFeature(
+                "OmittableHandlerMetadata",
+                type -> type.addModifiers(Modifier.PUBLIC)
+            );
+
+            GeneratedMethod generatedMethod = generatedClass.getMethods().add("registerOmittableHandlerMetadata", method -> {
+                method.addJavadoc("Registers the metadata of {@code Omittable} handler method parameters.");
+                method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+                method.addParameter(DefaultListableBeanFactory.class, "beanFactory");
+                method.addCode(this.generateRegistrationCode());
+            });
+
+            beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+        }
+
+        private CodeBlock generateRegistrationCode() {
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.addStatement("$T builder = $T.builder()", OmittableHandlerMetadataRegistry.Builder.class, OmittableHandlerMetadataRegistry.class);
+
+            for (HandlerMetadata handler : this.handlers) {
+                Method method = handler.method();
+
+                CodeBlock parameterTypeNames = Arrays.stream(method.getParameterTypes())
+                    .map(type -> CodeBlock.of("$S", type.getName()))
+                    .collect(CodeBlock.joining(", "));
+
+                List<CodeBlock> arguments = new ArrayList<>();
+                arguments.add(CodeBlock.of("$S", method.getDeclaringClass().getName()));
+                arguments.add(CodeBlock.of("$S", method.getName()));
+                arguments.add(CodeBlock.of("new String[] { $L }", parameterTypeNames));
+
+                for (OmittableParameterMetadata parameter : handler.parameters()) {
+                    arguments.add(CodeBlock.of(
+                        "new $T($L, $S, $L, $L)",
+                        OmittableParameterMetadata.class,
+                        parameter.parameterIndex(),
+                        parameter.name(),
+                        parameter.reactive(),
+                        parameter.hasDefaultValue()
+                    ));
+                }
+
+                code.addStatement("builder.add($L)", CodeBlock.join(arguments, ", "));
+            }
+
+            code.addStatement("beanFactory.registerSingleton($S, builder.build())", OmittableHandlerMetadataRegistry.BEAN_NAME);
+            return code.build();
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.cache;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for caching the results of methods with {@code Omittable} parameters.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration
+public class OmittableCacheAutoConfiguration {
+
+    public OmittableCacheAutoConfiguration() {}
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OmittableKeyGenerator omittableKeyGenerator() {
+        return new OmittableKeyGenerator();
+    }
+
+    /*
+     * Makes the OmittableKeyGenerator the default key generator of the cache abstraction if enabled explicitly. This
+     * is opt-in since it changes the keys of cached methods with Omittable parameters, which makes entries in
+     * external caches unreachable after an upgrade. Cache managers and cache resolvers are left to their defaults.
+     * Applications that declare their own CachingConfigurer can refer to the key generator by its bean name instead.
+     */
+    @Bean
+    @ConditionalOnMissingBean(CachingConfigurer.class)
+    @ConditionalOnBooleanProperty("omittable.cache.enabled")
+    public CachingConfigurer omittableCachingConfigurer(OmittableKeyGenerator omittableKeyGenerator) {
+        return new CachingConfigurer() {
+
+            @Override
+            public KeyGenerator keyGenerator() {
+                return omittableKeyGenerator;
+            }
+
+        };
+    }
+
+}
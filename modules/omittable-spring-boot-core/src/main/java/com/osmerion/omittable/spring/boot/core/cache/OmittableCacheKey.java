@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * A cache key for method invocations with {@code Omittable} parameters.
+ *
+ * <p>The parameters are stored in encoded form. An absent {@code Omittable} is encoded as a marker, a present
+ * {@code Omittable} that wraps {@code null} is encoded as another marker, and a present {@code Omittable} that wraps a
+ * value is encoded as the value itself. Thus, absent and {@code null} parameters result in different keys, and keys
+ * are compared by their values instead of by their {@code Omittable} wrappers.</p>
+ *
+ * <p>Like {@link org.springframework.cache.interceptor.SimpleKey}, keys are compared positionally. Parameters at the
+ * same position are expected to have the same declared type.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableCacheKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The key for method invocations without parameters.
+     *
+     * @since   2.1.0
+     */
+    public static final OmittableCacheKey EMPTY = new OmittableCacheKey();
+
+    /**
+     * The encoded form of an absent {@code Omittable}.
+     *
+     * @since   2.1.0
+     */
+    public static final Object ABSENT = new Marker("Omittable.absent", 0x5BD1E995);
+
+    /**
+     * The encoded form of a present {@code Omittable} that wraps {@code null}.
+     *
+     * @since   2.1.0
+     */
+    public static final Object PRESENT_NULL = new Marker("Omittable[null]", 0x27D4EB2F);
+
+    /**
+     * {@return the encoded form of the given parameter}
+     *
+     * <p>Parameters that are not {@code Omittable} are returned unchanged.</p>
+     *
+     * @param parameter the parameter
+     *
+     * @since   2.1.0
+     */
+    public static @Nullable Object encode(@Nullable Object parameter) {
+        if (!(parameter instanceof Omittable<?> omittable)) return parameter;
+        if (!omittable.isPresent()) return ABSENT;
+
+        Object value = omittable.orElseThrow();
+        return (value != null) ? value : PRESENT_NULL;
+    }
+
+    private final @Nullable Object[] parameters;
+    private final transient int hashCode;
+
+    /**
+     * Creates a new key for the given parameters.
+     *
+     * <p>The parameters are {@link #encode(Object) encoded} into a new array. The given array is not modified.</p>
+     *
+     * @param parameters    the parameters
+     *
+     * @since   2.1.0
+     */
+    public OmittableCacheKey(@Nullable Object... parameters) {
+        @Nullable Object[] encoded = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) encoded[i] = encode(parameters[i]);
+
+        this.parameters = encoded;
+        this.hashCode = hash(encoded);
+    }
+
+    private OmittableCacheKey(@Nullable Object[] encoded, int hashCode) {
+        this.parameters = encoded;
+        this.hashCode = hashCode;
+    }
+
+    /*
+     * The hash code is spread so that keys that differ only in low bits of their parameters' hash codes (e.g. small
+     * integers or the presence of an Omittable) are distributed across hash table buckets.
+     */
+    private static int hash(@Nullable Object[] parameters) {
+        int h = Arrays.deepHashCode(parameters);
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof OmittableCacheKey other)) return false;
+
+        return this.hashCode == other.hashCode && Arrays.deepEquals(this.parameters, other.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",", "OmittableCacheKey [", "]");
+        for (Object parameter : this.parameters) joiner.add(String.valueOf(parameter));
+
+        return joiner.toString();
+    }
+
+    @Serial
+    private Object readResolve() {
+        return new OmittableCacheKey(this.parameters, hash(this.parameters));
+    }
+
+    private static final class Marker implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final int hashCode;
+
+        private Marker(String name, int hashCode) {
+            this.name = name;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || (obj instanceof Marker other && this.name.equals(other.name));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.cache;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@link KeyGenerator} that generates {@link OmittableCacheKey keys} that distinguish absent and {@code null}
+ * {@code Omittable} parameters.
+ *
+ * <p>If none of the parameters is an {@code Omittable}, the key is generated by the {@link SimpleKeyGenerator}. Thus,
+ * keys of methods without {@code Omittable} parameters are unaffected by this generator.</p>
+ *
+ * <p>Otherwise, keys are generated like by the {@link SimpleKeyGenerator}: If there is a single parameter that
+ * {@link OmittableCacheKey#encode(Object) encodes} to a value that is neither {@code null} nor an array, the encoded
+ * value is used as key. Otherwise, an {@link OmittableCacheKey} is created for the parameters.</p>
+ *
+ * <p>The parameters are inspected with type checks only. No reflection is performed when generating keys.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableKeyGenerator implements KeyGenerator {
+
+    public OmittableKeyGenerator() {}
+
+    @Override
+    public Object generate(Object target, Method method, @Nullable Object... params) {
+        return generateKey(params);
+    }
+
+    /**
+     * {@return a key for the given parameters}
+     *
+     * @param params    the parameters
+     *
+     * @since   2.1.0
+     */
+    public static Object generateKey(@Nullable Object... params) {
+        if (!hasOmittable(params)) return SimpleKeyGenerator.generateKey(params);
+
+        if (params.length == 1) {
+            Object param = OmittableCacheKey.encode(params[0]);
+            if (param != null && !param.getClass().isArray()) return param;
+        }
+
+        return new OmittableCacheKey(params);
+    }
+
+    private static boolean hasOmittable(@Nullable Object[] params) {
+        for (Object param : params) {
+            if (param instanceof Omittable<?>) return true;
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.convert;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableConversionListener;
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalConverter;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A converter for {@code Omittable} types that caches the type descriptor of the wrapped type per target type.
+ *
+ * <p>Converting a value to an {@code Omittable} requires the type descriptor of the wrapped target type, which is
+ * derived from the generic type and the annotations of the target type. This converter resolves it once per target type
+ * (that is, per generic type and annotations) and otherwise converts exactly like an {@link OmittableConverter}: the source value is always converted to the
+ * wrapped type by the {@link ConversionService}. The converter for the wrapped value is thus resolved (and cached) by
+ * the conversion service itself, which also takes care of invalidating its cache when converters are added.</p>
+ *
+ * <p>The cache is bounded. Once it is full, further target types are converted without caching. Since the cache only
+ * holds information that is derived from the target types, it does not need to be invalidated when converters are
+ * added to the conversion service.</p>
+ *
+ * <p>{@code null} values and {@code Omittable} sources are converted by an {@link OmittableConverter}.</p>
+ *
+ * <p>If an {@link OmittableConversionListener} is configured, it is notified about each conversion of a wrapped value
+ * that is delegated to the conversion service.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class CachingOmittableConverter implements ConditionalGenericConverter {
+
+    private static final Set<ConvertiblePair> CONVERTIBLE_TYPES = Set.of(new ConvertiblePair(Object.class, Omittable.class));
+
+    private final ConversionService conversionService;
+    private final OmittableConverter fallback;
+    private final int maximumSize;
+    private final Map<CacheKey, TypeDescriptor> cache;
+    private final @Nullable OmittableConversionListener listener;
+
+    /**
+     * Creates a new converter.
+     *
+     * @param conversionService the conversion service that is used to convert wrapped values
+     * @param maximumSize       the maximum number of cached target types
+     *
+     * @since   2.1.0
+     */
+    public CachingOmittableConverter(ConversionService conversionService, int maximumSize) {
+        this(conversionService, maximumSize, null);
+    }
+
+    /**
+     * Creates a new converter.
+     *
+     * @param conversionService the conversion service that is used to convert wrapped values
+     * @param maximumSize       the maximum number of cached target types
+     * @param listener          the listener to notify about conversions, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    public CachingOmittableConverter(ConversionService conversionService, int maximumSize, @Nullable OmittableConversionListener listener) {
+        if (maximumSize < 0) throw new IllegalArgumentException("maximumSize must not be negative: " + maximumSize);
+
+        this.conversionService = conversionService;
+        this.fallback = new OmittableConverter(conversionService);
+        this.maximumSize = maximumSize;
+        this.cache = new ConcurrentHashMap<>();
+        this.listener = listener;
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return CONVERTIBLE_TYPES;
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return !(this.fallback instanceof ConditionalConverter conditionalConverter) || conditionalConverter.matches(sourceType, targetType);
+    }
+
+    @Override
+    public @Nullable Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null || source instanceof Omittable<?>) return this.fallback.convert(source, sourceType, targetType);
+
+        TypeDescriptor valueType = this.getValueType(targetType);
+
+        OmittableConversionListener listener = this.listener;
+        if (listener == null) return Omittable.of(this.conversionService.convert(source, sourceType, valueType));
+
+        long start = System.nanoTime();
+        Object value = this.conversionService.convert(source, sourceType, valueType);
+        listener.valueConverted(sourceType, valueType, System.nanoTime() - start);
+
+        return Omittable.of(value);
+    }
+
+    /**
+     * Removes all cached target types.
+     *
+     * @since   2.1.0
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * {@return the number of cached target types}
+     *
+     * @since   2.1.0
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    private TypeDescriptor getValueType(TypeDescriptor targetType) {
+        /*
+         * TypeDescriptor.hashCode() only hashes the raw type, so keying by the descriptor would put all Omittable
+         * target types into the same bin. The key is therefore derived from the generic type and the annotations.
+         */
+        ResolvableType resolvableType = targetType.getResolvableType();
+        CacheKey key = new CacheKey(resolvableType, targetType.getAnnotations());
+
+        TypeDescriptor valueType = this.cache.get(key);
+        if (valueType != null) return valueType;
+
+        ResolvableType valueResolvableType = resolvableType.getGeneric(0);
+        valueType = (valueResolvableType.resolve() != null)
+            ? new TypeDescriptor(valueResolvableType, null, targetType.getAnnotations())
+            : TypeDescriptor.valueOf(Object.class);
+
+        if (this.cache.size() < this.maximumSize) this.cache.putIfAbsent(key, valueType);
+        return valueType;
+    }
+
+    private record CacheKey(ResolvableType type, Annotation[] annotations) {
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof CacheKey key && this.type.equals(key.type) && Arrays.equals(this.annotations, key.annotations));
+        }
+
+        /*
+         * The annotations are only compared for equality. Their hash codes are computed reflectively on each call, and
+         * the generic type alone distributes the keys well enough.
+         */
+        @Override
+        public int hashCode() {
+            return this.type.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits the serialization of values to the properties of an {@link OmittableFieldSet}.
+ *
+ * <p>The selection is driven by an {@code Omittable} list of property paths, typically bound from a {@code fields}
+ * request parameter. If the paths are absent, values are returned unchanged and serialized without any filter. If the
+ * paths are present, values are wrapped such that they are serialized by a copy of the given {@code ObjectMapper} with
+ * an {@link OmittableFieldsFilter} for the parsed field set. Since the filter is only known to the copy, the
+ * serializers of the given mapper are unaffected.</p>
+ *
+ * <p>The selection respects the configuration of the enclosing serialization: An active serialization view (e.g. from
+ * {@code @JsonView}) is applied, and filters of the enclosing serialization remain available to beans that declare
+ * them explicitly.</p>
+ *
+ * <p>The writers for distinct field sets are cached. The cache is bounded. Once it is full, writers for further field
+ * sets are created for each selection.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFieldSelector {
+
+    /**
+     * The ID of the {@link OmittableFieldsFilter} that is applied to all beans without an explicit filter.
+     *
+     * @since   2.1.0
+     */
+    public static final String FILTER_ID = "omittableFields";
+
+    private final ObjectMapper filteringMapper;
+    private final int maximumSize;
+    private final Map<OmittableFieldSet, ObjectWriter> writers;
+
+    /**
+     * Creates a new selector.
+     *
+     * @param objectMapper  the mapper whose configuration is used to serialize selected values
+     * @param maximumSize   the maximum number of cached writers
+     *
+     * @throws IllegalArgumentException if the maximum size is negative
+     *
+     * @since   2.1.0
+     */
+    public OmittableFieldSelector(ObjectMapper objectMapper, int maximumSize) {
+        if (maximumSize < 0) throw new IllegalArgumentException("maximumSize must not be negative");
+
+        ObjectMapper filteringMapper = objectMapper.copy();
+        filteringMapper.setAnnotationIntrospector(AnnotationIntrospector.pair(
+            filteringMapper.getSerializationConfig().getAnnotationIntrospector(),
+            new FieldsAnnotationIntrospector()
+        ));
+
+        this.filteringMapper = filteringMapper;
+        this.maximumSize = maximumSize;
+        this.writers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@return the given value, or a wrapper that limits its serialization to the given fields if they are present}
+     *
+     * <p>The wrapper serializes the value into the generator of the enclosing serialization, so that the value is
+     * written in a single pass without an intermediate representation.</p>
+     *
+     * @param value     the value to serialize
+     * @param fields    the comma-separated lists of property paths to serialize
+     *
+     * @since   2.1.0
+     */
+    public Object select(Object value, Omittable<? extends Collection<String>> fields) {
+        if (!fields.isPresent()) return value;
+
+        Collection<String> paths = fields.orElseThrow();
+        if (paths == null) return value;
+
+        return new Selection(value, this.getWriter(OmittableFieldSet.parse(paths)));
+    }
+
+    /**
+     * {@return the writer that limits serialization to the given fields}
+     *
+     * @param fields    the properties to serialize
+     *
+     * @since   2.1.0
+     */
+    public ObjectWriter getWriter(OmittableFieldSet fields) {
+        ObjectWriter writer = this.writers.get(fields);
+        if (writer != null) return writer;
+
+        writer = this.filteringMapper.writer(new FieldsFilterProvider(new OmittableFieldsFilter(fields), null));
+        if (this.writers.size() < this.maximumSize) this.writers.putIfAbsent(fields, writer);
+
+        return writer;
+    }
+
+    /**
+     * {@return the number of cached writers}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedWriterCount() {
+        return this.writers.size();
+    }
+
+    /*
+     * Assigns the filter to all beans. This introspector is only consulted if the bean does not declare a filter.
+     */
+    private static final class FieldsAnnotationIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public @Nullable Object findFilterId(Annotated a) {
+            return (a instanceof AnnotatedClass) ? FILTER_ID : null;
+        }
+
+    }
+
+    /*
+     * Provides the fields filter for FILTER_ID and delegates all other IDs to the filters of the enclosing
+     * serialization, if any.
+     */
+    private static final class FieldsFilterProvider extends FilterProvider {
+
+        private final OmittableFieldsFilter filter;
+        private final @Nullable FilterProvider fallback;
+
+        private FieldsFilterProvider(OmittableFieldsFilter filter, @Nullable FilterProvider fallback) {
+            this.filter = filter;
+            this.fallback = fallback;
+        }
+
+        private FieldsFilterProvider withFallback(FilterProvider fallback) {
+            return new FieldsFilterProvider(this.filter, fallback);
+        }
+
+        @Override
+        @Deprecated
+        public BeanPropertyFilter findFilter(Object filterId) {
+            throw new UnsupportedOperationException("Access to deprecated filters not supported");
+        }
+
+        @Override
+        public PropertyFilter findPropertyFilter(Object filterId, @Nullable Object valueToFilter) {
+            if (FILTER_ID.equals(filterId)) return this.filter;
+            if (this.fallback == null) throw new IllegalArgumentException("No filter configured with id '" + filterId + "'");
+
+            return this.fallback.findPropertyFilter(filterId, valueToFilter);
+        }
+
+    }
+
+    private static final class Selection implements JsonSerializable {
+
+        private final Object value;
+        private final ObjectWriter writer;
+
+        private Selection(Object value, ObjectWriter writer) {
+            this.value = value;
+            this.writer = writer;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            ObjectWriter writer = this.writer;
+
+            Class<?> view = serializers.getActiveView();
+            if (view != null) writer = writer.withView(view);
+
+            FilterProvider filters = serializers.getFilterProvider();
+            if (filters != null && writer.getConfig().getFilterProvider() instanceof FieldsFilterProvider fieldsFilters) {
+                writer = writer.with(fieldsFilters.withFallback(filters));
+            }
+
+            writer.writeValue(gen, this.value);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+            this.serialize(gen, serializers);
+        }
+
+    }
+
+}
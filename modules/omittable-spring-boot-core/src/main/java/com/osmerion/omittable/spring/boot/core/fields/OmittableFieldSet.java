@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.fields;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A set of properties that are selected for serialization.
+ *
+ * <p>A field set is parsed from comma-separated lists of property paths. Nested properties are selected by paths whose
+ * segments are separated by {@code .}, such as {@code address.city}. Selecting a property selects all of its nested
+ * properties, unless nested properties are selected explicitly. The selection applies to each element of arrays.</p>
+ *
+ * <p>Field sets are immutable. Two field sets are equal if they select the same paths, regardless of the order in which
+ * the paths were given.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFieldSet {
+
+    /**
+     * {@return the field set that is parsed from the given comma-separated lists of property paths}
+     *
+     * <p>Blank paths are ignored.</p>
+     *
+     * @param values    the comma-separated lists of property paths
+     *
+     * @since   2.1.0
+     */
+    public static OmittableFieldSet parse(Collection<String> values) {
+        Set<String> paths = new TreeSet<>();
+
+        for (String value : values) {
+            for (String path : value.split(",")) {
+                path = path.trim();
+                if (!path.isEmpty()) paths.add(path);
+            }
+        }
+
+        return new OmittableFieldSet(paths);
+    }
+
+    private final Set<String> paths;
+    private final Node root;
+
+    private OmittableFieldSet(Set<String> paths) {
+        Node root = new Node();
+        for (String path : paths) root.add(path.split("\\."), 0);
+
+        this.paths = Collections.unmodifiableSet(paths);
+        this.root = root;
+    }
+
+    /**
+     * {@return the selected property paths in lexicographical order}
+     *
+     * @since   2.1.0
+     */
+    public Set<String> getPaths() {
+        return this.paths;
+    }
+
+    Node getRoot() {
+        return this.root;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof OmittableFieldSet other && this.paths.equals(other.paths));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.paths.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", this.paths);
+    }
+
+    /*
+     * A node of the selection tree. A node without children selects all nested properties.
+     */
+    static final class Node {
+
+        private @Nullable Map<String, Node> children = new HashMap<>();
+
+        private Node() {}
+
+        private void add(String[] segments, int index) {
+            if (this.children == null) return; // All nested properties are selected already.
+
+            if (index == segments.length) {
+                this.children = null;
+                return;
+            }
+
+            this.children.computeIfAbsent(segments[index], k -> new Node()).add(segments, index + 1);
+        }
+
+        boolean isAll() {
+            return this.children == null;
+        }
+
+        @Nullable Node getChild(String name) {
+            return (this.children != null) ? this.children.get(name) : this;
+        }
+
+    }
+
+}
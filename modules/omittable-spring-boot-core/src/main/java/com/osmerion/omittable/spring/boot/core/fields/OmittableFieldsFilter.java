@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link com.fasterxml.jackson.databind.ser.PropertyFilter PropertyFilter} that only serializes the properties of
+ * an {@link OmittableFieldSet}.
+ *
+ * <p>The position of a property is determined from the output context of the generator. Map entries are not filtered,
+ * but map keys may be used as path segments to select properties of beans in map values. Beans in map entries whose
+ * keys are not selected explicitly are serialized in full.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFieldsFilter extends SimpleBeanPropertyFilter {
+
+    private final OmittableFieldSet fields;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param fields    the properties to serialize
+     *
+     * @since   2.1.0
+     */
+    public OmittableFieldsFilter(OmittableFieldSet fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * {@return the properties that are serialized by this filter}
+     *
+     * @since   2.1.0
+     */
+    public OmittableFieldSet getFields() {
+        return this.fields;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer) throws Exception {
+        OmittableFieldSet.Node node = this.resolve(gen.getOutputContext());
+
+        if (node == null || node.getChild(writer.getName()) != null) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    /*
+     * Resolves the node of the selection tree for the object that is written in the given context. Arrays are skipped
+     * since the selection applies to their elements.
+     */
+    private OmittableFieldSet.@Nullable Node resolve(JsonStreamContext context) {
+        JsonStreamContext parent = context.getParent();
+        while (parent != null && parent.inArray()) parent = parent.getParent();
+
+        if (parent == null || parent.inRoot()) return this.fields.getRoot();
+
+        OmittableFieldSet.Node node = this.resolve(parent);
+        if (node == null || node.isAll()) return node;
+
+        String name = parent.getCurrentName();
+        return (name != null) ? node.getChild(name) : null;
+    }
+
+}
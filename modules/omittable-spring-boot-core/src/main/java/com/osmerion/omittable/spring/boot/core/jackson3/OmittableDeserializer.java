@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.jsontype.TypeDeserializer;
+
+/**
+ * A Jackson 3 deserializer for {@code Omittable} values.
+ *
+ * <p>Explicit {@code null} values are deserialized as present {@code Omittable}s that wrap {@code null}, while missing
+ * properties are deserialized as absent {@code Omittable}s.</p>
+ *
+ * <p>Like for {@code Optional}, polymorphic type information of the content type is resolved when the deserializer is
+ * contextualized and is applied to the wrapped value.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableDeserializer extends StdDeserializer<Omittable<?>> {
+
+    private final @Nullable JavaType contentType;
+    private final @Nullable TypeDeserializer contentTypeDeserializer;
+    private final @Nullable ValueDeserializer<Object> contentDeserializer;
+
+    OmittableDeserializer() {
+        this(null, null, null);
+    }
+
+    private OmittableDeserializer(
+        @Nullable JavaType contentType,
+        @Nullable TypeDeserializer contentTypeDeserializer,
+        @Nullable ValueDeserializer<Object> contentDeserializer
+    ) {
+        super(Omittable.class);
+        this.contentType = contentType;
+        this.contentTypeDeserializer = contentTypeDeserializer;
+        this.contentDeserializer = contentDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+        JavaType type = ctxt.getContextualType();
+        if (type == null && property != null) type = property.getType();
+
+        JavaType contentType = (type != null) ? type.containedTypeOrUnknown(0) : ctxt.constructType(Object.class);
+
+        TypeDeserializer contentTypeDeserializer = ctxt.findTypeDeserializer(contentType);
+        if (contentTypeDeserializer != null && property != null) contentTypeDeserializer = contentTypeDeserializer.forProperty(property);
+
+        return new OmittableDeserializer(contentType, contentTypeDeserializer, ctxt.findContextualValueDeserializer(contentType, property));
+    }
+
+    @Override
+    public Omittable<?> deserialize(JsonParser p, DeserializationContext ctxt) {
+        ValueDeserializer<Object> contentDeserializer = this.contentDeserializer;
+        if (contentDeserializer == null) return Omittable.of(ctxt.readValue(p, (this.contentType != null) ? this.contentType : ctxt.constructType(Object.class)));
+
+        TypeDeserializer contentTypeDeserializer = this.contentTypeDeserializer;
+        Object value = (contentTypeDeserializer != null)
+            ? contentDeserializer.deserializeWithType(p, ctxt, contentTypeDeserializer)
+            : contentDeserializer.deserialize(p, ctxt);
+
+        return Omittable.of(value);
+    }
+
+    @Override
+    public Omittable<?> deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) {
+        if (p.hasToken(JsonToken.VALUE_NULL)) return this.getNullValue(ctxt);
+
+        // Type information is written for the wrapped value, not for the Omittable itself.
+        return this.deserialize(p, ctxt);
+    }
+
+    @Override
+    public Omittable<?> getNullValue(DeserializationContext ctxt) {
+        return Omittable.of(null);
+    }
+
+    @Override
+    public Omittable<?> getAbsentValue(DeserializationContext ctxt) {
+        return Omittable.absent();
+    }
+
+    @Override
+    public Omittable<?> getEmptyValue(DeserializationContext ctxt) {
+        return Omittable.absent();
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jackson3;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for {@code Omittable} support in Jackson 3.
+ *
+ * <p>Spring Boot registers {@code JacksonModule} beans with the auto-configured {@code JsonMapper}. Applications that
+ * use Jackson 3 therefore do not need a Jackson 2 {@code ObjectMapper} for {@code Omittable} request and response
+ * bodies.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration
+@ConditionalOnClass(JsonMapper.class)
+public class OmittableJackson3AutoConfiguration {
+
+    public OmittableJackson3AutoConfiguration() {}
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OmittableJackson3Module omittableJackson3Module() {
+        return new OmittableJackson3Module();
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jackson3;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.osmerion.omittable.Omittable;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * A Jackson 3 module that adds support for {@code Omittable} types.
+ *
+ * <p>This module is the Jackson 3 counterpart to the {@code OmittableModule} for Jackson 2. Explicit {@code null}
+ * values are deserialized as present {@code Omittable}s that wrap {@code null}, and missing properties as absent
+ * {@code Omittable}s. Absent properties are omitted when serializing.</p>
+ *
+ * <p>The module is registered with the {@code JsonMapper} by the auto-configuration, and is also discoverable via
+ * {@code JsonMapper.builder().findAndAddModules()}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJackson3Module extends SimpleModule {
+
+    /**
+     * Creates a new module.
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public OmittableJackson3Module() {
+        super(OmittableJackson3Module.class.getSimpleName());
+
+        this.addDeserializer((Class) Omittable.class, new OmittableDeserializer());
+        this.addSerializer((Class) Omittable.class, new OmittableSerializer());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        context.configOverride(Omittable.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, JsonInclude.Include.USE_DEFAULTS));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * A Jackson 3 serializer for {@code Omittable} values.
+ *
+ * <p>Absent {@code Omittable}s are {@link #isEmpty(SerializationContext, Omittable) empty} and are omitted by the
+ * {@link OmittableJackson3Module}. Present {@code Omittable}s are serialized as their value.</p>
+ *
+ * <p>The serializer is contextualized for the declared type of the property. Like for {@code Optional}, the serializer
+ * for the value is resolved for the declared content type (including annotations of the property, such as
+ * {@code @JsonFormat}, and polymorphic type information) if the content type is final or static typing is enabled.
+ * Otherwise, the serializer is resolved for the runtime type of the value with the context of the property, and cached
+ * per runtime type.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class OmittableSerializer extends StdSerializer<Omittable<?>> {
+
+    private final @Nullable BeanProperty property;
+    private final @Nullable JavaType contentType;
+    private final @Nullable TypeSerializer contentTypeSerializer;
+    private final @Nullable ValueSerializer<Object> contentSerializer;
+
+    private PropertySerializerMap dynamicContentSerializers;
+
+    OmittableSerializer() {
+        this(null, null, null, null);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private OmittableSerializer(
+        @Nullable BeanProperty property,
+        @Nullable JavaType contentType,
+        @Nullable TypeSerializer contentTypeSerializer,
+        @Nullable ValueSerializer<Object> contentSerializer
+    ) {
+        super((Class) Omittable.class);
+        this.property = property;
+        this.contentType = contentType;
+        this.contentTypeSerializer = contentTypeSerializer;
+        this.contentSerializer = contentSerializer;
+        this.dynamicContentSerializers = PropertySerializerMap.emptyForProperties();
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, @Nullable BeanProperty property) {
+        JavaType type = (property != null) ? property.getType() : null;
+
+        // The declared type is only known for Omittable properties, but not for elements of containers, for example.
+        JavaType contentType = (type != null && type.hasRawClass(Omittable.class)) ? type.containedTypeOrUnknown(0) : null;
+        if (contentType == null || contentType.isJavaLangObject()) return new OmittableSerializer(property, null, null, null);
+
+        TypeSerializer contentTypeSerializer = ctxt.findTypeSerializer(contentType);
+        ValueSerializer<Object> contentSerializer = (contentType.isFinal() || ctxt.isEnabled(MapperFeature.USE_STATIC_TYPING))
+            ? ctxt.findContentValueSerializer(contentType, property)
+            : null;
+
+        return new OmittableSerializer(property, contentType, contentTypeSerializer, contentSerializer);
+    }
+
+    @Override
+    public void serialize(Omittable<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        Object content = value.isPresent() ? value.orElseThrow() : null;
+
+        if (content == null) {
+            gen.writeNull();
+            return;
+        }
+
+        ValueSerializer<Object> contentSerializer = this.contentSerializer;
+        if (contentSerializer == null) contentSerializer = this.findDynamicContentSerializer(ctxt, content.getClass());
+
+        TypeSerializer contentTypeSerializer = this.contentTypeSerializer;
+        if (contentTypeSerializer != null) {
+            contentSerializer.serializeWithType(content, gen, ctxt, contentTypeSerializer);
+        } else {
+            contentSerializer.serialize(content, gen, ctxt);
+        }
+    }
+
+    private ValueSerializer<Object> findDynamicContentSerializer(SerializationContext ctxt, Class<?> type) {
+        ValueSerializer<Object> serializer = this.dynamicContentSerializers.serializerFor(type);
+        if (serializer != null) return serializer;
+
+        JavaType contentType = this.contentType;
+        PropertySerializerMap.SerializerAndMapResult result = (contentType != null && contentType.hasGenericTypes())
+            ? this.dynamicContentSerializers.findAndAddSecondarySerializer(ctxt.constructSpecializedType(contentType, type), ctxt, this.property)
+            : this.dynamicContentSerializers.findAndAddSecondarySerializer(type, ctxt, this.property);
+
+        this.dynamicContentSerializers = result.map;
+        return result.serializer;
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Omittable<?> value) {
+        return !value.isPresent();
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A JFR event that is emitted when an {@code Omittable} field of a request body was deserialized.
+ *
+ * @author  Leon Linhart
+ */
+@Name("omittable.BodyFieldDeserialized")
+@Label("Omittable Body Field Deserialized")
+@Description("An Omittable field of a request body was deserialized")
+@Category("Omittable")
+@StackTrace(false)
+final class BodyFieldDeserializedEvent extends Event {
+
+    @Label("Field")
+    @Nullable String field;
+
+    @Label("Outcome")
+    @Nullable String outcome;
+
+    @Label("Deserialization Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long deserializationDuration;
+
+}
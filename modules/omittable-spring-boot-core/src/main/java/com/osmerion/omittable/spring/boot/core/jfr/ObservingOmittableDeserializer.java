@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jfr;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A deserializer for {@code Omittable} values that emits {@code omittable.BodyFieldDeserialized} events.
+ *
+ * @author  Leon Linhart
+ */
+final class ObservingOmittableDeserializer extends DelegatingDeserializer {
+
+    private final long thresholdNanos;
+
+    ObservingOmittableDeserializer(JsonDeserializer<?> delegate, long thresholdNanos) {
+        super(delegate);
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new ObservingOmittableDeserializer(newDelegatee, this.thresholdNanos);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        BodyFieldDeserializedEvent event = new BodyFieldDeserializedEvent();
+        if (!event.isEnabled()) return super.deserialize(p, ctxt);
+
+        String field = p.currentName();
+        long start = System.nanoTime();
+        Object value = super.deserialize(p, ctxt);
+
+        this.commit(event, field, value, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public @Nullable Object getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+        Object value = super.getNullValue(ctxt);
+
+        // The null value is also requested for missing creator properties. Only explicit nulls are reported.
+        JsonParser p = ctxt.getParser();
+        if (p != null && p.currentToken() == JsonToken.VALUE_NULL) {
+            BodyFieldDeserializedEvent event = new BodyFieldDeserializedEvent();
+            if (event.isEnabled()) this.commit(event, p.currentName(), value, 0L);
+        }
+
+        return value;
+    }
+
+    private void commit(BodyFieldDeserializedEvent event, @Nullable String field, @Nullable Object value, long durationNanos) {
+        if (durationNanos < this.thresholdNanos) return;
+
+        event.field = field;
+        event.outcome = (value instanceof Omittable<?> omittable && omittable.isPresent() && omittable.orElseThrow() != null) ? "PRESENT" : "NULL";
+        event.deserializationDuration = durationNanos;
+        event.commit();
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osmerion.omittable.spring.boot.core.OmittableProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for JDK Flight Recorder events of {@code Omittable} types.
+ *
+ * <p>Events are only emitted if {@code omittable.jfr.enabled} is set to {@code true}. Otherwise, no listeners are
+ * registered and the instrumented code paths are skipped entirely.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration
+@ConditionalOnClass(name = "jdk.jfr.Event")
+@ConditionalOnBooleanProperty("omittable.jfr.enabled")
+@EnableConfigurationProperties(OmittableProperties.class)
+public class OmittableFlightRecorderAutoConfiguration {
+
+    public OmittableFlightRecorderAutoConfiguration() {}
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OmittableFlightRecorderListener omittableFlightRecorderListener(OmittableProperties properties) {
+        OmittableProperties.Jfr jfr = properties.getJfr();
+        return new OmittableFlightRecorderListener(jfr.getParameterThreshold(), jfr.getConversionThreshold());
+    }
+
+    @Configuration
+    @ConditionalOnClass(ObjectMapper.class)
+    public static class OmittableFlightRecorderJacksonConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public OmittableFlightRecorderModule omittableFlightRecorderModule(OmittableProperties properties) {
+            return new OmittableFlightRecorderModule(properties.getJfr().getBodyFieldThreshold());
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jfr;
+
+import com.osmerion.omittable.spring.boot.core.observation.OmittableConversionListener;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableParameterListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.time.Duration;
+
+/**
+ * A listener that emits JDK Flight Recorder events for the resolution of {@code Omittable} request parameters and the
+ * conversion of their values.
+ *
+ * <p>The {@code omittable.ParameterResolved} event is emitted for resolved parameters and failed conversions, and the
+ * {@code omittable.ValueConverted} event is emitted for converted values. Events are only emitted if they are enabled
+ * in the active recording and if the measured duration is at least the configured threshold.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFlightRecorderListener implements OmittableParameterListener, OmittableConversionListener {
+
+    private final long parameterThresholdNanos;
+    private final long conversionThresholdNanos;
+
+    /**
+     * Creates a new listener.
+     *
+     * @param parameterThreshold    the minimum resolution duration of parameters for which events are emitted
+     * @param conversionThreshold   the minimum conversion duration of values for which events are emitted
+     *
+     * @since   2.1.0
+     */
+    public OmittableFlightRecorderListener(Duration parameterThreshold, Duration conversionThreshold) {
+        this.parameterThresholdNanos = parameterThreshold.toNanos();
+        this.conversionThresholdNanos = conversionThreshold.toNanos();
+    }
+
+    @Override
+    public void parameterResolved(MethodParameter parameter, String name, Outcome outcome, long resolutionNanos, long conversionNanos) {
+        if (resolutionNanos < this.parameterThresholdNanos) return;
+
+        ParameterResolvedEvent event = new ParameterResolvedEvent();
+        if (!event.isEnabled()) return;
+
+        event.handler = handler(parameter);
+        event.parameter = name;
+        event.outcome = outcome.name();
+        event.resolutionDuration = resolutionNanos;
+        event.conversionDuration = conversionNanos;
+        event.commit();
+    }
+
+    @Override
+    public void conversionFailed(MethodParameter parameter, String name, Throwable failure) {
+        ParameterResolvedEvent event = new ParameterResolvedEvent();
+        if (!event.isEnabled()) return;
+
+        event.handler = handler(parameter);
+        event.parameter = name;
+        event.outcome = "FAILED";
+        event.conversionDuration = -1;
+        event.failure = failure.getClass().getName();
+        event.commit();
+    }
+
+    @Override
+    public void valueConverted(TypeDescriptor sourceType, TypeDescriptor valueType, long conversionNanos) {
+        if (conversionNanos < this.conversionThresholdNanos) return;
+
+        ValueConvertedEvent event = new ValueConvertedEvent();
+        if (!event.isEnabled()) return;
+
+        event.sourceType = sourceType.toString();
+        event.valueType = valueType.toString();
+        event.conversionDuration = conversionNanos;
+        event.commit();
+    }
+
+    private static String handler(MethodParameter parameter) {
+        return parameter.getContainingClass().getName() + "#" + parameter.getExecutable().getName();
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jfr;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.ReferenceType;
+import com.osmerion.omittable.Omittable;
+
+import java.time.Duration;
+
+/**
+ * A Jackson module that emits {@code omittable.BodyFieldDeserialized} JDK Flight Recorder events when {@code Omittable}
+ * fields are deserialized.
+ *
+ * <p>This module decorates the deserializers that are provided by the {@code OmittableModule} and must be registered in
+ * addition to it. Events are only emitted for fields that are present in the input, if the event is enabled in the
+ * active recording and if the measured duration is at least the configured threshold.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFlightRecorderModule extends SimpleModule {
+
+    /**
+     * Creates a new module.
+     *
+     * @param threshold the minimum deserialization duration of fields for which events are emitted
+     *
+     * @since   2.1.0
+     */
+    public OmittableFlightRecorderModule(Duration threshold) {
+        super(OmittableFlightRecorderModule.class.getSimpleName());
+
+        long thresholdNanos = threshold.toNanos();
+
+        this.setDeserializerModifier(new BeanDeserializerModifier() {
+
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+                return Omittable.class.equals(beanDesc.getBeanClass()) ? new ObservingOmittableDeserializer(deserializer, thresholdNanos) : deserializer;
+            }
+
+            @Override
+            public JsonDeserializer<?> modifyReferenceDeserializer(DeserializationConfig config, ReferenceType type, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+                return Omittable.class.equals(type.getRawClass()) ? new ObservingOmittableDeserializer(deserializer, thresholdNanos) : deserializer;
+            }
+
+        });
+    }
+
+}
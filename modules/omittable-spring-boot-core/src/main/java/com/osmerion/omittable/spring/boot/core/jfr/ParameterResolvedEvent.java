@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A JFR event that is emitted when an {@code Omittable} request parameter was resolved.
+ *
+ * @author  Leon Linhart
+ */
+@Name("omittable.ParameterResolved")
+@Label("Omittable Parameter Resolved")
+@Description("An Omittable request parameter was resolved")
+@Category("Omittable")
+@StackTrace(false)
+final class ParameterResolvedEvent extends Event {
+
+    @Label("Handler")
+    @Nullable String handler;
+
+    @Label("Parameter")
+    @Nullable String parameter;
+
+    @Label("Outcome")
+    @Nullable String outcome;
+
+    @Label("Resolution Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long resolutionDuration;
+
+    @Label("Conversion Duration")
+    @Description("The time spent converting the value, or -1 if it was not measured separately")
+    @Timespan(Timespan.NANOSECONDS)
+    long conversionDuration;
+
+    @Label("Failure")
+    @Nullable String failure;
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.lazy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A value that is deserialized on first access.
+ *
+ * <p>Declaring a field as {@code Omittable<LazyValue<List<Item>>>} records the presence of the field as soon as the
+ * request body is read, while the elements are only buffered as tokens and bound when {@link #get()} is called for the
+ * first time. Handlers that reject or route a request based on other fields never pay for binding large values.</p>
+ *
+ * <p>Lazy values are deserialized by the {@link LazyValueModule}. Binding errors in the buffered tokens are reported
+ * when the value is first accessed instead of when the request body is read, as a {@link LazyValueBindingException}
+ * that results in a {@code 400 Bad Request} response. Buffered values are bound with the configuration of the
+ * {@code ObjectMapper} that read them, but without the state of the original deserialization context (such as
+ * attributes or the active view).</p>
+ *
+ * <p>Lazy values are thread-safe. They use identity equality, since comparing them would require materializing
+ * them.</p>
+ *
+ * @param <T>   the type of the value
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class LazyValue<T> {
+
+    /**
+     * {@return a lazy value that is already materialized}
+     *
+     * @param <T>   the type of the value
+     * @param value the value
+     *
+     * @since   2.1.0
+     */
+    public static <T> LazyValue<T> of(T value) {
+        return new LazyValue<>(Objects.requireNonNull(value), null, null);
+    }
+
+    private volatile @Nullable Materializer<T> materializer;
+    private volatile @Nullable Object source;
+    private @Nullable T value;
+
+    LazyValue(@Nullable T value, @Nullable Materializer<T> materializer, @Nullable Object source) {
+        this.value = value;
+        this.materializer = materializer;
+        this.source = source;
+    }
+
+    /**
+     * {@return the value, deserializing it if it was not accessed before}
+     *
+     * @throws LazyValueBindingException if the buffered value cannot be deserialized
+     *
+     * @since   2.1.0
+     */
+    public T get() {
+        if (this.materializer == null) return this.value;
+
+        synchronized (this) {
+            Materializer<T> materializer = this.materializer;
+            if (materializer == null) return this.value;
+
+            try {
+                this.value = materializer.materialize();
+            } catch (IOException e) {
+                throw new LazyValueBindingException("Failed to deserialize lazy value", e);
+            }
+
+            this.source = null;
+            this.materializer = null;
+
+            return this.value;
+        }
+    }
+
+    /**
+     * {@return whether the value was deserialized}
+     *
+     * @since   2.1.0
+     */
+    public boolean isMaterialized() {
+        return this.materializer == null;
+    }
+
+    /**
+     * {@return the buffered representation of the value, or {@code null} if the value was already materialized}
+     */
+    @Nullable Object getSource() {
+        return this.source;
+    }
+
+    @Override
+    public String toString() {
+        return this.isMaterialized() ? "LazyValue[" + this.value + "]" : "LazyValue[<unmaterialized>]";
+    }
+
+    @FunctionalInterface
+    interface Materializer<T> {
+
+        T materialize() throws IOException;
+
+    }
+
+}
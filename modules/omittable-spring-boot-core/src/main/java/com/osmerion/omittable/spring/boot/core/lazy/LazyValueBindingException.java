@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.lazy;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+
+/**
+ * Thrown if the buffered representation of a {@link LazyValue} cannot be deserialized.
+ *
+ * <p>Since lazy values are bound from request bodies, a failure to deserialize them is caused by invalid client input.
+ * Thus, this exception is reported as {@code 400 Bad Request} by Spring MVC and Spring WebFlux, like binding errors
+ * that occur when the request body is read.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "Failed to read request")
+public final class LazyValueBindingException extends UncheckedIOException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message   the detail message
+     * @param cause     the cause of the failure
+     *
+     * @since   2.1.0
+     */
+    public LazyValueBindingException(String message, IOException cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.lazy;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A deserializer for {@link LazyValue lazy values} that buffers the tokens of the value.
+ *
+ * @author  Leon Linhart
+ */
+final class LazyValueDeserializer extends StdDeserializer<LazyValue<?>> implements ContextualDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final @Nullable JavaType valueType;
+
+    LazyValueDeserializer(@Nullable JavaType valueType) {
+        super(LazyValue.class);
+        this.valueType = valueType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+        JavaType type = ctxt.getContextualType();
+        if (type == null && property != null) type = property.getType();
+
+        // The contextual type may be the type of an enclosing reference type (such as Omittable).
+        while (type != null && !LazyValue.class.equals(type.getRawClass())) type = type.getContentType();
+
+        return new LazyValueDeserializer((type != null) ? type.containedTypeOrUnknown(0) : ctxt.constructType(Object.class));
+    }
+
+    @Override
+    public LazyValue<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JavaType valueType = (this.valueType != null) ? this.valueType : ctxt.constructType(Object.class);
+        ObjectCodec codec = p.getCodec();
+
+        if (codec == null) {
+            Object value = ctxt.readValue(p, valueType);
+            return new LazyValue<>(value, null, null);
+        }
+
+        TokenBuffer buffer = ctxt.bufferAsCopyOfValue(p);
+        return new LazyValue<>(null, () -> {
+            try (JsonParser parser = buffer.asParser(codec)) {
+                return codec.readValue(parser, valueType);
+            }
+        }, buffer);
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.lazy;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * A Jackson module that adds support for {@link LazyValue lazy values}.
+ *
+ * <p>Lazy deserialization is opt-in per field: only fields that are declared as {@code LazyValue} (for example,
+ * {@code Omittable<LazyValue<List<Item>>>}) are buffered. All other fields are deserialized as usual.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class LazyValueModule extends SimpleModule {
+
+    /**
+     * Creates a new module.
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public LazyValueModule() {
+        super(LazyValueModule.class.getSimpleName());
+
+        this.addDeserializer((Class) LazyValue.class, new LazyValueDeserializer(null));
+        this.addSerializer(new LazyValueSerializer());
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.lazy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+
+/**
+ * A serializer for {@link LazyValue lazy values}.
+ *
+ * <p>Values that were not materialized yet are written by replaying their buffered tokens.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class LazyValueSerializer extends StdSerializer<LazyValue<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    LazyValueSerializer() {
+        super((Class) LazyValue.class);
+    }
+
+    @Override
+    public void serialize(LazyValue<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value.getSource() instanceof TokenBuffer buffer) {
+            buffer.serialize(gen);
+        } else {
+            provider.defaultSerializeValue(value.get(), gen);
+        }
+    }
+
+}
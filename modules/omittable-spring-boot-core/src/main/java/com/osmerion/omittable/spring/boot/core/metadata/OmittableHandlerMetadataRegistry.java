@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.metadata;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable registry of {@link OmittableParameterMetadata} for handler methods.
+ *
+ * <p>The registry is typically populated by code that is generated during ahead-of-time processing. A handler method
+ * that is known to the registry has all its {@code Omittable} request parameters described by the registered
+ * metadata. Handler methods that are not known to the registry must be inspected at runtime.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableHandlerMetadataRegistry {
+
+    /**
+     * The name of the bean that the registry is registered as.
+     *
+     * @since   2.1.0
+     */
+    public static final String BEAN_NAME = "omittableHandlerMetadataRegistry";
+
+    /**
+     * {@return a new builder for a registry}
+     *
+     * @since   2.1.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Map<MethodKey, List<OmittableParameterMetadata>> parameters;
+
+    private OmittableHandlerMetadataRegistry(Map<MethodKey, List<OmittableParameterMetadata>> parameters) {
+        this.parameters = Map.copyOf(parameters);
+    }
+
+    /**
+     * Returns the metadata of the {@code Omittable} parameters of the given handler method, or {@code null} if the
+     * method is not known to this registry.
+     *
+     * @param method    the handler method
+     *
+     * @return  the metadata of the {@code Omittable} parameters of the handler method, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    public @Nullable List<OmittableParameterMetadata> getParameters(Method method) {
+        if (this.parameters.isEmpty()) return null;
+        return this.parameters.get(MethodKey.of(method));
+    }
+
+    /**
+     * {@return the number of handler methods known to this registry}
+     *
+     * @since   2.1.0
+     */
+    public int size() {
+        return this.parameters.size();
+    }
+
+    /**
+     * A builder for an {@link OmittableHandlerMetadataRegistry}.
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder {
+
+        private final Map<MethodKey, List<OmittableParameterMetadata>> parameters = new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * Registers the metadata for a handler method.
+         *
+         * @param className             the binary name of the class that declares the handler method
+         * @param methodName            the name of the handler method
+         * @param parameterTypeNames    the binary names of the parameter types of the handler method
+         * @param parameters            the metadata of the {@code Omittable} parameters of the handler method
+         *
+         * @return  this builder
+         *
+         * @since   2.1.0
+         */
+        public Builder add(String className, String methodName, String[] parameterTypeNames, OmittableParameterMetadata... parameters) {
+            this.parameters.put(new MethodKey(className, methodName, List.of(parameterTypeNames)), List.of(parameters));
+            return this;
+        }
+
+        /**
+         * {@return a registry with the metadata that was registered with this builder}
+         *
+         * @since   2.1.0
+         */
+        public OmittableHandlerMetadataRegistry build() {
+            return new OmittableHandlerMetadataRegistry(this.parameters);
+        }
+
+    }
+
+    private record MethodKey(String className, String methodName, List<String> parameterTypeNames) {
+
+        static MethodKey of(Method method) {
+            return new MethodKey(
+                method.getDeclaringClass().getName(),
+                method.getName(),
+                Arrays.stream(method.getParameterTypes()).map(Class::getName).toList()
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.metadata;
+
+/**
+ * Precomputed metadata of a handler method parameter that is bound to an {@code Omittable} request parameter.
+ *
+ * <p>The type of the value that is wrapped by the {@code Omittable} is not part of the metadata. It is resolved from
+ * the handler method parameter, so that generics and annotations (e.g. {@code @DateTimeFormat}) are taken into
+ * account.</p>
+ *
+ * @param parameterIndex    the index of the parameter
+ * @param name              the name of the request parameter
+ * @param reactive          whether the {@code Omittable} is wrapped in a reactive type (e.g. {@code Mono})
+ * @param hasDefaultValue   whether a default value is declared for the request parameter
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public record OmittableParameterMetadata(
+    int parameterIndex,
+    String name,
+    boolean reactive,
+    boolean hasDefaultValue
+) {}
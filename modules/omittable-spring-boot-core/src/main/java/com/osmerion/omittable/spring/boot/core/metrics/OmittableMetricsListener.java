@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.metrics;
+
+import com.osmerion.omittable.spring.boot.core.observation.OmittableParameterListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.MethodParameter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link OmittableParameterListener} that records metrics for {@code Omittable} request parameters.
+ *
+ * <p>The following meters are recorded, each tagged with the {@code endpoint} (the simple name of the controller and
+ * the name of the handler method) and the name of the request {@code parameter}:</p>
+ *
+ * <ul>
+ * <li>{@value #OUTCOMES} counts the resolved parameters by their {@code outcome} ({@code absent}, {@code null}, or
+ * {@code present}).</li>
+ * <li>{@value #RESOLUTION} times the resolution of the parameters.</li>
+ * <li>{@value #CONVERSION} times the conversion of the parameter values, if it is measured separately.</li>
+ * <li>{@value #CONVERSION_FAILURES} counts failed conversions by their {@code exception}.</li>
+ * </ul>
+ *
+ * <p>The number of distinct {@code endpoint} tag values is bounded. Once the limit is reached, further endpoints are
+ * recorded with the tag value {@value #OTHER_ENDPOINT}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableMetricsListener implements OmittableParameterListener {
+
+    /**
+     * The name of the counter for the outcomes of the resolution.
+     *
+     * @since   2.1.0
+     */
+    public static final String OUTCOMES = "omittable.parameter.outcomes";
+
+    /**
+     * The name of the timer for the resolution.
+     *
+     * @since   2.1.0
+     */
+    public static final String RESOLUTION = "omittable.parameter.resolution";
+
+    /**
+     * The name of the timer for the conversion.
+     *
+     * @since   2.1.0
+     */
+    public static final String CONVERSION = "omittable.parameter.conversion";
+
+    /**
+     * The name of the counter for conversion failures.
+     *
+     * @since   2.1.0
+     */
+    public static final String CONVERSION_FAILURES = "omittable.parameter.conversion.failures";
+
+    /**
+     * The {@code endpoint} tag value that is used once the maximum number of endpoint tags is reached.
+     *
+     * @since   2.1.0
+     */
+    public static final String OTHER_ENDPOINT = "OTHER";
+
+    private final MeterRegistry registry;
+    private final int maxEndpointTags;
+
+    private final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+    private final Map<MethodParameter, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new listener.
+     *
+     * @param registry          the registry to record the metrics in
+     * @param maxEndpointTags   the maximum number of distinct {@code endpoint} tag values
+     *
+     * @since   2.1.0
+     */
+    public OmittableMetricsListener(MeterRegistry registry, int maxEndpointTags) {
+        if (maxEndpointTags < 0) throw new IllegalArgumentException("maxEndpointTags must not be negative: " + maxEndpointTags);
+
+        this.registry = registry;
+        this.maxEndpointTags = maxEndpointTags;
+    }
+
+    @Override
+    public void parameterResolved(MethodParameter parameter, String name, Outcome outcome, long resolutionNanos, long conversionNanos) {
+        Meters meters = this.getMeters(parameter, name);
+        meters.outcome(outcome).increment();
+        meters.resolution().record(resolutionNanos, TimeUnit.NANOSECONDS);
+
+        if (conversionNanos >= 0) meters.conversion().record(conversionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void conversionFailed(MethodParameter parameter, String name, Throwable failure) {
+        Meters meters = this.getMeters(parameter, name);
+
+        Counter.builder(CONVERSION_FAILURES)
+            .description("The number of Omittable request parameters that could not be converted")
+            .tags(meters.tags())
+            .tag("exception", failure.getClass().getSimpleName())
+            .register(this.registry)
+            .increment();
+    }
+
+    private Meters getMeters(MethodParameter parameter, String name) {
+        Meters meters = this.meters.get(parameter);
+        if (meters != null) return meters;
+
+        return this.meters.computeIfAbsent(parameter, key -> this.createMeters(key, name));
+    }
+
+    private Meters createMeters(MethodParameter parameter, String name) {
+        Tags tags = Tags.of("endpoint", this.endpointTag(parameter), "parameter", name);
+
+        return new Meters(
+            tags,
+            this.outcomeCounter(tags, "absent"),
+            this.outcomeCounter(tags, "null"),
+            this.outcomeCounter(tags, "present"),
+            Timer.builder(RESOLUTION)
+                .description("The time spent resolving Omittable request parameters")
+                .tags(tags)
+                .register(this.registry),
+            Timer.builder(CONVERSION)
+                .description("The time spent converting the values of Omittable request parameters")
+                .tags(tags)
+                .register(this.registry)
+        );
+    }
+
+    private Counter outcomeCounter(Tags tags, String outcome) {
+        return Counter.builder(OUTCOMES)
+            .description("The number of resolved Omittable request parameters by outcome")
+            .tags(tags)
+            .tag("outcome", outcome)
+            .register(this.registry);
+    }
+
+    private String endpointTag(MethodParameter parameter) {
+        String endpoint = parameter.getContainingClass().getSimpleName() + "#" + parameter.getExecutable().getName();
+        if (this.endpoints.contains(endpoint)) return endpoint;
+
+        synchronized (this.endpoints) {
+            if (this.endpoints.size() >= this.maxEndpointTags) return OTHER_ENDPOINT;
+
+            this.endpoints.add(endpoint);
+            return endpoint;
+        }
+    }
+
+    private record Meters(Tags tags, Counter absent, Counter nil, Counter present, Timer resolution, Timer conversion) {
+
+        Counter outcome(Outcome outcome) {
+            return switch (outcome) {
+                case ABSENT -> this.absent;
+                case NULL -> this.nil;
+                case PRESENT -> this.present;
+            };
+        }
+
+    }
+
+}
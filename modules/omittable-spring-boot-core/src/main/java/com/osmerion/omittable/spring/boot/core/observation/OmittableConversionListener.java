@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.observation;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
+
+/**
+ * A listener that is notified about the conversion of values that are wrapped in {@code Omittable} types.
+ *
+ * <p>Listeners are invoked on the request path. Implementations must be thread-safe and should return quickly.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@FunctionalInterface
+public interface OmittableConversionListener {
+
+    /**
+     * Returns a listener that notifies all given listeners, or {@code null} if no listeners are given.
+     *
+     * @param listeners the listeners to notify
+     *
+     * @return  a listener that notifies all given listeners, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    static @Nullable OmittableConversionListener of(List<? extends OmittableConversionListener> listeners) {
+        return switch (listeners.size()) {
+            case 0 -> null;
+            case 1 -> listeners.get(0);
+            default -> {
+                OmittableConversionListener[] delegates = listeners.toArray(OmittableConversionListener[]::new);
+
+                yield (sourceType, valueType, conversionNanos) -> {
+                    for (OmittableConversionListener delegate : delegates) {
+                        delegate.valueConverted(sourceType, valueType, conversionNanos);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Invoked after a value was converted to the type that is wrapped by an {@code Omittable}.
+     *
+     * @param sourceType        the type of the source value
+     * @param valueType         the type of the converted value
+     * @param conversionNanos   the time that was spent converting the value in nanoseconds
+     *
+     * @since   2.1.0
+     */
+    void valueConverted(TypeDescriptor sourceType, TypeDescriptor valueType, long conversionNanos);
+
+}
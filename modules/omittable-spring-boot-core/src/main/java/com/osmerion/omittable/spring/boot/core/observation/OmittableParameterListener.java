@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.observation;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+
+import java.util.List;
+
+/**
+ * A listener that is notified about the resolution of {@code Omittable} request parameters.
+ *
+ * <p>Listeners are invoked on the request path. Implementations must be thread-safe and should return quickly.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public interface OmittableParameterListener {
+
+    /**
+     * Returns a listener that notifies all given listeners, or {@code null} if no listeners are given.
+     *
+     * @param listeners the listeners to notify
+     *
+     * @return  a listener that notifies all given listeners, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    static @Nullable OmittableParameterListener of(List<? extends OmittableParameterListener> listeners) {
+        return switch (listeners.size()) {
+            case 0 -> null;
+            case 1 -> listeners.get(0);
+            default -> {
+                OmittableParameterListener[] delegates = listeners.toArray(OmittableParameterListener[]::new);
+
+                yield new OmittableParameterListener() {
+
+                    @Override
+                    public void parameterResolved(MethodParameter parameter, String name, Outcome outcome, long resolutionNanos, long conversionNanos) {
+                        for (OmittableParameterListener delegate : delegates) {
+                            delegate.parameterResolved(parameter, name, outcome, resolutionNanos, conversionNanos);
+                        }
+                    }
+
+                    @Override
+                    public void conversionFailed(MethodParameter parameter, String name, Throwable failure) {
+                        for (OmittableParameterListener delegate : delegates) {
+                            delegate.conversionFailed(parameter, name, failure);
+                        }
+                    }
+
+                };
+            }
+        };
+    }
+
+    /**
+     * Invoked after an {@code Omittable} request parameter was resolved.
+     *
+     * @param parameter         the handler method parameter
+     * @param name              the name of the request parameter
+     * @param outcome           the outcome of the resolution
+     * @param resolutionNanos   the time that was spent resolving the parameter in nanoseconds
+     * @param conversionNanos   the time that was spent converting the value in nanoseconds, or {@code -1} if no
+     *                          conversion was performed or if it was not measured separately
+     *
+     * @since   2.1.0
+     */
+    default void parameterResolved(MethodParameter parameter, String name, Outcome outcome, long resolutionNanos, long conversionNanos) {}
+
+    /**
+     * Invoked when the value of an {@code Omittable} request parameter could not be converted.
+     *
+     * @param parameter the handler method parameter
+     * @param name      the name of the request parameter
+     * @param failure   the exception that caused the failure
+     *
+     * @since   2.1.0
+     */
+    default void conversionFailed(MethodParameter parameter, String name, Throwable failure) {}
+
+    /**
+     * The outcome of the resolution of an {@code Omittable} request parameter.
+     *
+     * @since   2.1.0
+     */
+    enum Outcome {
+        /** The request parameter was not sent. */
+        ABSENT,
+        /** The request parameter was sent without a value. */
+        NULL,
+        /** The request parameter was sent with a value. */
+        PRESENT;
+
+        /**
+         * {@return the outcome for the given resolved value}
+         *
+         * @param value the resolved value
+         *
+         * @since   2.1.0
+         */
+        public static Outcome of(Omittable<?> value) {
+            if (!value.isPresent()) return ABSENT;
+            return value.orElseThrow() == null ? NULL : PRESENT;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests the generation of a compact {@link OmittablePatch} implementation for the annotated interface or record by
+ * the {@code omittable-spring-boot-processor} annotation processor.
+ *
+ * <p>All abstract methods of an annotated interface and all components of an annotated record must be of type
+ * {@code Omittable}, and there may be at most {@value OmittableRecordType#MAX_OMITTABLE_COMPONENTS} of them. The
+ * generated class stores the presence of the properties in a {@code long} bitmask and their values in plain fields,
+ * using primitive fields for boxed primitive types. It implements the annotated interface, or provides a
+ * {@code toRecord()} method for annotated records.</p>
+ *
+ * <p>If Jackson is available during annotation processing, a deserializer is generated as well. Generated
+ * implementations of interfaces are recorded in an index that is read by the {@code OmittablePatchModule}, which maps
+ * the interfaces to their implementations.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateOmittablePatch {
+
+    /**
+     * The simple name of the generated class.
+     *
+     * <p>By default, the generated class is named after the annotated type with a {@code Patch} suffix. For nested
+     * types, the names of the enclosing types are joined with {@code _}.</p>
+     *
+     * @return  the simple name of the generated class
+     *
+     * @since   2.1.0
+     */
+    String name() default "";
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Copies the present {@code Omittable} components of a record onto a target object.
+ *
+ * <p>For each {@code Omittable} component {@code name} of the record, the target type must declare a public instance
+ * method with a single parameter that accepts the wrapped value. Methods are looked up in the following order:</p>
+ *
+ * <ol>
+ * <li>{@code setName}, for mutable targets. If the setter returns an instance of the target type, the returned
+ *     instance is used as target for the remaining components.</li>
+ * <li>{@code withName}, for immutable targets. The returned instance is used as target for the remaining
+ *     components.</li>
+ * <li>{@code name}, for builders. The returned instance is used as target for the remaining components.</li>
+ * </ol>
+ *
+ * <p>A present component that wraps {@code null} is passed to the method as {@code null}, unless the parameter of the
+ * method is primitive, in which case the record is rejected. Components that are not
+ * {@code Omittable} are ignored. The methods are resolved and linked once when the applier
+ * is created. Where possible, they are bound to functional interfaces using the {@link LambdaMetafactory}, so that
+ * applying a record does not involve reflection. Appliers should be reused (see
+ * {@link OmittableApplierRegistry}).</p>
+ *
+ * <p>Appliers are thread-safe.</p>
+ *
+ * @param <S>   the type of the record
+ * @param <T>   the type of the target
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableApplier<S extends Record, T> {
+
+    private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType BI_FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    /**
+     * Creates a new applier that copies the present {@code Omittable} components of records of the given type onto
+     * instances of the given target type.
+     *
+     * @param <S>           the type of the record
+     * @param <T>           the type of the target
+     * @param sourceType    the type of the record
+     * @param targetType    the type of the target
+     *
+     * @return  a new applier
+     *
+     * @throws IllegalArgumentException if the source type is not a supported record type, or if the target type does
+     *                                  not declare a suitable method for an {@code Omittable} component
+     *
+     * @since   2.1.0
+     */
+    public static <S extends Record, T> OmittableApplier<S, T> of(Class<S> sourceType, Class<T> targetType) {
+        OmittableRecordType<S> recordType = OmittableRecordType.of(sourceType);
+        List<Writer> writers = new ArrayList<>(recordType.getOmittableComponents().size());
+        long primitiveMask = 0L;
+
+        for (OmittableRecordType.Component component : recordType.getOmittableComponents()) {
+            Method method = findMethod(targetType, component);
+            if (method == null) {
+                throw new IllegalArgumentException("Target type " + targetType.getName() + " has no method to apply component '" + component + "' of type " + component.getValueType().getName());
+            }
+
+            if (method.getParameterTypes()[0].isPrimitive()) primitiveMask |= component.getMask();
+            writers.add(new Writer(component, method, link(targetType, method)));
+        }
+
+        return new OmittableApplier<>(recordType, targetType, writers.toArray(new Writer[0]), primitiveMask);
+    }
+
+    private static @Nullable Method findMethod(Class<?> targetType, OmittableRecordType.Component component) {
+        String capitalizedName = StringUtils.capitalize(component.getName());
+
+        Method method = findMethod(targetType, "set" + capitalizedName, component.getValueType(), null);
+        if (method == null) method = findMethod(targetType, "with" + capitalizedName, component.getValueType(), targetType);
+        if (method == null) method = findMethod(targetType, component.getName(), component.getValueType(), targetType);
+
+        return method;
+    }
+
+    private static @Nullable Method findMethod(Class<?> targetType, String name, Class<?> valueType, @Nullable Class<?> returnType) {
+        Method candidate = null;
+
+        for (Method method : targetType.getMethods()) {
+            if (!method.getName().equals(name) || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) continue;
+            if (returnType != null && !returnType.isAssignableFrom(method.getReturnType())) continue;
+
+            Class<?> parameterType = method.getParameterTypes()[0];
+            if (!ClassUtils.isAssignable(parameterType, valueType)) continue;
+
+            // Prefer the most specific overload.
+            if (candidate == null || ClassUtils.isAssignable(candidate.getParameterTypes()[0], parameterType)) candidate = method;
+        }
+
+        return candidate;
+    }
+
+    private static BiFunction<Object, Object, Object> link(Class<?> targetType, Method method) {
+        boolean fluent = targetType.isAssignableFrom(method.getReturnType());
+        MethodHandle handle;
+
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access method: " + method, e);
+        }
+
+        try {
+            return bind(method, handle, fluent);
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            /*
+             * The LambdaMetafactory requires a lookup with private access to the declaring class of the method, which
+             * is not available if the class is in a module that is not open to this library. In that case, the
+             * method handle is invoked directly.
+             */
+            return invoker(method, handle, fluent);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiFunction<Object, Object, Object> bind(Method method, MethodHandle handle, boolean fluent) throws IllegalAccessException, LambdaConversionException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        MethodType instantiatedType = handle.type().wrap().changeReturnType(fluent ? handle.type().returnType() : void.class);
+
+        CallSite callSite = LambdaMetafactory.metafactory(
+            lookup,
+            fluent ? "apply" : "accept",
+            MethodType.methodType(fluent ? BiFunction.class : BiConsumer.class),
+            fluent ? BI_FUNCTION_TYPE : BI_CONSUMER_TYPE,
+            handle,
+            instantiatedType
+        );
+
+        Object function;
+
+        try {
+            function = callSite.getTarget().invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to link method: " + method, t);
+        }
+
+        if (fluent) return (BiFunction<Object, Object, Object>) function;
+
+        BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) function;
+        return (target, value) -> {
+            consumer.accept(target, value);
+            return target;
+        };
+    }
+
+    private static BiFunction<Object, Object, Object> invoker(Method method, MethodHandle handle, boolean fluent) {
+        MethodHandle genericHandle = handle.asType(fluent ? BI_FUNCTION_TYPE : BI_CONSUMER_TYPE);
+
+        return (target, value) -> {
+            try {
+                if (fluent) return (Object) genericHandle.invokeExact(target, value);
+
+                genericHandle.invokeExact(target, value);
+                return target;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to invoke method: " + method, t);
+            }
+        };
+    }
+
+    private final OmittableRecordType<S> recordType;
+    private final Class<T> targetType;
+    private final Writer[] writers;
+    private final long primitiveMask;
+
+    private OmittableApplier(OmittableRecordType<S> recordType, Class<T> targetType, Writer[] writers, long primitiveMask) {
+        this.recordType = recordType;
+        this.targetType = targetType;
+        this.writers = writers;
+        this.primitiveMask = primitiveMask;
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<S> getRecordType() {
+        return this.recordType;
+    }
+
+    /**
+     * {@return the type of the target}
+     *
+     * @since   2.1.0
+     */
+    public Class<T> getTargetType() {
+        return this.targetType;
+    }
+
+    /**
+     * Copies the present {@code Omittable} components of the given record onto the given target.
+     *
+     * @param source    the record
+     * @param target    the target
+     *
+     * @return  the target, or the last instance that was returned by a fluent method of the target
+     *
+     * @throws IllegalArgumentException if a present component wraps {@code null} but the method it is applied with
+     *                                  has a primitive parameter. In that case, no component is applied.
+     *
+     * @since   2.1.0
+     */
+    public T apply(S source, T target) {
+        long presenceMask = this.recordType.getPresenceMask(source);
+        if (presenceMask == 0L) return target;
+
+        if ((presenceMask & this.primitiveMask) != 0L) {
+            long nullMask = this.recordType.getNullMask(source) & this.primitiveMask;
+
+            if (nullMask != 0L) {
+                for (Writer writer : this.writers) {
+                    if ((nullMask & writer.component.getMask()) != 0L) {
+                        throw new IllegalArgumentException("Cannot apply null component '" + writer.component + "' to primitive parameter of method: " + writer.method);
+                    }
+                }
+            }
+        }
+
+        Object result = target;
+        for (Writer writer : this.writers) {
+            if ((presenceMask & writer.component.getMask()) != 0L) result = writer.function.apply(result, writer.component.getValue(source));
+        }
+
+        return this.targetType.cast(result);
+    }
+
+    private record Writer(OmittableRecordType.Component component, Method method, BiFunction<Object, Object, Object> function) {}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link OmittableApplier appliers} that creates the applier for each pair of record and target type
+ * once and reuses it for subsequent lookups.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableApplierRegistry {
+
+    private final Map<ApplierKey, OmittableApplier<?, ?>> appliers = new ConcurrentHashMap<>();
+
+    public OmittableApplierRegistry() {}
+
+    /**
+     * {@return the applier for the given record and target type}
+     *
+     * @param <S>           the type of the record
+     * @param <T>           the type of the target
+     * @param sourceType    the type of the record
+     * @param targetType    the type of the target
+     *
+     * @throws IllegalArgumentException if no applier can be created for the given types
+     *
+     * @see OmittableApplier#of(Class, Class)
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends Record, T> OmittableApplier<S, T> getApplier(Class<S> sourceType, Class<T> targetType) {
+        return (OmittableApplier<S, T>) this.appliers.computeIfAbsent(new ApplierKey(sourceType, targetType), key -> OmittableApplier.of(sourceType, targetType));
+    }
+
+    /**
+     * Copies the present {@code Omittable} components of the given record onto the given target.
+     *
+     * <p>The applier is looked up for the runtime types of the given record and target.</p>
+     *
+     * @param <S>       the type of the record
+     * @param <T>       the type of the target
+     * @param source    the record
+     * @param target    the target
+     *
+     * @return  the target, or the last instance that was returned by a fluent method of the target
+     *
+     * @see OmittableApplier#apply(Record, Object)
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends Record, T> T apply(S source, T target) {
+        return this.getApplier((Class<S>) source.getClass(), (Class<T>) target.getClass()).apply(source, target);
+    }
+
+    /**
+     * {@return the number of cached appliers}
+     *
+     * @since   2.1.0
+     */
+    public int size() {
+        return this.appliers.size();
+    }
+
+    private record ApplierKey(Class<?> sourceType, Class<?> targetType) {}
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * The SQL queries for filters that are described by records with {@code Omittable} components.
+ *
+ * <p>The {@code WHERE} clause of the query for a record only restricts the columns of the present {@code Omittable}
+ * components and of the components that are not {@code Omittable}. A present component that wraps {@code null}
+ * restricts the column to {@code NULL}, while an absent component does not restrict the column at all. All other
+ * restrictions compare the column for equality with a bind parameter. Restrictions are combined with {@code AND}.</p>
+ *
+ * <p>Statements are cached per combination of {@link OmittableRecordType#getPresenceMask(Record) presence mask} and
+ * {@link OmittableRecordType#getNullMask(Record) null mask}, so that the number of distinct statements that is sent to
+ * the database is bounded by the shape of the filter instead of its values. The cache is bounded. Once it is full,
+ * statements for further masks are created without caching.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFilterStatements<T extends Record> {
+
+    /**
+     * The default maximum number of cached statements.
+     *
+     * @since   2.1.0
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+
+    /**
+     * Creates a new builder for the statements of the given record type.
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param query the query that is filtered, up to but excluding the {@code WHERE} clause (for example,
+     *              {@code SELECT * FROM person})
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given type is not a supported record type
+     *
+     * @since   2.1.0
+     */
+    public static <T extends Record> Builder<T> builder(Class<T> type, String query) {
+        return new Builder<>(OmittableRecordType.of(type), query);
+    }
+
+    private final OmittableRecordType<T> recordType;
+    private final String query;
+    private final @Nullable String suffix;
+    private final List<Column> fixedColumns;
+    private final List<Column> omittableColumns;
+    private final IntFunction<String> bindMarkers;
+    private final int statementCacheSize;
+    private final Map<Shape, Statement> statements;
+
+    private OmittableFilterStatements(Builder<T> builder) {
+        this.recordType = builder.recordType;
+        this.query = builder.query;
+        this.suffix = builder.suffix;
+        this.bindMarkers = builder.bindMarkers;
+        this.statementCacheSize = builder.statementCacheSize;
+        this.statements = new ConcurrentHashMap<>();
+
+        List<Column> fixedColumns = new ArrayList<>();
+        List<Column> omittableColumns = new ArrayList<>();
+
+        for (OmittableRecordType.Component component : this.recordType.getComponents()) {
+            Column column = new Column(component, builder.columnNames.getOrDefault(component.getName(), OmittableUpdateStatements.toColumnName(component.getName())));
+            (component.isOmittable() ? omittableColumns : fixedColumns).add(column);
+        }
+
+        this.fixedColumns = List.copyOf(fixedColumns);
+        this.omittableColumns = List.copyOf(omittableColumns);
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.recordType;
+    }
+
+    /**
+     * {@return the number of cached statements}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedStatementCount() {
+        return this.statements.size();
+    }
+
+    /**
+     * {@return the statement for the given filter}
+     *
+     * @param filter    the filter
+     *
+     * @since   2.1.0
+     */
+    public Statement getStatement(T filter) {
+        return this.getStatement(this.recordType.getPresenceMask(filter), this.recordType.getNullMask(filter));
+    }
+
+    /**
+     * {@return the statement for the given presence and null mask}
+     *
+     * @param presenceMask  the presence mask
+     * @param nullMask      the null mask
+     *
+     * @throws IllegalArgumentException if the null mask is not a subset of the presence mask
+     *
+     * @since   2.1.0
+     */
+    public Statement getStatement(long presenceMask, long nullMask) {
+        if ((nullMask & ~presenceMask) != 0L) throw new IllegalArgumentException("Null mask " + Long.toBinaryString(nullMask) + " is not a subset of presence mask " + Long.toBinaryString(presenceMask));
+
+        Shape shape = new Shape(presenceMask, nullMask);
+        Statement statement = this.statements.get(shape);
+        if (statement != null) return statement;
+
+        statement = this.createStatement(presenceMask, nullMask);
+        if (this.statements.size() < this.statementCacheSize) {
+            Statement existing = this.statements.putIfAbsent(shape, statement);
+            if (existing != null) statement = existing;
+        }
+
+        return statement;
+    }
+
+    private Statement createStatement(long presenceMask, long nullMask) {
+        List<OmittableRecordType.Component> parameters = new ArrayList<>();
+        StringBuilder predicate = new StringBuilder();
+
+        for (Column column : this.fixedColumns) {
+            if (!predicate.isEmpty()) predicate.append(" AND ");
+
+            predicate.append(column.name).append(" = ").append(this.bindMarkers.apply(parameters.size()));
+            parameters.add(column.component);
+        }
+
+        for (Column column : this.omittableColumns) {
+            long mask = column.component.getMask();
+            if ((presenceMask & mask) == 0L) continue;
+
+            if (!predicate.isEmpty()) predicate.append(" AND ");
+
+            if ((nullMask & mask) != 0L) {
+                predicate.append(column.name).append(" IS NULL");
+            } else {
+                predicate.append(column.name).append(" = ").append(this.bindMarkers.apply(parameters.size()));
+                parameters.add(column.component);
+            }
+        }
+
+        StringBuilder sql = new StringBuilder(this.query);
+        if (!predicate.isEmpty()) sql.append(" WHERE ").append(predicate);
+        if (this.suffix != null) sql.append(' ').append(this.suffix);
+
+        return new Statement(sql.toString(), predicate.toString(), parameters.toArray(new OmittableRecordType.Component[0]));
+    }
+
+    private record Column(OmittableRecordType.Component component, String name) {}
+
+    private record Shape(long presenceMask, long nullMask) {}
+
+    /**
+     * A filtered query for a combination of presence and null mask.
+     *
+     * @since   2.1.0
+     */
+    public static final class Statement {
+
+        private final String sql;
+        private final String predicate;
+        private final OmittableRecordType.Component[] parameters;
+
+        private Statement(String sql, String predicate, OmittableRecordType.Component[] parameters) {
+            this.sql = sql;
+            this.predicate = predicate;
+            this.parameters = parameters;
+        }
+
+        /**
+         * {@return the SQL of the statement}
+         *
+         * @since   2.1.0
+         */
+        public String getSql() {
+            return this.sql;
+        }
+
+        /**
+         * {@return the condition of the {@code WHERE} clause of the statement, or an empty string if the query is not
+         * restricted}
+         *
+         * @since   2.1.0
+         */
+        public String getPredicate() {
+            return this.predicate;
+        }
+
+        /**
+         * {@return the components that are bound to the parameters of the statement in order}
+         *
+         * @since   2.1.0
+         */
+        public List<OmittableRecordType.Component> getParameters() {
+            return Collections.unmodifiableList(Arrays.asList(this.parameters));
+        }
+
+        /**
+         * {@return the arguments of the statement for the given record}
+         *
+         * @param record    the record
+         *
+         * @since   2.1.0
+         */
+        public @Nullable Object[] getArguments(Record record) {
+            @Nullable Object[] arguments = new Object[this.parameters.length];
+            for (int i = 0; i < this.parameters.length; i++) arguments[i] = this.parameters[i].getValue(record);
+
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            return this.sql;
+        }
+
+    }
+
+    /**
+     * A builder for {@link OmittableFilterStatements}.
+     *
+     * <p>By default, the names of the columns are derived from the names of the components by converting them from
+     * camel case to snake case, {@code ?} is used as bind marker, and nothing is appended to the query.</p>
+     *
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<T extends Record> {
+
+        private final OmittableRecordType<T> recordType;
+        private final String query;
+        private final Map<String, String> columnNames = new HashMap<>();
+        private @Nullable String suffix;
+        private IntFunction<String> bindMarkers = index -> "?";
+        private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+
+        private Builder(OmittableRecordType<T> recordType, String query) {
+            this.recordType = recordType;
+            this.query = query;
+        }
+
+        /**
+         * Sets the name of the column for the given component.
+         *
+         * @param component the name of the component
+         * @param column    the name of the column
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> column(String component, String column) {
+            if (this.recordType.getComponent(component) == null) throw new IllegalArgumentException("No component '" + component + "' in record type: " + this.recordType.getType().getName());
+            this.columnNames.put(component, column);
+
+            return this;
+        }
+
+        /**
+         * Sets the SQL that is appended to the query after the {@code WHERE} clause (for example, an {@code ORDER BY}
+         * clause).
+         *
+         * @param suffix    the SQL to append, or {@code null} to append nothing
+         *
+         * @return  this builder
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> suffix(@Nullable String suffix) {
+            this.suffix = suffix;
+            return this;
+        }
+
+        /**
+         * Sets the function that creates the bind marker for the parameter with the given zero-based index.
+         *
+         * @param bindMarkers   the function that creates bind markers
+         *
+         * @return  this builder
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> bindMarkers(IntFunction<String> bindMarkers) {
+            this.bindMarkers = bindMarkers;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached statements.
+         *
+         * <p>A value of zero disables the cache.</p>
+         *
+         * @param statementCacheSize    the maximum number of cached statements
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is negative
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) throw new IllegalArgumentException("statementCacheSize must not be negative: " + statementCacheSize);
+            this.statementCacheSize = statementCacheSize;
+
+            return this;
+        }
+
+        /**
+         * {@return new statements}
+         *
+         * @since   2.1.0
+         */
+        public OmittableFilterStatements<T> build() {
+            return new OmittableFilterStatements<>(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+/**
+ * A partial update that tracks the presence of its properties in a bitmask.
+ *
+ * <p>Implementations are generated for types that are annotated with {@link GenerateOmittablePatch}. Each property is
+ * represented by a bit in the presence mask in declaration order.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public interface OmittablePatch {
+
+    /**
+     * The location of the index of generated implementations of interfaces that are annotated with
+     * {@link GenerateOmittablePatch}.
+     *
+     * <p>Each line of the index has the form {@code interface=implementation}, where both are binary class names.</p>
+     *
+     * @since   2.1.0
+     */
+    String INDEX_LOCATION = "META-INF/omittable/patch-types";
+
+    /**
+     * {@return the presence mask of this patch}
+     *
+     * @since   2.1.0
+     */
+    long getPresenceMask();
+
+}
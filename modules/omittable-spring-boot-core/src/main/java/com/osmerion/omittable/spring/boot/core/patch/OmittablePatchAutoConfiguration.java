@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for partial updates with {@code Omittable} records and generated
+ * {@link OmittablePatch patches}.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration
+public class OmittablePatchAutoConfiguration {
+
+    public OmittablePatchAutoConfiguration() {}
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OmittableApplierRegistry omittableApplierRegistry() {
+        return new OmittableApplierRegistry();
+    }
+
+    @Configuration
+    @ConditionalOnClass(ObjectMapper.class)
+    public static class OmittablePatchJacksonConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public OmittablePatchModule omittablePatchModule() {
+            return new OmittablePatchModule();
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+/**
+ * A Jackson module that maps interfaces that are annotated with {@link GenerateOmittablePatch} to their generated
+ * implementations.
+ *
+ * <p>The mappings are read from all {@linkplain OmittablePatch#INDEX_LOCATION indices} that are visible to the class
+ * loader. The generated implementations provide their own deserializers.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePatchModule extends SimpleModule {
+
+    /**
+     * Creates a new module that reads the indices using the default class loader.
+     *
+     * @since   2.1.0
+     */
+    public OmittablePatchModule() {
+        this(ClassUtils.getDefaultClassLoader());
+    }
+
+    /**
+     * Creates a new module that reads the indices using the given class loader.
+     *
+     * @param classLoader   the class loader to read the indices and to load the types with
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public OmittablePatchModule(@Nullable ClassLoader classLoader) {
+        super(OmittablePatchModule.class.getSimpleName());
+
+        ClassLoader loader = (classLoader != null) ? classLoader : OmittablePatchModule.class.getClassLoader();
+
+        try {
+            Enumeration<URL> indices = loader.getResources(OmittablePatch.INDEX_LOCATION);
+            while (indices.hasMoreElements()) {
+                URL index = indices.nextElement();
+
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (line.isEmpty() || line.startsWith("#")) continue;
+
+                        int separator = line.indexOf('=');
+                        if (separator < 0) throw new IllegalStateException("Malformed entry in " + index + ": " + line);
+
+                        Class type = ClassUtils.forName(line.substring(0, separator).trim(), loader);
+                        Class implementation = ClassUtils.forName(line.substring(separator + 1).trim(), loader);
+
+                        this.addAbstractTypeMapping(type, implementation);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + OmittablePatch.INDEX_LOCATION, e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to load patch type from " + OmittablePatch.INDEX_LOCATION, e);
+        }
+    }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The structure of a record that describes a partial update with {@code Omittable} components.
+ *
+ * <p>Each {@code Omittable} component is assigned a bit in a presence mask. The presence mask of a record instance has
+ * the bits of all present components set and thus identifies the shape of the update. Since the mask is a
+ * {@code long}, a record may have at most {@value #MAX_OMITTABLE_COMPONENTS} {@code Omittable} components.</p>
+ *
+ * <p>The accessors of the components are resolved once per record type and invoked through method handles.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRecordType<T extends Record> {
+
+    /**
+     * The maximum number of {@code Omittable} components of a record.
+     *
+     * @since   2.1.0
+     */
+    public static final int MAX_OMITTABLE_COMPONENTS = Long.SIZE;
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<OmittableRecordType<?>> TYPES = new ClassValue<>() {
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        protected OmittableRecordType<?> computeValue(Class<?> type) {
+            return new OmittableRecordType(type.asSubclass(Record.class));
+        }
+
+    };
+
+    /**
+     * {@return the structure of the given record type}
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     *
+     * @throws IllegalArgumentException if the given type is not a record or if it has more than
+     *                                  {@value #MAX_OMITTABLE_COMPONENTS} {@code Omittable} components
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> OmittableRecordType<T> of(Class<T> type) {
+        if (!type.isRecord()) throw new IllegalArgumentException("Not a record type: " + type.getName());
+        return (OmittableRecordType<T>) TYPES.get(type);
+    }
+
+    private final Class<T> type;
+    private final List<Component> components;
+    private final List<Component> omittableComponents;
+
+    private OmittableRecordType(Class<T> type) {
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        List<Component> components = new ArrayList<>(recordComponents.length);
+        List<Component> omittableComponents = new ArrayList<>();
+
+        for (int i = 0; i < recordComponents.length; i++) {
+            RecordComponent recordComponent = recordComponents[i];
+            boolean omittable = recordComponent.getType() == Omittable.class;
+
+            if (omittable && omittableComponents.size() == MAX_OMITTABLE_COMPONENTS) {
+                throw new IllegalArgumentException("Record type " + type.getName() + " has more than " + MAX_OMITTABLE_COMPONENTS + " Omittable components");
+            }
+
+            Class<?> valueType = omittable
+                ? ResolvableType.forType(recordComponent.getGenericType()).getGeneric(0).toClass()
+                : recordComponent.getType();
+
+            Component component = new Component(recordComponent.getName(), i, omittable ? omittableComponents.size() : -1, valueType, accessor(recordComponent));
+            components.add(component);
+            if (omittable) omittableComponents.add(component);
+        }
+
+        this.type = type;
+        this.components = Collections.unmodifiableList(components);
+        this.omittableComponents = Collections.unmodifiableList(omittableComponents);
+    }
+
+    private static MethodHandle accessor(RecordComponent recordComponent) {
+        Method method = recordComponent.getAccessor();
+        ReflectionUtils.makeAccessible(method);
+
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access record component: " + method, e);
+        }
+    }
+
+    /**
+     * {@return the type of the record}
+     *
+     * @since   2.1.0
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * {@return the components of the record in declaration order}
+     *
+     * @since   2.1.0
+     */
+    public List<Component> getComponents() {
+        return this.components;
+    }
+
+    /**
+     * {@return the {@code Omittable} components of the record in declaration order}
+     *
+     * <p>The component at index {@code i} is represented by bit {@code i} of a presence mask.</p>
+     *
+     * @since   2.1.0
+     */
+    public List<Component> getOmittableComponents() {
+        return this.omittableComponents;
+    }
+
+    /**
+     * {@return the component with the given name, or {@code null} if there is no such component}
+     *
+     * @param name  the name of the component
+     *
+     * @since   2.1.0
+     */
+    public @Nullable Component getComponent(String name) {
+        for (Component component : this.components) {
+            if (component.getName().equals(name)) return component;
+        }
+
+        return null;
+    }
+
+    /**
+     * {@return the presence mask of the given record}
+     *
+     * @param record    the record
+     *
+     * @since   2.1.0
+     */
+    public long getPresenceMask(T record) {
+        long mask = 0L;
+
+        for (Component component : this.omittableComponents) {
+            Omittable<?> value = (Omittable<?>) component.getRawValue(record);
+            if (value != null && value.isPresent()) mask |= component.getMask();
+        }
+
+        return mask;
+    }
+
+    /**
+     * {@return the null mask of the given record}
+     *
+     * <p>The null mask has the {@link Component#getBit() bit} of each present {@code Omittable} component that wraps
+     * {@code null} set. It is always a subset of the {@link #getPresenceMask(Record) presence mask}.</p>
+     *
+     * @param record    the record
+     *
+     * @since   2.1.0
+     */
+    public long getNullMask(T record) {
+        long mask = 0L;
+
+        for (Component component : this.omittableComponents) {
+            Omittable<?> value = (Omittable<?>) component.getRawValue(record);
+            if (value != null && value.isPresent() && value.orElseThrow() == null) mask |= component.getMask();
+        }
+
+        return mask;
+    }
+
+    /**
+     * The component of a record.
+     *
+     * @since   2.1.0
+     */
+    public static final class Component {
+
+        private final String name;
+        private final int index;
+        private final int bit;
+        private final Class<?> valueType;
+        private final MethodHandle accessor;
+
+        private Component(String name, int index, int bit, Class<?> valueType, MethodHandle accessor) {
+            this.name = name;
+            this.index = index;
+            this.bit = bit;
+            this.valueType = valueType;
+            this.accessor = accessor;
+        }
+
+        /**
+         * {@return the name of the component}
+         *
+         * @since   2.1.0
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * {@return the index of the component in the record}
+         *
+         * @since   2.1.0
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * {@return whether the component is an {@code Omittable}}
+         *
+         * @since   2.1.0
+         */
+        public boolean isOmittable() {
+            return this.bit >= 0;
+        }
+
+        /**
+         * {@return the bit of the component in a presence mask, or {@code -1} if the component is not an
+         * {@code Omittable}}
+         *
+         * @since   2.1.0
+         */
+        public int getBit() {
+            return this.bit;
+        }
+
+        /**
+         * {@return the presence mask with only the bit of this component set, or {@code 0} if the component is not an
+         * {@code Omittable}}
+         *
+         * @since   2.1.0
+         */
+        public long getMask() {
+            return (this.bit >= 0) ? (1L << this.bit) : 0L;
+        }
+
+        /**
+         * {@return the type of the value of the component}
+         *
+         * <p>For {@code Omittable} components, this is the type of the wrapped value.</p>
+         *
+         * @since   2.1.0
+         */
+        public Class<?> getValueType() {
+            return this.valueType;
+        }
+
+        /**
+         * {@return the value of the component of the given record}
+         *
+         * <p>For {@code Omittable} components, the wrapped value is returned. The component must be present.</p>
+         *
+         * @param record    the record
+         *
+         * @throws java.util.NoSuchElementException if the component is an absent {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public @Nullable Object getValue(Record record) {
+            Object value = this.getRawValue(record);
+            return (this.bit >= 0 && value != null) ? ((Omittable<?>) value).orElseThrow() : value;
+        }
+
+        private @Nullable Object getRawValue(Record record) {
+            try {
+                return (Object) this.accessor.invokeExact((Object) record);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read record component: " + this.name, t);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+
+    }
+
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.patch;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * The SQL {@code UPDATE} statements for partial updates that are described by records with {@code Omittable}
+ * components.
+ *
+ * <p>The statement for a record only assigns the columns of the present {@code Omittable} components and of the
+ * non-key components that are not {@code Omittable}. A present component that wraps {@code null} sets the column to
+ * {@code NULL}, while an absent component leaves the column untouched. The key components identify the row in the
+ * {@code WHERE} clause.</p>
+ *
+ * <p>Statements are cached per {@link OmittableRecordType#getPresenceMask(Record) presence mask}. The cache is bounded.
+ * Once it is full, statements for further masks are created without caching.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableUpdateStatements<T extends Record> {
+
+    /**
+     * The default maximum number of cached statements.
+     *
+     * @since   2.1.0
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+
+    /**
+     * Creates a new builder for the statements of the given record type.
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param table the name of the table to update
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given type is not a supported record type
+     *
+     * @since   2.1.0
+     */
+    public static <T extends Record> Builder<T> builder(Class<T> type, String table) {
+        return new Builder<>(OmittableRecordType.of(type), table);
+    }
+
+    private final OmittableRecordType<T> recordType;
+    private final String table;
+    private final List<Column> keyColumns;
+    private final List<Column> fixedColumns;
+    private final List<Column> omittableColumns;
+    private final IntFunction<String> bindMarkers;
+    private final int statementCacheSize;
+    private final Map<Long, Statement> statements;
+
+    private OmittableUpdateStatements(Builder<T> builder, Set<String> keys) {
+        this.recordType = builder.recordType;
+        this.table = builder.table;
+        this.bindMarkers = builder.bindMarkers;
+        this.statementCacheSize = builder.statementCacheSize;
+        this.statements = new ConcurrentHashMap<>();
+
+        List<Column> keyColumns = new ArrayList<>();
+        List<Column> fixedColumns = new ArrayList<>();
+        List<Column> omittableColumns = new ArrayList<>();
+
+        for (OmittableRecordType.Component component : this.recordType.getComponents()) {
+            Column column = new Column(component, builder.columnNames.getOrDefault(component.getName(), toColumnName(component.getName())));
+
+            if (keys.contains(component.getName())) {
+                keyColumns.add(column);
+            } else if (component.isOmittable()) {
+                omittableColumns.add(column);
+            } else {
+                fixedColumns.add(column);
+            }
+        }
+
+        this.keyColumns = List.copyOf(keyColumns);
+        this.fixedColumns = List.copyOf(fixedColumns);
+        this.omittableColumns = List.copyOf(omittableColumns);
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.recordType;
+    }
+
+    /**
+     * {@return the name of the updated table}
+     *
+     * @since   2.1.0
+     */
+    public String getTable() {
+        return this.table;
+    }
+
+    /**
+     * {@return the number of cached statements}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedStatementCount() {
+        return this.statements.size();
+    }
+
+    /**
+     * {@return the statement for the given presence mask, or {@code null} if no column would be assigned}
+     *
+     * @param presenceMask  the presence mask
+     *
+     * @since   2.1.0
+     */
+    public @Nullable Statement getStatement(long presenceMask) {
+        Statement statement = this.statements.get(presenceMask);
+        if (statement != null) return statement;
+
+        statement = this.createStatement(presenceMask);
+        if (statement != null && this.statements.size() < this.statementCacheSize) {
+            Statement existing = this.statements.putIfAbsent(presenceMask, statement);
+            if (existing != null) statement = existing;
+        }
+
+        return statement;
+    }
+
+    private @Nullable Statement createStatement(long presenceMask) {
+        List<Column> assignedColumns = new ArrayList<>(this.fixedColumns);
+        for (Column column : this.omittableColumns) {
+            if ((presenceMask & column.component.getMask()) != 0L) assignedColumns.add(column);
+        }
+
+        if (assignedColumns.isEmpty()) return null;
+
+        List<OmittableRecordType.Component> parameters = new ArrayList<>(assignedColumns.size() + this.keyColumns.size());
+        StringBuilder sql = new StringBuilder("UPDATE ").append(this.table).append(" SET ");
+
+        for (int i = 0; i < assignedColumns.size(); i++) {
+            Column column = assignedColumns.get(i);
+            if (i > 0) sql.append(", ");
+
+            sql.append(column.name).append(" = ").append(this.bindMarkers.apply(parameters.size()));
+            parameters.add(column.component);
+        }
+
+        sql.append(" WHERE ");
+        for (int i = 0; i < this.keyColumns.size(); i++) {
+            Column column = this.keyColumns.get(i);
+            if (i > 0) sql.append(" AND ");
+
+            sql.append(column.name).append(" = ").append(this.bindMarkers.apply(parameters.size()));
+            parameters.add(column.component);
+        }
+
+        return new Statement(sql.toString(), parameters.toArray(new OmittableRecordType.Component[0]));
+    }
+
+    static String toColumnName(String componentName) {
+        StringBuilder columnName = new StringBuilder(componentName.length() + 4);
+
+        for (int i = 0; i < componentName.length(); i++) {
+            char c = componentName.charAt(i);
+
+            if (Character.isUpperCase(c)) {
+                if (i > 0) columnName.append('_');
+                columnName.append(Character.toLowerCase(c));
+            } else {
+                columnName.append(c);
+            }
+        }
+
+        return columnName.toString();
+    }
+
+    private record Column(OmittableRecordType.Component component, String name) {}
+
+    /**
+     * An {@code UPDATE} statement for a presence mask.
+     *
+     * @since   2.1.0
+     */
+    public static final class Statement {
+
+        private final String sql;
+        private final OmittableRecordType.Component[] parameters;
+
+        private Statement(String sql, OmittableRecordType.Component[] parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        /**
+         * {@return the SQL of the statement}
+         *
+         * @since   2.1.0
+         */
+        public String getSql() {
+            return this.sql;
+        }
+
+        /**
+         * {@return the components that are bound to the parameters of the statement in order}
+         *
+         * @since   2.1.0
+         */
+        public List<OmittableRecordType.Component> getParameters() {
+            return Collections.unmodifiableList(Arrays.asList(this.parameters));
+        }
+
+        /**
+         * {@return the arguments of the statement for the given record}
+         *
+         * @param record    the record
+         *
+         * @since   2.1.0
+         */
+        public @Nullable Object[] getArguments(Record record) {
+            @Nullable Object[] arguments = new Object[this.parameters.length];
+            for (int i = 0; i < this.parameters.length; i++) arguments[i] = this.parameters[i].getValue(record);
+
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            return this.sql;
+        }
+
+    }
+
+    /**
+     * A builder for {@link OmittableUpdateStatements}.
+     *
+     * <p>By default, the components that are not {@code Omittable} are used as keys, the names of the columns are
+     * derived from the names of the components by converting them from camel case to snake case, and {@code ?} is
+     * used as bind marker.</p>
+     *
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<T extends Record> {
+
+        private final OmittableRecordType<T> recordType;
+        private final String table;
+        private final Map<String, String> columnNames = new HashMap<>();
+        private final Set<String> keys = new LinkedHashSet<>();
+        private IntFunction<String> bindMarkers = index -> "?";
+        private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+
+        private Builder(OmittableRecordType<T> recordType, String table) {
+            this.recordType = recordType;
+            this.table = table;
+        }
+
+        /**
+         * Sets the name of the column for the given component.
+         *
+         * @param component the name of the component
+         * @param column    the name of the column
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> column(String component, String column) {
+            this.requireComponent(component);
+            this.columnNames.put(component, column);
+
+            return this;
+        }
+
+        /**
+         * Sets the components that identify the row to update.
+         *
+         * @param components    the names of the key components
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with one of the given names, or if one of the
+         *                                  components is an {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> keys(String... components) {
+            Set<String> keys = new LinkedHashSet<>(Arrays.asList(components));
+            for (String key : keys) {
+                if (this.requireComponent(key).isOmittable()) throw new IllegalArgumentException("Key component must not be an Omittable: " + key);
+            }
+
+            this.keys.clear();
+            this.keys.addAll(keys);
+
+            return this;
+        }
+
+        /**
+         * Sets the function that creates the bind marker for the parameter with the given zero-based index.
+         *
+         * @param bindMarkers   the function that creates bind markers
+         *
+         * @return  this builder
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> bindMarkers(IntFunction<String> bindMarkers) {
+            this.bindMarkers = bindMarkers;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached statements.
+         *
+         * <p>A value of zero disables the cache.</p>
+         *
+         * @param statementCacheSize    the maximum number of cached statements
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is negative
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) throw new IllegalArgumentException("statementCacheSize must not be negative: " + statementCacheSize);
+            this.statementCacheSize = statementCacheSize;
+
+            return this;
+        }
+
+        /**
+         * {@return new statements}
+         *
+         * @throws IllegalStateException if no key component is configured and the record has no component that is not
+         *                               an {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public OmittableUpdateStatements<T> build() {
+            Set<String> keys = new LinkedHashSet<>(this.keys);
+            if (keys.isEmpty()) {
+                for (OmittableRecordType.Component component : this.recordType.getComponents()) {
+                    if (!component.isOmittable()) keys.add(component.getName());
+                }
+
+                if (keys.isEmpty()) throw new IllegalStateException("No key component for record type: " + this.recordType.getType().getName());
+            }
+
+            return new OmittableUpdateStatements<>(this, keys);
+        }
+
+        private OmittableRecordType.Component requireComponent(String name) {
+            OmittableRecordType.Component component = this.recordType.getComponent(name);
+            if (component == null) throw new IllegalArgumentException("No component '" + name + "' in record type: " + this.recordType.getType().getName());
+
+            return component;
+        }
+
+    }
+
+}
@@ -0,0 +1,583 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.ProtocolMessageEnum;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableRecordType;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps between records with {@code Omittable} components and Protocol Buffers messages.
+ *
+ * <p>The presence of a field in a message is mapped to the presence of the {@code Omittable} component of the same
+ * name. Fields with explicit presence are proto3 {@code optional} fields, message fields, and fields of well-known
+ * wrapper types (such as {@code google.protobuf.StringValue}), which are unwrapped to their values. Fields without
+ * explicit presence (implicit proto3 scalars and repeated fields) are always present. Since Protocol Buffers cannot
+ * represent {@code null}, {@code Omittable}s of {@code null} are written as absent fields.</p>
+ *
+ * <p>Additionally, the following conversions are applied to the values of fields:</p>
+ *
+ * <ul>
+ * <li>{@code bytes} fields are mapped to {@code byte[]} or {@link ByteString} components,</li>
+ * <li>enum fields are mapped to Java enums of the same constant names, {@code String}, or {@link EnumValueDescriptor}
+ * components,</li>
+ * <li>message fields are mapped to records that are annotated with {@link OmittableProtobufMessage}, or to message
+ * components, and</li>
+ * <li>repeated fields are mapped to {@code List} components of the respective element types.</li>
+ * </ul>
+ *
+ * <p>The fields of the message are resolved once per record type into an accessor table. For generated messages, the
+ * table binds the accessors that are generated by {@code protoc} (e.g. {@code hasName()}, {@code getName()}, and
+ * {@code setName(..)}) which are then invoked directly. Only dynamic messages are read and written through the
+ * descriptor-based reflection API of Protocol Buffers. Mappers are immutable and may be shared between threads. Since the mapper
+ * reads and writes {@code Message} instances, it can be used for gRPC services as well to share the {@code Omittable}
+ * DTOs with JSON and protobuf-over-HTTP endpoints.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableProtobufMapper<T extends Record> {
+
+    private static final Set<String> WRAPPER_TYPES = Set.of(
+        "google.protobuf.BoolValue",
+        "google.protobuf.BytesValue",
+        "google.protobuf.DoubleValue",
+        "google.protobuf.FloatValue",
+        "google.protobuf.Int32Value",
+        "google.protobuf.Int64Value",
+        "google.protobuf.StringValue",
+        "google.protobuf.UInt32Value",
+        "google.protobuf.UInt64Value"
+    );
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType HAS_TYPE = MethodType.methodType(boolean.class, Object.class);
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SET_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<OmittableProtobufMapper<?>> MAPPERS = new ClassValue<>() {
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        protected OmittableProtobufMapper<?> computeValue(Class<?> type) {
+            OmittableProtobufMessage annotation = type.getAnnotation(OmittableProtobufMessage.class);
+            return new OmittableProtobufMapper(type.asSubclass(Record.class), Internal.getDefaultInstance(annotation.value()));
+        }
+
+    };
+
+    /**
+     * {@return whether the given type is a record that is annotated with {@link OmittableProtobufMessage}}
+     *
+     * @param type  the type to check
+     *
+     * @since   2.1.0
+     */
+    public static boolean isMapped(Class<?> type) {
+        return type.isRecord() && type.isAnnotationPresent(OmittableProtobufMessage.class);
+    }
+
+    /**
+     * {@return the mapper for the given record type}
+     *
+     * <p>The message type is determined by the {@link OmittableProtobufMessage} annotation of the record type. Mappers
+     * are cached per record type.</p>
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     *
+     * @throws IllegalArgumentException if the given type is not {@link #isMapped(Class) mapped}, or if a component of
+     *                                  the record cannot be mapped to a field of the message
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> OmittableProtobufMapper<T> of(Class<T> type) {
+        if (!isMapped(type)) throw new IllegalArgumentException("Not annotated with @OmittableProtobufMessage: " + type.getName());
+        return (OmittableProtobufMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * {@return a new mapper between the given record type and the type of the given message}
+     *
+     * <p>Unlike {@link #of(Class)}, this method does not require an annotation and supports dynamic messages. The
+     * returned mapper is not cached.</p>
+     *
+     * @param <T>               the type of the record
+     * @param type              the type of the record
+     * @param defaultInstance   the default instance of the message type
+     *
+     * @throws IllegalArgumentException if the given type is not a record, or if a component of the record cannot be
+     *                                  mapped to a field of the message
+     *
+     * @since   2.1.0
+     */
+    public static <T extends Record> OmittableProtobufMapper<T> of(Class<T> type, Message defaultInstance) {
+        if (!type.isRecord()) throw new IllegalArgumentException("Not a record type: " + type.getName());
+        return new OmittableProtobufMapper<>(type, defaultInstance);
+    }
+
+    private final OmittableRecordType<T> recordType;
+    private final Message defaultInstance;
+    private final MethodHandle constructor;
+    private final Accessor[] accessors;
+
+    private OmittableProtobufMapper(Class<T> type, Message defaultInstance) {
+        Descriptor descriptor = defaultInstance.getDescriptorForType();
+        RecordComponent[] recordComponents = type.getRecordComponents();
+
+        this.recordType = OmittableRecordType.of(type);
+        this.defaultInstance = defaultInstance;
+        this.constructor = constructor(type, recordComponents);
+        this.accessors = new Accessor[recordComponents.length];
+
+        Class<?> messageClass = defaultInstance.getClass();
+        Class<?> builderClass = defaultInstance.newBuilderForType().getClass();
+        boolean generated = !(defaultInstance instanceof DynamicMessage);
+
+        for (OmittableRecordType.Component component : this.recordType.getComponents()) {
+            FieldDescriptor field = findField(descriptor, component.getName());
+            if (field == null) {
+                throw new IllegalArgumentException("Message type " + descriptor.getFullName() + " has no field for component " + type.getName() + "." + component.getName());
+            } else if (field.isMapField()) {
+                throw new IllegalArgumentException("Map fields are not supported: " + field.getFullName());
+            }
+
+            FieldDescriptor wrapperValue = (!field.isRepeated() && field.getJavaType() == FieldDescriptor.JavaType.MESSAGE && WRAPPER_TYPES.contains(field.getMessageType().getFullName()))
+                ? field.getMessageType().findFieldByNumber(1)
+                : null;
+
+            ResolvableType valueType = ResolvableType.forType(recordComponents[component.getIndex()].getGenericType());
+            if (component.isOmittable()) valueType = valueType.getGeneric(0);
+            if (field.isRepeated()) valueType = valueType.asCollection().getGeneric(0);
+
+            FieldAccess access = generated ? GeneratedFieldAccess.of(messageClass, builderClass, field, wrapperValue) : null;
+            if (access == null) access = new DescriptorFieldAccess(field, wrapperValue);
+
+            this.accessors[component.getIndex()] = new Accessor(component, field, (wrapperValue != null) ? wrapperValue : field, access, valueType.toClass());
+        }
+    }
+
+    private static @Nullable FieldDescriptor findField(Descriptor descriptor, String name) {
+        FieldDescriptor field = descriptor.findFieldByName(name);
+        if (field != null) return field;
+
+        for (FieldDescriptor candidate : descriptor.getFields()) {
+            if (candidate.getJsonName().equals(name)) return candidate;
+        }
+
+        return null;
+    }
+
+    private static MethodHandle constructor(Class<?> type, RecordComponent[] recordComponents) {
+        Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+        for (int i = 0; i < recordComponents.length; i++) parameterTypes[i] = recordComponents[i].getType();
+
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+            ReflectionUtils.makeAccessible(constructor);
+
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access canonical constructor of record type: " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OmittableProtobufMapper<Record> forType(Class<?> type) {
+        return (OmittableProtobufMapper<Record>) of(type.asSubclass(Record.class));
+    }
+
+    /**
+     * {@return the type of the record}
+     *
+     * @since   2.1.0
+     */
+    public Class<T> getRecordType() {
+        return this.recordType.getType();
+    }
+
+    /**
+     * {@return the default instance of the message type}
+     *
+     * @since   2.1.0
+     */
+    public Message getDefaultInstance() {
+        return this.defaultInstance;
+    }
+
+    /**
+     * {@return the record that is read from the given message}
+     *
+     * @param message   the message
+     *
+     * @throws IllegalArgumentException if the given message is not of the message type of this mapper
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public T fromMessage(Message message) {
+        if (message.getDescriptorForType() != this.defaultInstance.getDescriptorForType()) {
+            throw new IllegalArgumentException("Expected message of type " + this.defaultInstance.getDescriptorForType().getFullName() + " but got " + message.getDescriptorForType().getFullName());
+        }
+
+        Object[] args = new Object[this.accessors.length];
+        for (int i = 0; i < args.length; i++) args[i] = this.accessors[i].read(message);
+
+        try {
+            return (T) (Object) this.constructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to create record of type: " + this.recordType.getType().getName(), t);
+        }
+    }
+
+    /**
+     * {@return the message that is written from the given record}
+     *
+     * @param record    the record
+     *
+     * @since   2.1.0
+     */
+    public Message toMessage(T record) {
+        long presenceMask = this.recordType.getPresenceMask(record);
+        Message.Builder builder = this.defaultInstance.newBuilderForType();
+
+        for (Accessor accessor : this.accessors) accessor.write(record, presenceMask, builder);
+        return builder.build();
+    }
+
+    /**
+     * {@return the record that is read from a message in the given stream}
+     *
+     * @param in    the stream to read from
+     *
+     * @throws InvalidProtocolBufferException   if the stream does not contain a valid message
+     * @throws IOException                      if an I/O error occurs
+     *
+     * @since   2.1.0
+     */
+    public T parseFrom(InputStream in) throws IOException {
+        return this.fromMessage(this.defaultInstance.getParserForType().parseFrom(in));
+    }
+
+    /**
+     * {@return the record that is read from the given serialized message}
+     *
+     * @param bytes the serialized message
+     *
+     * @throws InvalidProtocolBufferException   if the given bytes are not a valid message
+     *
+     * @since   2.1.0
+     */
+    public T parseFrom(byte[] bytes) throws InvalidProtocolBufferException {
+        return this.fromMessage(this.defaultInstance.getParserForType().parseFrom(bytes));
+    }
+
+    private static final class Accessor {
+
+        private final OmittableRecordType.Component component;
+        private final FieldDescriptor field;
+        private final FieldDescriptor valueField;
+        private final FieldAccess access;
+        private final Class<?> valueType;
+
+        private Accessor(OmittableRecordType.Component component, FieldDescriptor field, FieldDescriptor valueField, FieldAccess access, Class<?> valueType) {
+            this.component = component;
+            this.field = field;
+            this.valueField = valueField;
+            this.access = access;
+            this.valueType = valueType;
+        }
+
+        private @Nullable Object read(Message message) {
+            if (this.field.hasPresence() && !this.access.has(message)) {
+                if (this.component.isOmittable()) return Omittable.absent();
+                return (this.field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) ? null : this.toJava(this.access.get(message));
+            }
+
+            Object value = this.field.isRepeated()
+                ? this.toJavaList((List<?>) this.access.get(message))
+                : this.toJava(this.access.get(message));
+
+            return this.component.isOmittable() ? Omittable.of(value) : value;
+        }
+
+        private List<?> toJavaList(List<?> values) {
+            List<Object> list = new ArrayList<>(values.size());
+            for (Object value : values) list.add(this.toJava(value));
+
+            return List.copyOf(list);
+        }
+
+        private Object toJava(Object value) {
+            return switch (this.valueField.getJavaType()) {
+                case BYTE_STRING -> (this.valueType == byte[].class) ? ((ByteString) value).toByteArray() : value;
+                case ENUM -> {
+                    EnumValueDescriptor enumValue = (value instanceof ProtocolMessageEnum constant) ? constant.getValueDescriptor() : (EnumValueDescriptor) value;
+                    if (this.valueType.isEnum()) yield enumConstant(this.valueType, enumValue.getName());
+                    yield (this.valueType == String.class) ? enumValue.getName() : enumValue;
+                }
+                case MESSAGE -> isMapped(this.valueType) ? forType(this.valueType).fromMessage((Message) value) : value;
+                default -> value;
+            };
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private static Object enumConstant(Class<?> type, String name) {
+            return Enum.valueOf((Class) type, name);
+        }
+
+        private void write(Record record, long presenceMask, Message.Builder builder) {
+            if (this.component.isOmittable() && (presenceMask & this.component.getMask()) == 0) return;
+
+            Object value = this.component.getValue(record);
+            if (value == null) return; // Protocol Buffers cannot represent null, hence, null is written as absent.
+
+            if (this.field.isRepeated()) {
+                List<?> values = (List<?>) value;
+                List<Object> list = new ArrayList<>(values.size());
+                for (Object element : values) list.add(this.toProto(element));
+
+                this.access.set(builder, list);
+            } else {
+                this.access.set(builder, this.toProto(value));
+            }
+        }
+
+        private Object toProto(Object value) {
+            return switch (this.valueField.getJavaType()) {
+                case BYTE_STRING -> (value instanceof byte[] bytes) ? ByteString.copyFrom(bytes) : value;
+                case ENUM -> {
+                    if (value instanceof EnumValueDescriptor) yield value;
+
+                    String name = (value instanceof Enum<?> constant) ? constant.name() : value.toString();
+                    EnumValueDescriptor enumValue = this.valueField.getEnumType().findValueByName(name);
+                    if (enumValue == null) throw new IllegalArgumentException("Enum type " + this.valueField.getEnumType().getFullName() + " has no value " + name);
+
+                    yield enumValue;
+                }
+                case MESSAGE -> (value instanceof Record nested) ? forType(nested.getClass()).toMessage(nested) : value;
+                default -> value;
+            };
+        }
+
+    }
+
+    /*
+     * Reads and writes a single field of a message. Values of well-known wrapper types are unwrapped, and enum values
+     * are written as EnumValueDescriptors. Enum values may be read as EnumValueDescriptors or as generated enum
+     * constants. Repeated fields are read and written as lists.
+     */
+    private interface FieldAccess {
+
+        boolean has(Message message);
+
+        Object get(Message message);
+
+        void set(Message.Builder builder, Object value);
+
+    }
+
+    /*
+     * Accesses fields through the descriptor-based reflection API of Protocol Buffers. This is only used for dynamic
+     * messages which do not have generated accessors.
+     */
+    private record DescriptorFieldAccess(FieldDescriptor field, @Nullable FieldDescriptor wrapperValue) implements FieldAccess {
+
+        @Override
+        public boolean has(Message message) {
+            return message.hasField(this.field);
+        }
+
+        @Override
+        public Object get(Message message) {
+            Object value = message.getField(this.field);
+            return (this.wrapperValue != null) ? ((Message) value).getField(this.wrapperValue) : value;
+        }
+
+        @Override
+        public void set(Message.Builder builder, Object value) {
+            if (this.wrapperValue != null) value = builder.newBuilderForField(this.field).setField(this.wrapperValue, value).build();
+            builder.setField(this.field, value);
+        }
+
+    }
+
+    /*
+     * Accesses fields through the accessors that are generated by protoc. The methods are bound once per field and are
+     * combined with the factory and accessor of the wrapper type, or with the valueOf(EnumValueDescriptor) method of
+     * the enum type, respectively.
+     */
+    private static final class GeneratedFieldAccess implements FieldAccess {
+
+        private static @Nullable GeneratedFieldAccess of(Class<?> messageClass, Class<?> builderClass, FieldDescriptor field, @Nullable FieldDescriptor wrapperValue) {
+            String name = camelCase(field.getName());
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                MethodHandle has = null, get, set, enumValueOf = null;
+
+                if (field.isRepeated()) {
+                    Class<?> elementType = messageClass.getMethod("get" + name, int.class).getReturnType();
+
+                    get = lookup.unreflect(messageClass.getMethod("get" + name + "List"));
+                    set = lookup.unreflect(builderClass.getMethod("addAll" + name, Iterable.class));
+
+                    if (field.getJavaType() == FieldDescriptor.JavaType.ENUM) {
+                        enumValueOf = lookup.unreflect(elementType.getMethod("valueOf", EnumValueDescriptor.class)).asType(GET_TYPE);
+                    }
+                } else {
+                    Method getter = messageClass.getMethod("get" + name);
+                    Class<?> type = getter.getReturnType();
+
+                    if (field.hasPresence()) has = lookup.unreflect(messageClass.getMethod("has" + name)).asType(HAS_TYPE);
+                    get = lookup.unreflect(getter);
+                    set = lookup.unreflect(builderClass.getMethod("set" + name, type));
+
+                    if (wrapperValue != null) {
+                        Method unwrap = type.getMethod("getValue");
+
+                        get = MethodHandles.filterReturnValue(get, lookup.unreflect(unwrap));
+                        set = MethodHandles.filterArguments(set, 1, lookup.unreflect(type.getMethod("of", unwrap.getReturnType())));
+                    } else if (field.getJavaType() == FieldDescriptor.JavaType.ENUM) {
+                        set = MethodHandles.filterArguments(set, 1, lookup.unreflect(type.getMethod("valueOf", EnumValueDescriptor.class)));
+                    }
+                }
+
+                return new GeneratedFieldAccess(field, has, get.asType(GET_TYPE), set.asType(SET_TYPE), enumValueOf);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // The accessors are not named as expected (e.g. due to a name conflict). Fall back to reflection.
+                return null;
+            }
+        }
+
+        /*
+         * Converts the name of a field to the camel case name that is used by protoc for the generated accessors.
+         */
+        private static String camelCase(String name) {
+            StringBuilder builder = new StringBuilder(name.length());
+            boolean capitalizeNext = true;
+
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+
+                if ('a' <= c && c <= 'z') {
+                    builder.append(capitalizeNext ? Character.toUpperCase(c) : c);
+                    capitalizeNext = false;
+                } else if ('A' <= c && c <= 'Z') {
+                    builder.append(c);
+                    capitalizeNext = false;
+                } else if ('0' <= c && c <= '9') {
+                    builder.append(c);
+                    capitalizeNext = true;
+                } else {
+                    capitalizeNext = true;
+                }
+            }
+
+            return builder.toString();
+        }
+
+        private final FieldDescriptor field;
+        private final @Nullable MethodHandle has;
+        private final MethodHandle get;
+        private final MethodHandle set;
+        private final @Nullable MethodHandle enumValueOf;
+
+        private GeneratedFieldAccess(FieldDescriptor field, @Nullable MethodHandle has, MethodHandle get, MethodHandle set, @Nullable MethodHandle enumValueOf) {
+            this.field = field;
+            this.has = has;
+            this.get = get;
+            this.set = set;
+            this.enumValueOf = enumValueOf;
+        }
+
+        @Override
+        public boolean has(Message message) {
+            if (this.has == null) throw new IllegalStateException("Field does not have presence: " + this.field.getFullName());
+
+            try {
+                return (boolean) this.has.invokeExact((Object) message);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read field: " + this.field.getFullName(), t);
+            }
+        }
+
+        @Override
+        public Object get(Message message) {
+            try {
+                return (Object) this.get.invokeExact((Object) message);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read field: " + this.field.getFullName(), t);
+            }
+        }
+
+        @Override
+        public void set(Message.Builder builder, Object value) {
+            try {
+                if (this.enumValueOf != null) {
+                    List<?> values = (List<?>) value;
+                    List<Object> constants = new ArrayList<>(values.size());
+                    for (Object element : values) constants.add((Object) this.enumValueOf.invokeExact(element));
+
+                    value = constants;
+                }
+
+                this.set.invokeExact((Object) builder, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to write field: " + this.field.getFullName(), t);
+            }
+        }
+
+    }
+
+}
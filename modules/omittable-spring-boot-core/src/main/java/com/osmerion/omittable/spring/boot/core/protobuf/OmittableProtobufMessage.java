@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.protobuf;
+
+import com.google.protobuf.Message;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps the annotated record to the Protocol Buffers message of the given type.
+ *
+ * <p>The components of the record are mapped to the fields of the message with the same name or JSON name. Annotated
+ * records can be read from and written as Protocol Buffers messages by an {@link OmittableProtobufMapper}, and thus
+ * be used as request and response bodies in protobuf-over-HTTP endpoints.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface OmittableProtobufMessage {
+
+    /**
+     * The type of the generated message class.
+     *
+     * @return  the type of the generated message class
+     *
+     * @since   2.1.0
+     */
+    Class<? extends Message> value();
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.core.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An open-loop load generator that sends requests to a running application at a fixed rate and records the latency of
+ * every request.
+ *
+ * <p>The generator is shared by the load tests of the Web MVC and WebFlux modules.</p>
+ *
+ * <p>Requests are sent on a fixed schedule, independently of the completion of earlier requests. The latency of a
+ * request is measured from the time at which it was scheduled to be sent, instead of the time at which it was
+ * actually sent. Thus, if the application (or the generator) stalls, the stall is reflected in the latency of every
+ * request that was due in the meantime, instead of being hidden by delaying these requests (coordinated omission).</p>
+ *
+ * <p>The generator is configured using the following system properties:</p>
+ *
+ * <ul>
+ * <li>{@code omittable.loadTest.rate} - the number of requests to send per second (default: {@code 1000})</li>
+ * <li>{@code omittable.loadTest.timeout} - the timeout per request in milliseconds (default: {@code 5000})</li>
+ * <li>{@code omittable.loadTest.warmup} - the warmup duration per scenario in seconds (default: {@code 5})</li>
+ * <li>{@code omittable.loadTest.duration} - the measured duration per scenario in seconds (default: {@code 10})</li>
+ * <li>{@code omittable.loadTest.reportDir} - the directory to write reports to (optional)</li>
+ * </ul>
+ *
+ * @author  Leon Linhart
+ */
+public final class LoadGenerator implements AutoCloseable {
+
+    private static final int FAILED = -1;
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final URI baseUri;
+    private final int rate;
+    private final Duration timeout;
+    private final Duration warmup;
+    private final Duration duration;
+
+    /**
+     * Creates a new load generator for the application at the given base URI.
+     *
+     * @param baseUri   the base URI of the application
+     */
+    public LoadGenerator(URI baseUri) {
+        this.baseUri = baseUri;
+        this.rate = Integer.getInteger("omittable.loadTest.rate", 1000);
+        this.timeout = Duration.ofMillis(Long.getLong("omittable.loadTest.timeout", 5000L));
+        this.warmup = Duration.ofSeconds(Long.getLong("omittable.loadTest.warmup", 5L));
+        this.duration = Duration.ofSeconds(Long.getLong("omittable.loadTest.duration", 10L));
+        this.executor = Executors.newCachedThreadPool();
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(this.timeout)
+            .executor(this.executor)
+            .build();
+    }
+
+    /**
+     * Sends requests to the given paths in a round-robin fashion, first for the warmup and then for the measured
+     * duration, and returns a report for the latter.
+     *
+     * @param scenario  the name of the scenario to report
+     * @param paths     the paths (including query strings) to request
+     *
+     * @return  the report for the measured duration
+     */
+    public Report run(String scenario, List<String> paths) throws InterruptedException {
+        List<HttpRequest> requests = paths.stream()
+            .map(path -> HttpRequest.newBuilder(this.baseUri.resolve(path)).timeout(this.timeout).GET().build())
+            .toList();
+
+        this.drive(requests, this.warmup);
+        Recording recording = this.drive(requests, this.duration);
+
+        long errors = 0;
+        long failures = 0;
+        for (int status : recording.statuses) {
+            if (status == FAILED) {
+                failures++;
+            } else if (status != 200) {
+                errors++;
+            }
+        }
+
+        long[] latencies = recording.latencies.clone();
+        Arrays.sort(latencies);
+
+        return new Report(
+            scenario,
+            latencies.length,
+            errors,
+            failures,
+            (latencies.length - failures) / (recording.elapsed / 1_000_000_000.0),
+            percentile(latencies, 0.5),
+            percentile(latencies, 0.99),
+            percentile(latencies, 0.999)
+        );
+    }
+
+    private Recording drive(List<HttpRequest> requests, Duration duration) throws InterruptedException {
+        int count = Math.toIntExact(duration.toMillis() * this.rate / 1000);
+        Recording recording = new Recording(count);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+
+        long start = System.nanoTime();
+
+        for (int index = 0; index < count; index++) {
+            long intendedStart = start + index * 1_000_000_000L / this.rate;
+
+            long delay;
+            while ((delay = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+                if (Thread.interrupted()) throw new InterruptedException();
+            }
+
+            /*
+             * Failed requests (e.g. because of a connection error or a timeout) are recorded instead of aborting the
+             * run, so that they are visible in the report.
+             */
+            int slot = index;
+            futures[index] = this.client.sendAsync(requests.get(index % requests.size()), HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    recording.record(slot, System.nanoTime() - intendedStart, (failure == null) ? response.statusCode() : FAILED);
+                    return null;
+                });
+        }
+
+        CompletableFuture.allOf(futures).join();
+        recording.elapsed = System.nanoTime() - start;
+
+        return recording;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Writes the given reports to standard output and, if configured, to a file in the report directory.
+     *
+     * @param name      the name of the report file
+     * @param reports   the reports to write
+     */
+    public static void publish(String name, List<Report> reports) throws IOException {
+        StringBuilder builder = new StringBuilder()
+            .append(String.format(Locale.ROOT, "%-32s %12s %8s %8s %12s %10s %10s %10s%n", "scenario", "requests", "errors", "failures", "req/s", "p50 (us)", "p99 (us)", "p999 (us)"));
+
+        for (Report report : reports) {
+            builder.append(report.format()).append(System.lineSeparator());
+        }
+
+        System.out.println(builder);
+
+        String reportDir = System.getProperty("omittable.loadTest.reportDir");
+        if (reportDir != null) {
+            Path directory = Path.of(reportDir);
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(name + ".txt"), builder, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+    }
+
+    /**
+     * The result of a measured scenario.
+     *
+     * <p>Latencies are measured from the time at which a request was scheduled to be sent. The latency of a failed
+     * request is the time until it failed.</p>
+     *
+     * @param scenario      the name of the scenario
+     * @param requests      the number of sent requests
+     * @param errors        the number of requests that completed with a status other than {@code 200}
+     * @param failures      the number of requests that did not complete (e.g. because of an I/O error or a timeout)
+     * @param throughput    the number of completed requests per second
+     * @param p50           the median latency in nanoseconds
+     * @param p99           the 99th percentile latency in nanoseconds
+     * @param p999          the 99.9th percentile latency in nanoseconds
+     */
+    public record Report(String scenario, long requests, long errors, long failures, double throughput, long p50, long p99, long p999) {
+
+        String format() {
+            return String.format(
+                Locale.ROOT,
+                "%-32s %12d %8d %8d %12.1f %10.1f %10.1f %10.1f",
+                this.scenario, this.requests, this.errors, this.failures, this.throughput, this.p50 / 1000.0, this.p99 / 1000.0, this.p999 / 1000.0
+            );
+        }
+
+    }
+
+    private static final class Recording {
+
+        final long[] latencies;
+        final int[] statuses;
+        long elapsed;
+
+        Recording(int count) {
+            this.latencies = new long[count];
+            this.statuses = new int[count];
+        }
+
+        void record(int index, long latency, int status) {
+            this.latencies[index] = latency;
+            this.statuses[index] = status;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public final class OmittableRecordFilterIntegrationTest {
+
+    public record PersonFilter(Omittable<String> firstName, Omittable<@Nullable String> email, Omittable<Integer> age) {}
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+
+        this.jdbcTemplate = new JdbcTemplate(this.database);
+        this.jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, first_name VARCHAR(64), email VARCHAR(64), age INT)");
+        this.jdbcTemplate.update("INSERT INTO person VALUES (1, 'Karl', 'karl@example.com', 30)");
+        this.jdbcTemplate.update("INSERT INTO person VALUES (2, 'Karl', NULL, 40)");
+        this.jdbcTemplate.update("INSERT INTO person VALUES (3, 'Carla', NULL, 30)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    public void testQueryWithJdbcClient() {
+        OmittableRecordFilter<PersonFilter> filter = OmittableRecordFilter.builder(PersonFilter.class, "SELECT id FROM person")
+            .suffix("ORDER BY id")
+            .build();
+
+        JdbcClient jdbcClient = JdbcClient.create(this.database);
+
+        assertThat(filter.query(jdbcClient, new PersonFilter(Omittable.absent(), Omittable.absent(), Omittable.absent())).query(Long.class).list())
+            .containsExactly(1L, 2L, 3L);
+        assertThat(filter.query(jdbcClient, new PersonFilter(Omittable.of("Karl"), Omittable.absent(), Omittable.absent())).query(Long.class).list())
+            .containsExactly(1L, 2L);
+        assertThat(filter.query(jdbcClient, new PersonFilter(Omittable.absent(), Omittable.of(null), Omittable.of(30))).query(Long.class).list())
+            .containsExactly(3L);
+    }
+
+    @Test
+    public void testQueryWithJdbcTemplate() {
+        OmittableRecordFilter<PersonFilter> filter = OmittableRecordFilter.builder(PersonFilter.class, "SELECT id FROM person").build();
+
+        List<Long> ids = filter.query(this.jdbcTemplate, new PersonFilter(Omittable.of("Karl"), Omittable.of("karl@example.com"), Omittable.absent()), (resultSet, rowNum) -> resultSet.getLong(1));
+        assertThat(ids).containsExactly(1L);
+    }
+
+    @Test
+    public void testStatementCache() {
+        OmittableRecordFilter<PersonFilter> filter = OmittableRecordFilter.builder(PersonFilter.class, "SELECT * FROM person")
+            .column("firstName", "name")
+            .statementCacheSize(2)
+            .build();
+
+        assertThat(filter.getSql(0b000L, 0b000L)).isEqualTo("SELECT * FROM person");
+        assertThat(filter.getSql(0b011L, 0b000L)).isEqualTo("SELECT * FROM person WHERE name = ? AND email = ?");
+        assertThat(filter.getSql(0b011L, 0b000L)).isSameAs(filter.getSql(0b011L, 0b000L));
+        assertThat(filter.getSql(0b011L, 0b010L)).isEqualTo("SELECT * FROM person WHERE name = ? AND email IS NULL");
+        assertThat(filter.getCachedStatementCount()).isEqualTo(2);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> filter.getSql(0b001L, 0b010L));
+    }
+
+    @Test
+    public void testStatementsAreSharedAcrossValues() {
+        OmittableRecordFilter<PersonFilter> filter = OmittableRecordFilter.builder(PersonFilter.class, "SELECT id FROM person").build();
+
+        for (int age = 0; age < 100; age++) {
+            filter.query(this.jdbcTemplate, new PersonFilter(Omittable.absent(), Omittable.absent(), Omittable.of(age)), (resultSet, rowNum) -> resultSet.getLong(1));
+        }
+
+        assertThat(filter.getCachedStatementCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jdbc;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+public final class OmittableRecordUpdaterIntegrationTest {
+
+    public record PersonUpdate(long id, Omittable<String> firstName, Omittable<@Nullable String> email, Omittable<Integer> age) {}
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+
+        this.jdbcTemplate = new JdbcTemplate(this.database);
+        this.jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, first_name VARCHAR(64), email VARCHAR(64), age INT)");
+
+        for (int id = 1; id <= 4; id++) {
+            this.jdbcTemplate.update("INSERT INTO person VALUES (?, ?, ?, ?)", id, "Name" + id, "mail" + id + "@example.com", 20 + id);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    public void testUpdateWithJdbcTemplate() {
+        OmittableRecordUpdater<PersonUpdate> updater = OmittableRecordUpdater.builder(PersonUpdate.class, "person").build();
+
+        int count = updater.update(this.jdbcTemplate, new PersonUpdate(1, Omittable.of("Karl"), Omittable.of(null), Omittable.absent()));
+
+        assertThat(count).isEqualTo(1);
+        assertThat(this.row(1)).containsEntry("FIRST_NAME", "Karl").containsEntry("EMAIL", null).containsEntry("AGE", 21);
+        assertThat(this.row(2)).containsEntry("FIRST_NAME", "Name2").containsEntry("EMAIL", "mail2@example.com");
+    }
+
+    @Test
+    public void testUpdateWithJdbcClient() {
+        OmittableRecordUpdater<PersonUpdate> updater = OmittableRecordUpdater.builder(PersonUpdate.class, "person").build();
+
+        int count = updater.update(JdbcClient.create(this.database), new PersonUpdate(2, Omittable.absent(), Omittable.absent(), Omittable.of(42)));
+
+        assertThat(count).isEqualTo(1);
+        assertThat(this.row(2)).containsEntry("FIRST_NAME", "Name2").containsEntry("EMAIL", "mail2@example.com").containsEntry("AGE", 42);
+    }
+
+    @Test
+    public void testUpdateWithoutPresentComponents() {
+        OmittableRecordUpdater<PersonUpdate> updater = OmittableRecordUpdater.builder(PersonUpdate.class, "person").build();
+
+        assertThat(updater.update(this.jdbcTemplate, new PersonUpdate(1, Omittable.absent(), Omittable.absent(), Omittable.absent()))).isZero();
+        assertThat(updater.getSql(0L)).isNull();
+    }
+
+    @Test
+    public void testStatementCache() {
+        OmittableRecordUpdater<PersonUpdate> updater = OmittableRecordUpdater.builder(PersonUpdate.class, "person")
+            .column("firstName", "first_name")
+            .statementCacheSize(2)
+            .build();
+
+        assertThat(updater.getSql(0b001L)).isEqualTo("UPDATE person SET first_name = ? WHERE id = ?");
+        assertThat(updater.getSql(0b101L)).isEqualTo("UPDATE person SET first_name = ?, age = ? WHERE id = ?");
+        assertThat(updater.getSql(0b001L)).isSameAs(updater.getSql(0b001L));
+        assertThat(updater.getSql(0b110L)).isEqualTo("UPDATE person SET email = ?, age = ? WHERE id = ?");
+        assertThat(updater.getCachedStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testBatchUpdate() {
+        OmittableRecordUpdater<PersonUpdate> updater = OmittableRecordUpdater.builder(PersonUpdate.class, "person").build();
+
+        int[] counts = updater.batchUpdate(this.jdbcTemplate, List.of(
+            new PersonUpdate(1, Omittable.of("A"), Omittable.absent(), Omittable.absent()),
+            new PersonUpdate(2, Omittable.absent(), Omittable.absent(), Omittable.of(50)),
+            new PersonUpdate(3, Omittable.of("C"), Omittable.absent(), Omittable.absent()),
+            new PersonUpdate(4, Omittable.absent(), Omittable.absent(), Omittable.absent()),
+            new PersonUpdate(99, Omittable.absent(), Omittable.absent(), Omittable.of(60))
+        ));
+
+        assertThat(counts).containsExactly(1, 1, 1, 0, 0);
+        assertThat(updater.getCachedStatementCount()).isEqualTo(2);
+        assertThat(this.row(1)).containsEntry("FIRST_NAME", "A").containsEntry("AGE", 21);
+        assertThat(this.row(2)).containsEntry("FIRST_NAME", "Name2").containsEntry("AGE", 50);
+        assertThat(this.row(3)).containsEntry("FIRST_NAME", "C").containsEntry("AGE", 23);
+        assertThat(this.row(4)).containsEntry("FIRST_NAME", "Name4").containsEntry("AGE", 24);
+    }
+
+    @Test
+    public void testAutoConfiguration() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(OmittableJdbcAutoConfiguration.class))
+            .withBean(JdbcTemplate.class, () -> this.jdbcTemplate)
+            .run(context -> {
+                OmittableJdbcUpdates updates = context.getBean(OmittableJdbcUpdates.class);
+
+                assertThat(updates.update("person", new PersonUpdate(3, Omittable.of("Carla"), Omittable.absent(), Omittable.absent()))).isEqualTo(1);
+                assertThat(updates.getUpdater(PersonUpdate.class, "person")).isSameAs(updates.getUpdater(PersonUpdate.class, "person"));
+                assertThat(this.row(3)).containsEntry("FIRST_NAME", "Carla");
+            });
+    }
+
+    private Map<String, @Nullable Object> row(long id) {
+        return this.jdbcTemplate.queryForMap("SELECT * FROM person WHERE id = ?", id);
+    }
+
+}
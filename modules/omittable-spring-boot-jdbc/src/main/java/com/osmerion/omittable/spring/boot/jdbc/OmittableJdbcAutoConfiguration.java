@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jdbc;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for partial updates of {@code Omittable} records with JDBC.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.jdbc.autoconfigure.JdbcTemplateAutoConfiguration")
+@ConditionalOnClass(JdbcOperations.class)
+@ConditionalOnSingleCandidate(JdbcOperations.class)
+@EnableConfigurationProperties(OmittableJdbcProperties.class)
+public class OmittableJdbcAutoConfiguration {
+
+    public OmittableJdbcAutoConfiguration() {}
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OmittableJdbcUpdates omittableJdbcUpdates(JdbcOperations jdbcOperations, OmittableJdbcProperties properties) {
+        return new OmittableJdbcUpdates(jdbcOperations, properties.getStatementCacheSize());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jdbc;
+
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executes partial updates that are described by records with {@code Omittable} components using a shared
+ * {@link JdbcOperations} instance.
+ *
+ * <p>An {@link OmittableRecordUpdater} with the default configuration is created once per record type and table and
+ * reused for subsequent updates.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJdbcUpdates {
+
+    private final JdbcOperations jdbcOperations;
+    private final int statementCacheSize;
+    private final Map<UpdaterKey, OmittableRecordUpdater<?>> updaters;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcOperations        the operations to execute the statements with
+     * @param statementCacheSize    the maximum number of cached statements per updater
+     *
+     * @since   2.1.0
+     */
+    public OmittableJdbcUpdates(JdbcOperations jdbcOperations, int statementCacheSize) {
+        if (statementCacheSize < 0) throw new IllegalArgumentException("statementCacheSize must not be negative: " + statementCacheSize);
+
+        this.jdbcOperations = jdbcOperations;
+        this.statementCacheSize = statementCacheSize;
+        this.updaters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@return the updater for the given record type and table}
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param table the name of the table to update
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> OmittableRecordUpdater<T> getUpdater(Class<T> type, String table) {
+        return (OmittableRecordUpdater<T>) this.updaters.computeIfAbsent(
+            new UpdaterKey(type, table),
+            key -> OmittableRecordUpdater.builder(type, table).statementCacheSize(this.statementCacheSize).build()
+        );
+    }
+
+    /**
+     * Updates the row that is identified by the given record.
+     *
+     * @param <T>       the type of the record
+     * @param table     the name of the table to update
+     * @param record    the record
+     *
+     * @return  the number of updated rows
+     *
+     * @see OmittableRecordUpdater#update(JdbcOperations, Record)
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> int update(String table, T record) {
+        return this.getUpdater((Class<T>) record.getClass(), table).update(this.jdbcOperations, record);
+    }
+
+    /**
+     * Updates the rows that are identified by the given records.
+     *
+     * @param <T>       the type of the records
+     * @param type      the type of the records
+     * @param table     the name of the table to update
+     * @param records   the records
+     *
+     * @return  the number of updated rows for each record in the order of the given records
+     *
+     * @see OmittableRecordUpdater#batchUpdate(JdbcOperations, List)
+     *
+     * @since   2.1.0
+     */
+    public <T extends Record> int[] batchUpdate(Class<T> type, String table, List<? extends T> records) {
+        return this.getUpdater(type, table).batchUpdate(this.jdbcOperations, records);
+    }
+
+    private record UpdaterKey(Class<?> type, String table) {}
+
+}
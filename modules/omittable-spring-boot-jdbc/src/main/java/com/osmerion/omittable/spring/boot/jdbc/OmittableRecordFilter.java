@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jdbc;
+
+import com.osmerion.omittable.spring.boot.core.patch.OmittableFilterStatements;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableRecordType;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.List;
+
+/**
+ * Executes queries that are filtered by records with {@code Omittable} components.
+ *
+ * <p>The {@code WHERE} clause of the query for a record only restricts the columns of the present {@code Omittable}
+ * components and of the components that are not {@code Omittable}. A present component that wraps {@code null}
+ * restricts the column to {@code NULL}, while an absent component does not restrict the column. Statements are cached
+ * per presence and null mask (see {@link OmittableFilterStatements}), so that the database sees a bounded number of
+ * distinct statements.</p>
+ *
+ * <p>Filters are thread-safe and should be reused.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRecordFilter<T extends Record> {
+
+    /**
+     * The default maximum number of cached statements.
+     *
+     * @since   2.1.0
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = OmittableFilterStatements.DEFAULT_STATEMENT_CACHE_SIZE;
+
+    /**
+     * Creates a new builder for a filter of the given record type.
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param query the query that is filtered, up to but excluding the {@code WHERE} clause (for example,
+     *              {@code SELECT * FROM person})
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given type is not a supported record type
+     *
+     * @since   2.1.0
+     */
+    public static <T extends Record> Builder<T> builder(Class<T> type, String query) {
+        return new Builder<>(OmittableFilterStatements.builder(type, query));
+    }
+
+    private final OmittableFilterStatements<T> statements;
+
+    private OmittableRecordFilter(OmittableFilterStatements<T> statements) {
+        this.statements = statements;
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.statements.getRecordType();
+    }
+
+    /**
+     * {@return the SQL of the query for the given presence and null mask}
+     *
+     * @param presenceMask  the presence mask
+     * @param nullMask      the null mask
+     *
+     * @throws IllegalArgumentException if the null mask is not a subset of the presence mask
+     *
+     * @since   2.1.0
+     */
+    public String getSql(long presenceMask, long nullMask) {
+        return this.statements.getStatement(presenceMask, nullMask).getSql();
+    }
+
+    /**
+     * {@return the number of cached statements}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedStatementCount() {
+        return this.statements.getCachedStatementCount();
+    }
+
+    /**
+     * Prepares the query for the given filter.
+     *
+     * <p>The returned specification has the arguments of the filter bound and can be used to map and fetch the
+     * results.</p>
+     *
+     * @param jdbcClient    the client to execute the query with
+     * @param filter        the filter
+     *
+     * @return  the specification of the query
+     *
+     * @since   2.1.0
+     */
+    public JdbcClient.StatementSpec query(JdbcClient jdbcClient, T filter) {
+        OmittableFilterStatements.Statement statement = this.statements.getStatement(filter);
+        return jdbcClient.sql(statement.getSql()).params(statement.getArguments(filter));
+    }
+
+    /**
+     * Executes the query for the given filter.
+     *
+     * @param <R>               the type of the results
+     * @param jdbcOperations    the operations to execute the query with
+     * @param filter            the filter
+     * @param rowMapper         the mapper for the rows of the result
+     *
+     * @return  the results
+     *
+     * @since   2.1.0
+     */
+    public <R> List<R> query(JdbcOperations jdbcOperations, T filter, RowMapper<R> rowMapper) {
+        OmittableFilterStatements.Statement statement = this.statements.getStatement(filter);
+        return jdbcOperations.query(statement.getSql(), rowMapper, statement.getArguments(filter));
+    }
+
+    /**
+     * A builder for an {@link OmittableRecordFilter}.
+     *
+     * <p>By default, the names of the columns are derived from the names of the components by converting them from
+     * camel case to snake case, and nothing is appended to the query.</p>
+     *
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<T extends Record> {
+
+        private final OmittableFilterStatements.Builder<T> statements;
+
+        private Builder(OmittableFilterStatements.Builder<T> statements) {
+            this.statements = statements;
+        }
+
+        /**
+         * Sets the name of the column for the given component.
+         *
+         * @param component the name of the component
+         * @param column    the name of the column
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> column(String component, String column) {
+            this.statements.column(component, column);
+            return this;
+        }
+
+        /**
+         * Sets the SQL that is appended to the query after the {@code WHERE} clause (for example, an {@code ORDER BY}
+         * clause).
+         *
+         * @param suffix    the SQL to append, or {@code null} to append nothing
+         *
+         * @return  this builder
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> suffix(@Nullable String suffix) {
+            this.statements.suffix(suffix);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached statements.
+         *
+         * <p>A value of zero disables the cache.</p>
+         *
+         * @param statementCacheSize    the maximum number of cached statements
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is negative
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> statementCacheSize(int statementCacheSize) {
+            this.statements.statementCacheSize(statementCacheSize);
+            return this;
+        }
+
+        /**
+         * {@return a new filter}
+         *
+         * @since   2.1.0
+         */
+        public OmittableRecordFilter<T> build() {
+            return new OmittableRecordFilter<>(this.statements.build());
+        }
+
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jdbc;
+
+import com.osmerion.omittable.spring.boot.core.patch.OmittableRecordType;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableUpdateStatements;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes partial updates that are described by records with {@code Omittable} components.
+ *
+ * <p>The {@code UPDATE} statement for a record only assigns the columns of the present {@code Omittable} components
+ * and of the non-key components that are not {@code Omittable}. A present component that wraps {@code null} sets the
+ * column to {@code NULL}, while an absent component leaves the column untouched. The key components identify the row
+ * in the {@code WHERE} clause. Statements are cached per presence mask (see {@link OmittableUpdateStatements}).</p>
+ *
+ * <p>{@link #batchUpdate(JdbcOperations, List) Batch updates} group the records by presence mask and execute each group
+ * as a single JDBC batch.</p>
+ *
+ * <p>Updaters are thread-safe and should be reused.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRecordUpdater<T extends Record> {
+
+    /**
+     * The default maximum number of cached statements.
+     *
+     * @since   2.1.0
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = OmittableUpdateStatements.DEFAULT_STATEMENT_CACHE_SIZE;
+
+    /**
+     * Creates a new builder for an updater of the given record type.
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param table the name of the table to update
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given type is not a supported record type
+     *
+     * @since   2.1.0
+     */
+    public static <T extends Record> Builder<T> builder(Class<T> type, String table) {
+        return new Builder<>(OmittableUpdateStatements.builder(type, table));
+    }
+
+    private final OmittableUpdateStatements<T> statements;
+
+    private OmittableRecordUpdater(OmittableUpdateStatements<T> statements) {
+        this.statements = statements;
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.statements.getRecordType();
+    }
+
+    /**
+     * {@return the name of the updated table}
+     *
+     * @since   2.1.0
+     */
+    public String getTable() {
+        return this.statements.getTable();
+    }
+
+    /**
+     * {@return the SQL of the update statement for the given presence mask, or {@code null} if no column would be
+     * assigned}
+     *
+     * @param presenceMask  the presence mask
+     *
+     * @since   2.1.0
+     */
+    public @Nullable String getSql(long presenceMask) {
+        OmittableUpdateStatements.Statement statement = this.statements.getStatement(presenceMask);
+        return (statement != null) ? statement.getSql() : null;
+    }
+
+    /**
+     * {@return the number of cached statements}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedStatementCount() {
+        return this.statements.getCachedStatementCount();
+    }
+
+    /**
+     * Updates the row that is identified by the given record.
+     *
+     * <p>If no column would be assigned, no statement is executed and {@code 0} is returned.</p>
+     *
+     * @param jdbcClient    the client to execute the statement with
+     * @param record        the record
+     *
+     * @return  the number of updated rows
+     *
+     * @since   2.1.0
+     */
+    public int update(JdbcClient jdbcClient, T record) {
+        OmittableUpdateStatements.Statement statement = this.getStatement(record);
+        if (statement == null) return 0;
+
+        return jdbcClient.sql(statement.getSql()).params(statement.getArguments(record)).update();
+    }
+
+    /**
+     * Updates the row that is identified by the given record.
+     *
+     * <p>If no column would be assigned, no statement is executed and {@code 0} is returned.</p>
+     *
+     * @param jdbcOperations    the operations to execute the statement with
+     * @param record            the record
+     *
+     * @return  the number of updated rows
+     *
+     * @since   2.1.0
+     */
+    public int update(JdbcOperations jdbcOperations, T record) {
+        OmittableUpdateStatements.Statement statement = this.getStatement(record);
+        if (statement == null) return 0;
+
+        return jdbcOperations.update(statement.getSql(), statement.getArguments(record));
+    }
+
+    /**
+     * Updates the rows that are identified by the given records.
+     *
+     * <p>The records are grouped by presence mask and each group is executed as a single JDBC batch. Groups are
+     * executed in the order in which their first record occurs. Records for which no column would be assigned are
+     * skipped.</p>
+     *
+     * @param jdbcOperations    the operations to execute the statements with
+     * @param records           the records
+     *
+     * @return  the number of updated rows for each record in the order of the given records, as reported by the
+     *          driver
+     *
+     * @since   2.1.0
+     */
+    public int[] batchUpdate(JdbcOperations jdbcOperations, List<? extends T> records) {
+        OmittableRecordType<T> recordType = this.statements.getRecordType();
+        int[] counts = new int[records.size()];
+        Map<Long, List<Integer>> groups = new LinkedHashMap<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            groups.computeIfAbsent(recordType.getPresenceMask(records.get(i)), mask -> new ArrayList<>()).add(i);
+        }
+
+        for (Map.Entry<Long, List<Integer>> group : groups.entrySet()) {
+            OmittableUpdateStatements.Statement statement = this.statements.getStatement(group.getKey());
+            if (statement == null) continue;
+
+            List<Integer> indices = group.getValue();
+            List<Object[]> batchArguments = new ArrayList<>(indices.size());
+            for (int index : indices) batchArguments.add(statement.getArguments(records.get(index)));
+
+            int[] groupCounts = jdbcOperations.batchUpdate(statement.getSql(), batchArguments);
+            for (int i = 0; i < groupCounts.length; i++) counts[indices.get(i)] = groupCounts[i];
+        }
+
+        return counts;
+    }
+
+    private OmittableUpdateStatements.@Nullable Statement getStatement(T record) {
+        return this.statements.getStatement(this.statements.getRecordType().getPresenceMask(record));
+    }
+
+    /**
+     * A builder for an {@link OmittableRecordUpdater}.
+     *
+     * <p>By default, the components that are not {@code Omittable} are used as keys and the names of the columns are
+     * derived from the names of the components by converting them from camel case to snake case.</p>
+     *
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<T extends Record> {
+
+        private final OmittableUpdateStatements.Builder<T> statements;
+
+        private Builder(OmittableUpdateStatements.Builder<T> statements) {
+            this.statements = statements;
+        }
+
+        /**
+         * Sets the name of the column for the given component.
+         *
+         * @param component the name of the component
+         * @param column    the name of the column
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> column(String component, String column) {
+            this.statements.column(component, column);
+            return this;
+        }
+
+        /**
+         * Sets the components that identify the row to update.
+         *
+         * @param components    the names of the key components
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with one of the given names, or if one of the
+         *                                  components is an {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> keys(String... components) {
+            this.statements.keys(components);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached statements.
+         *
+         * <p>A value of zero disables the cache.</p>
+         *
+         * @param statementCacheSize    the maximum number of cached statements
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is negative
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> statementCacheSize(int statementCacheSize) {
+            this.statements.statementCacheSize(statementCacheSize);
+            return this;
+        }
+
+        /**
+         * {@return a new updater}
+         *
+         * @throws IllegalStateException if no key component is configured and the record has no component that is not
+         *                               an {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public OmittableRecordUpdater<T> build() {
+            return new OmittableRecordUpdater<>(this.statements.build());
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import org.jspecify.annotations.Nullable;
+
+@Entity
+public class Person {
+
+    @Id
+    private Long id;
+
+    private String firstName;
+
+    private @Nullable String email;
+
+    private int age;
+
+    @Version
+    private long version;
+
+    protected Person() {}
+
+    public Person(Long id, String firstName, @Nullable String email, int age) {
+        this.id = id;
+        this.firstName = firstName;
+        this.email = email;
+        this.age = age;
+    }
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public String getFirstName() {
+        return this.firstName;
+    }
+
+    public @Nullable String getEmail() {
+        return this.email;
+    }
+
+    public int getAge() {
+        return this.age;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+}
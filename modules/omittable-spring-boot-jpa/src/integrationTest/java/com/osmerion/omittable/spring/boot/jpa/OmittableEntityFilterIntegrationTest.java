@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jpa;
+
+import com.example.Main;
+import com.example.model.Person;
+import com.example.model.PersonFilter;
+import com.example.model.PersonRepository;
+import com.osmerion.omittable.Omittable;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(classes = Main.class)
+public final class OmittableEntityFilterIntegrationTest {
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private OmittableEntityFilter<Person, PersonFilter> filter;
+
+    @BeforeEach
+    public void setUp() {
+        this.repository.deleteAll();
+        this.repository.saveAll(List.of(
+            new Person(1L, "Karl", "karl@example.com", 30),
+            new Person(2L, "Karl", null, 40),
+            new Person(3L, "Carla", null, 30)
+        ));
+
+        this.filter = OmittableEntityFilter.builder(this.entityManagerFactory.getMetamodel(), Person.class, PersonFilter.class).build();
+    }
+
+    @Test
+    public void testAbsentComponentsDoNotRestrict() {
+        assertThat(this.findIds(new PersonFilter(Omittable.absent(), Omittable.absent(), Omittable.absent()))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void testPresentComponentsRestrict() {
+        assertThat(this.findIds(new PersonFilter(Omittable.of("Karl"), Omittable.absent(), Omittable.absent()))).containsExactly(1L, 2L);
+        assertThat(this.findIds(new PersonFilter(Omittable.of("Karl"), Omittable.absent(), Omittable.of(40)))).containsExactly(2L);
+    }
+
+    @Test
+    public void testNullComponentsRestrictToNull() {
+        assertThat(this.findIds(new PersonFilter(Omittable.absent(), Omittable.of(null), Omittable.of(30)))).containsExactly(3L);
+    }
+
+    @Test
+    public void testPlansAreSharedAcrossValues() {
+        for (int age = 0; age < 50; age++) {
+            this.findIds(new PersonFilter(Omittable.absent(), Omittable.absent(), Omittable.of(age)));
+        }
+
+        this.findIds(new PersonFilter(Omittable.absent(), Omittable.of(null), Omittable.absent()));
+        this.findIds(new PersonFilter(Omittable.absent(), Omittable.of("karl@example.com"), Omittable.absent()));
+
+        assertThat(this.filter.getCachedPlanCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testUnknownAttribute() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+            OmittableEntityFilter.builder(this.entityManagerFactory.getMetamodel(), Person.class, PersonFilter.class)
+                .attribute("firstName", "nickname")
+                .build()
+        );
+    }
+
+    private List<Long> findIds(PersonFilter personFilter) {
+        return this.repository.findAll(this.filter.toSpecification(personFilter), Sort.by("id")).stream()
+            .map(Person::getId)
+            .toList();
+    }
+
+}
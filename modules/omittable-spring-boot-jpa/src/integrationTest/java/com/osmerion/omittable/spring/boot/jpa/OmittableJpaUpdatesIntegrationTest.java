@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jpa;
+
+import com.example.Main;
+import com.example.model.Person;
+import com.example.model.PersonPatch;
+import com.example.model.PersonRepository;
+import com.example.model.VersionedPersonPatch;
+import com.osmerion.omittable.Omittable;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(
+    classes = Main.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+public final class OmittableJpaUpdatesIntegrationTest {
+
+    @Autowired
+    private OmittableJpaUpdates updates;
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        this.repository.deleteAll();
+        this.repository.saveAll(List.of(
+            new Person(1L, "Name1", "mail1@example.com", 21),
+            new Person(2L, "Name2", "mail2@example.com", 22)
+        ));
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    public void testUpdate() {
+        Integer count = this.transactionTemplate.execute(status ->
+            this.updates.update(Person.class, 1L, new PersonPatch(Omittable.of("Karl"), Omittable.of(null), Omittable.absent()))
+        );
+
+        assertThat(count).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+
+        Person person = this.repository.findById(1L).orElseThrow();
+        assertThat(person.getFirstName()).isEqualTo("Karl");
+        assertThat(person.getEmail()).isNull();
+        assertThat(person.getAge()).isEqualTo(21);
+        assertThat(person.getVersion()).isEqualTo(1L);
+
+        assertThat(this.repository.findById(2L).orElseThrow().getFirstName()).isEqualTo("Name2");
+    }
+
+    @Test
+    public void testUpdateWithoutLockingIncrementsVersion() {
+        this.transactionTemplate.executeWithoutResult(status ->
+            this.updates.update(Person.class, 2L, new PersonPatch(Omittable.absent(), Omittable.absent(), Omittable.of(42)))
+        );
+
+        Person person = this.repository.findById(2L).orElseThrow();
+        assertThat(person.getAge()).isEqualTo(42);
+        assertThat(person.getVersion()).isEqualTo(1L);
+
+        assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class).isThrownBy(() -> this.transactionTemplate.execute(status ->
+            this.updates.updateVersioned(Person.class, 2L, new VersionedPersonPatch(0L, Omittable.of("Stale"), Omittable.absent()))
+        ));
+
+        assertThat(this.repository.findById(2L).orElseThrow().getFirstName()).isEqualTo("Name2");
+    }
+
+    @Test
+    public void testUpdateWithoutPresentComponents() {
+        Integer count = this.transactionTemplate.execute(status ->
+            this.updates.update(Person.class, 1L, new PersonPatch(Omittable.absent(), Omittable.absent(), Omittable.absent()))
+        );
+
+        assertThat(count).isZero();
+        assertThat(this.statistics.getQueryExecutionCount()).isZero();
+    }
+
+    @Test
+    public void testUpdateVersioned() {
+        Integer count = this.transactionTemplate.execute(status ->
+            this.updates.updateVersioned(Person.class, 2L, new VersionedPersonPatch(0L, Omittable.absent(), Omittable.of("karl@example.com")))
+        );
+
+        assertThat(count).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+
+        Person person = this.repository.findById(2L).orElseThrow();
+        assertThat(person.getFirstName()).isEqualTo("Name2");
+        assertThat(person.getEmail()).isEqualTo("karl@example.com");
+        assertThat(person.getVersion()).isEqualTo(1L);
+
+        assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class).isThrownBy(() -> this.transactionTemplate.execute(status ->
+            this.updates.updateVersioned(Person.class, 2L, new VersionedPersonPatch(0L, Omittable.of("Stale"), Omittable.absent()))
+        ));
+
+        assertThat(this.repository.findById(2L).orElseThrow().getFirstName()).isEqualTo("Name2");
+    }
+
+    @Test
+    public void testUpdater() {
+        OmittableEntityUpdater<Person, PersonPatch> updater = this.updates.getUpdater(Person.class, PersonPatch.class, false);
+
+        assertThat(this.updates.getUpdater(Person.class, PersonPatch.class, false)).isSameAs(updater);
+        assertThat(updater.isOptimisticLocking()).isFalse();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> this.updates.getUpdater(Person.class, PersonPatch.class, true));
+    }
+
+}
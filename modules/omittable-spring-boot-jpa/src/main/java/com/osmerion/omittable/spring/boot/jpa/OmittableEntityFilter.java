@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jpa;
+
+import com.osmerion.omittable.spring.boot.core.patch.OmittableRecordType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Restricts queries for entities by filters that are described by records with {@code Omittable} components.
+ *
+ * <p>The components of the record are mapped to the singular attributes of the entity with the same name once, when
+ * the filter is created. The predicate for a record only restricts the attributes of the present {@code Omittable}
+ * components and of the components that are not {@code Omittable}. A present component that wraps {@code null}
+ * restricts the attribute to {@code null}, while an absent component does not restrict the attribute. All other
+ * restrictions compare the attribute for equality with the value of the component.</p>
+ *
+ * <p>The restricted attributes are resolved once per combination of presence and null mask and cached. The cache is
+ * bounded. Once it is full, the attributes for further masks are resolved without caching. Values are passed to the
+ * {@link CriteriaBuilder} as is, so that persistence providers that bind criteria values as parameters (such as
+ * Hibernate, by default) produce one SQL statement per mask.</p>
+ *
+ * <p>Filters are thread-safe and should be reused.</p>
+ *
+ * @param <E>   the type of the entity
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableEntityFilter<E, T extends Record> {
+
+    /**
+     * The default maximum number of cached plans.
+     *
+     * @since   2.1.0
+     */
+    public static final int DEFAULT_PLAN_CACHE_SIZE = 256;
+
+    /**
+     * Creates a new builder for a filter that restricts entities of the given type by records of the given type.
+     *
+     * @param <E>           the type of the entity
+     * @param <T>           the type of the record
+     * @param metamodel     the metamodel of the persistence unit
+     * @param entityType    the type of the entity
+     * @param recordType    the type of the record
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given entity type is not managed or if the given record type is not
+     *                                  supported
+     *
+     * @since   2.1.0
+     */
+    public static <E, T extends Record> Builder<E, T> builder(Metamodel metamodel, Class<E> entityType, Class<T> recordType) {
+        return new Builder<>(metamodel.entity(entityType), OmittableRecordType.of(recordType));
+    }
+
+    private final Class<E> entityType;
+    private final OmittableRecordType<T> recordType;
+    private final List<Mapping> fixedMappings;
+    private final List<Mapping> omittableMappings;
+    private final int planCacheSize;
+    private final Map<Shape, Plan> plans;
+
+    private OmittableEntityFilter(Class<E> entityType, OmittableRecordType<T> recordType, List<Mapping> fixedMappings, List<Mapping> omittableMappings, int planCacheSize) {
+        this.entityType = entityType;
+        this.recordType = recordType;
+        this.fixedMappings = fixedMappings;
+        this.omittableMappings = omittableMappings;
+        this.planCacheSize = planCacheSize;
+        this.plans = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@return the type of the entity}
+     *
+     * @since   2.1.0
+     */
+    public Class<E> getEntityType() {
+        return this.entityType;
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.recordType;
+    }
+
+    /**
+     * {@return the number of cached plans}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedPlanCount() {
+        return this.plans.size();
+    }
+
+    /**
+     * {@return the predicate that restricts the given root by the given filter}
+     *
+     * @param root      the root of the query
+     * @param builder   the builder to create the predicate with
+     * @param filter    the filter
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Predicate toPredicate(Root<E> root, CriteriaBuilder builder, T filter) {
+        Plan plan = this.getPlan(this.recordType.getPresenceMask(filter), this.recordType.getNullMask(filter));
+        Predicate[] predicates = new Predicate[plan.mappings.length];
+
+        for (int i = 0; i < predicates.length; i++) {
+            Mapping mapping = plan.mappings[i];
+            Path path = root.get((SingularAttribute) mapping.attribute);
+
+            predicates[i] = plan.nulls[i] ? builder.isNull(path) : builder.equal(path, mapping.component.getValue(filter));
+        }
+
+        return builder.and(predicates);
+    }
+
+    /**
+     * {@return a specification that restricts entities by the given filter}
+     *
+     * <p>This method requires Spring Data JPA.</p>
+     *
+     * @param filter    the filter
+     *
+     * @since   2.1.0
+     */
+    public Specification<E> toSpecification(T filter) {
+        return (root, query, builder) -> this.toPredicate(root, builder, filter);
+    }
+
+    private Plan getPlan(long presenceMask, long nullMask) {
+        Shape shape = new Shape(presenceMask, nullMask);
+        Plan plan = this.plans.get(shape);
+        if (plan != null) return plan;
+
+        plan = this.createPlan(presenceMask, nullMask);
+        if (this.plans.size() < this.planCacheSize) {
+            Plan existing = this.plans.putIfAbsent(shape, plan);
+            if (existing != null) plan = existing;
+        }
+
+        return plan;
+    }
+
+    private Plan createPlan(long presenceMask, long nullMask) {
+        List<Mapping> mappings = new ArrayList<>(this.fixedMappings);
+        int fixedCount = mappings.size();
+
+        for (Mapping mapping : this.omittableMappings) {
+            if ((presenceMask & mapping.component.getMask()) != 0L) mappings.add(mapping);
+        }
+
+        boolean[] nulls = new boolean[mappings.size()];
+        for (int i = fixedCount; i < nulls.length; i++) nulls[i] = (nullMask & mappings.get(i).component.getMask()) != 0L;
+
+        return new Plan(mappings.toArray(new Mapping[0]), nulls);
+    }
+
+    private record Mapping(OmittableRecordType.Component component, SingularAttribute<?, ?> attribute) {}
+
+    private record Shape(long presenceMask, long nullMask) {}
+
+    private record Plan(Mapping[] mappings, boolean[] nulls) {}
+
+    /**
+     * A builder for an {@link OmittableEntityFilter}.
+     *
+     * <p>By default, the components of the record are mapped to the attributes of the entity with the same name.</p>
+     *
+     * @param <E>   the type of the entity
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<E, T extends Record> {
+
+        private final EntityType<E> entityType;
+        private final OmittableRecordType<T> recordType;
+        private final Map<String, String> attributeNames = new HashMap<>();
+        private int planCacheSize = DEFAULT_PLAN_CACHE_SIZE;
+
+        private Builder(EntityType<E> entityType, OmittableRecordType<T> recordType) {
+            this.entityType = entityType;
+            this.recordType = recordType;
+        }
+
+        /**
+         * Sets the name of the entity attribute for the given component.
+         *
+         * @param component the name of the component
+         * @param attribute the name of the attribute
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<E, T> attribute(String component, String attribute) {
+            if (this.recordType.getComponent(component) == null) throw new IllegalArgumentException("No component '" + component + "' in record type: " + this.recordType.getType().getName());
+            this.attributeNames.put(component, attribute);
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached plans.
+         *
+         * <p>A value of zero disables the cache.</p>
+         *
+         * @param planCacheSize the maximum number of cached plans
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is negative
+         *
+         * @since   2.1.0
+         */
+        public Builder<E, T> planCacheSize(int planCacheSize) {
+            if (planCacheSize < 0) throw new IllegalArgumentException("planCacheSize must not be negative: " + planCacheSize);
+            this.planCacheSize = planCacheSize;
+
+            return this;
+        }
+
+        /**
+         * {@return a new filter}
+         *
+         * @throws IllegalArgumentException if a component cannot be mapped to a singular attribute of a compatible type
+         *
+         * @since   2.1.0
+         */
+        public OmittableEntityFilter<E, T> build() {
+            Class<E> javaType = this.entityType.getJavaType();
+
+            List<Mapping> fixedMappings = new ArrayList<>();
+            List<Mapping> omittableMappings = new ArrayList<>();
+
+            for (OmittableRecordType.Component component : this.recordType.getComponents()) {
+                String attributeName = this.attributeNames.getOrDefault(component.getName(), component.getName());
+
+                Attribute<? super E, ?> attribute;
+                try {
+                    attribute = this.entityType.getAttribute(attributeName);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("No attribute '" + attributeName + "' in entity type " + javaType.getName() + " for component: " + component, e);
+                }
+
+                if (!(attribute instanceof SingularAttribute<? super E, ?> singularAttribute)) {
+                    throw new IllegalArgumentException("Attribute '" + attributeName + "' of entity type " + javaType.getName() + " is not a singular attribute");
+                }
+
+                if (!ClassUtils.isAssignable(singularAttribute.getJavaType(), component.getValueType())) {
+                    throw new IllegalArgumentException("Component " + component + " of type " + component.getValueType().getName() + " is not comparable to attribute '" + attributeName + "' of type " + singularAttribute.getJavaType().getName());
+                }
+
+                (component.isOmittable() ? omittableMappings : fixedMappings).add(new Mapping(component, singularAttribute));
+            }
+
+            return new OmittableEntityFilter<>(javaType, this.recordType, List.copyOf(fixedMappings), List.copyOf(omittableMappings), this.planCacheSize);
+        }
+
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jpa;
+
+import com.osmerion.omittable.spring.boot.core.patch.OmittableRecordType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.jspecify.annotations.Nullable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies partial updates that are described by records with {@code Omittable} components to entities without loading
+ * them.
+ *
+ * <p>The components of the record are mapped to the singular attributes of the entity with the same name once, when
+ * the updater is created. An update is executed as a bulk {@link CriteriaUpdate} that only assigns the attributes of
+ * the present {@code Omittable} components and of the components that are not {@code Omittable}. A present component
+ * that wraps {@code null} sets the attribute to {@code null}, while an absent component leaves it untouched. A
+ * component that maps to the identifier attribute is ignored, since the entity is identified by the id that is passed
+ * to {@link #update(EntityManager, Object, Record)}.</p>
+ *
+ * <p>If the entity has a {@code @Version} attribute, each update increments the version, so that concurrent writers
+ * that rely on the optimistic locking of the entity observe the change. Only numeric versions are supported. If
+ * {@link Builder#optimisticLocking(boolean) optimistic locking} is enabled, the record must additionally have a
+ * component that maps to the version attribute. The update is then restricted to the version of that component, and
+ * an {@link ObjectOptimisticLockingFailureException} is thrown if no entity is updated.</p>
+ *
+ * <p>Bulk updates bypass the persistence context. Instances of the entity that are managed by the entity manager are
+ * not updated and should be refreshed or detached if they are used afterward. Updates must be executed within a
+ * transaction.</p>
+ *
+ * <p>Updaters are thread-safe and should be reused.</p>
+ *
+ * @param <E>   the type of the entity
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableEntityUpdater<E, T extends Record> {
+
+    /**
+     * Creates a new builder for an updater that applies records of the given type to entities of the given type.
+     *
+     * @param <E>           the type of the entity
+     * @param <T>           the type of the record
+     * @param metamodel     the metamodel of the persistence unit
+     * @param entityType    the type of the entity
+     * @param recordType    the type of the record
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given entity type is not managed or if the given record type is not
+     *                                  supported
+     *
+     * @since   2.1.0
+     */
+    public static <E, T extends Record> Builder<E, T> builder(Metamodel metamodel, Class<E> entityType, Class<T> recordType) {
+        return new Builder<>(metamodel.entity(entityType), OmittableRecordType.of(recordType));
+    }
+
+    private final Class<E> entityType;
+    private final OmittableRecordType<T> recordType;
+    private final SingularAttribute<? super E, ?> idAttribute;
+    private final @Nullable SingularAttribute<? super E, ?> versionAttribute;
+    private final OmittableRecordType.@Nullable Component versionComponent;
+    private final List<Mapping> fixedMappings;
+    private final List<Mapping> omittableMappings;
+
+    private OmittableEntityUpdater(
+        Class<E> entityType,
+        OmittableRecordType<T> recordType,
+        SingularAttribute<? super E, ?> idAttribute,
+        @Nullable SingularAttribute<? super E, ?> versionAttribute,
+        OmittableRecordType.@Nullable Component versionComponent,
+        List<Mapping> fixedMappings,
+        List<Mapping> omittableMappings
+    ) {
+        this.entityType = entityType;
+        this.recordType = recordType;
+        this.idAttribute = idAttribute;
+        this.versionAttribute = versionAttribute;
+        this.versionComponent = versionComponent;
+        this.fixedMappings = fixedMappings;
+        this.omittableMappings = omittableMappings;
+    }
+
+    /**
+     * {@return the type of the entity}
+     *
+     * @since   2.1.0
+     */
+    public Class<E> getEntityType() {
+        return this.entityType;
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.recordType;
+    }
+
+    /**
+     * {@return whether optimistic locking is enabled}
+     *
+     * @since   2.1.0
+     */
+    public boolean isOptimisticLocking() {
+        return this.versionComponent != null;
+    }
+
+    /**
+     * Applies the given record to the entity with the given id.
+     *
+     * <p>If no attribute would be assigned, no statement is executed and {@code 0} is returned.</p>
+     *
+     * @param entityManager the entity manager to execute the update with
+     * @param id            the id of the entity
+     * @param record        the record
+     *
+     * @return  the number of updated entities
+     *
+     * @throws ObjectOptimisticLockingFailureException  if optimistic locking is enabled and no entity with the given id
+     *                                                  and version exists
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public int update(EntityManager entityManager, Object id, T record) {
+        long presenceMask = this.recordType.getPresenceMask(record);
+
+        List<Mapping> assignedMappings = new ArrayList<>(this.fixedMappings);
+        for (Mapping mapping : this.omittableMappings) {
+            if ((presenceMask & mapping.component.getMask()) != 0L) assignedMappings.add(mapping);
+        }
+
+        if (assignedMappings.isEmpty()) return 0;
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<E> update = builder.createCriteriaUpdate(this.entityType);
+        Root<E> root = update.from(this.entityType);
+
+        for (Mapping mapping : assignedMappings) {
+            Path path = root.get(mapping.attribute);
+            Object value = mapping.component.getValue(record);
+
+            if (value != null) {
+                update.set(path, value);
+            } else {
+                update.set(path, builder.nullLiteral(mapping.attribute.getJavaType()));
+            }
+        }
+
+        Predicate restriction = builder.equal(root.get(this.idAttribute), id);
+
+        SingularAttribute<? super E, ?> versionAttribute = this.versionAttribute;
+        OmittableRecordType.Component versionComponent = this.versionComponent;
+        if (versionAttribute != null) {
+            Path version = root.get(versionAttribute);
+            update.set(version, builder.sum(version, (Number) 1));
+
+            if (versionComponent != null) {
+                Object expectedVersion = versionComponent.getValue(record);
+                restriction = builder.and(restriction, builder.equal(version, expectedVersion));
+            }
+        }
+
+        update.where(restriction);
+
+        int count = entityManager.createQuery(update).executeUpdate();
+        if (count == 0 && versionComponent != null) throw new ObjectOptimisticLockingFailureException(this.entityType, id);
+
+        return count;
+    }
+
+    private record Mapping(OmittableRecordType.Component component, SingularAttribute<?, ?> attribute) {}
+
+    /**
+     * A builder for an {@link OmittableEntityUpdater}.
+     *
+     * <p>By default, the components of the record are mapped to the attributes of the entity with the same name and
+     * optimistic locking is disabled.</p>
+     *
+     * @param <E>   the type of the entity
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<E, T extends Record> {
+
+        private final EntityType<E> entityType;
+        private final OmittableRecordType<T> recordType;
+        private final Map<String, String> attributeNames = new HashMap<>();
+        private boolean optimisticLocking;
+
+        private Builder(EntityType<E> entityType, OmittableRecordType<T> recordType) {
+            this.entityType = entityType;
+            this.recordType = recordType;
+        }
+
+        /**
+         * Sets the name of the entity attribute for the given component.
+         *
+         * @param component the name of the component
+         * @param attribute the name of the attribute
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<E, T> attribute(String component, String attribute) {
+            if (this.recordType.getComponent(component) == null) throw new IllegalArgumentException("No component '" + component + "' in record type: " + this.recordType.getType().getName());
+            this.attributeNames.put(component, attribute);
+
+            return this;
+        }
+
+        /**
+         * Sets whether the updates are guarded by the {@code @Version} attribute of the entity.
+         *
+         * <p>The version of the entity is incremented by every update regardless of this setting.</p>
+         *
+         * @param optimisticLocking whether optimistic locking is enabled
+         *
+         * @return  this builder
+         *
+         * @since   2.1.0
+         */
+        public Builder<E, T> optimisticLocking(boolean optimisticLocking) {
+            this.optimisticLocking = optimisticLocking;
+            return this;
+        }
+
+        /**
+         * {@return a new updater}
+         *
+         * @throws IllegalArgumentException if the entity does not have a single id attribute, if the version attribute
+         *                                  of the entity is not numeric, if a component cannot be mapped to a singular
+         *                                  attribute of a compatible type, or if optimistic locking is enabled and the
+         *                                  entity or the record has no suitable version
+         *
+         * @since   2.1.0
+         */
+        public OmittableEntityUpdater<E, T> build() {
+            Class<E> javaType = this.entityType.getJavaType();
+            if (!this.entityType.hasSingleIdAttribute()) throw new IllegalArgumentException("Entity type " + javaType.getName() + " does not have a single id attribute");
+
+            SingularAttribute<? super E, ?> idAttribute = this.entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Entity type " + javaType.getName() + " does not have an id attribute"));
+
+            SingularAttribute<? super E, ?> versionAttribute = this.entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .findFirst()
+                .orElse(null);
+
+            if (versionAttribute != null && !Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(versionAttribute.getJavaType()))) {
+                throw new IllegalArgumentException("Version attribute '" + versionAttribute.getName() + "' of entity type " + javaType.getName() + " is not numeric");
+            }
+
+            OmittableRecordType.Component versionComponent = null;
+
+            List<Mapping> fixedMappings = new ArrayList<>();
+            List<Mapping> omittableMappings = new ArrayList<>();
+
+            for (OmittableRecordType.Component component : this.recordType.getComponents()) {
+                String attributeName = this.attributeNames.getOrDefault(component.getName(), component.getName());
+
+                Attribute<? super E, ?> attribute;
+                try {
+                    attribute = this.entityType.getAttribute(attributeName);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("No attribute '" + attributeName + "' in entity type " + javaType.getName() + " for component: " + component, e);
+                }
+
+                if (!(attribute instanceof SingularAttribute<? super E, ?> singularAttribute)) {
+                    throw new IllegalArgumentException("Attribute '" + attributeName + "' of entity type " + javaType.getName() + " is not a singular attribute");
+                }
+
+                if (!ClassUtils.isAssignable(singularAttribute.getJavaType(), component.getValueType())) {
+                    throw new IllegalArgumentException("Component " + component + " of type " + component.getValueType().getName() + " is not assignable to attribute '" + attributeName + "' of type " + singularAttribute.getJavaType().getName());
+                }
+
+                if (singularAttribute.isId()) continue;
+
+                if (singularAttribute.isVersion()) {
+                    if (!this.optimisticLocking) continue;
+                    if (component.isOmittable()) throw new IllegalArgumentException("Version component must not be an Omittable: " + component);
+
+                    versionComponent = component;
+                    continue;
+                }
+
+                (component.isOmittable() ? omittableMappings : fixedMappings).add(new Mapping(component, singularAttribute));
+            }
+
+            if (this.optimisticLocking && versionComponent == null) {
+                throw new IllegalArgumentException("Record type " + this.recordType.getType().getName() + " has no component for the version attribute of entity type " + javaType.getName());
+            }
+
+            return new OmittableEntityUpdater<>(
+                javaType,
+                this.recordType,
+                idAttribute,
+                versionAttribute,
+                versionComponent,
+                List.copyOf(fixedMappings),
+                List.copyOf(omittableMappings)
+            );
+        }
+
+    }
+
+}
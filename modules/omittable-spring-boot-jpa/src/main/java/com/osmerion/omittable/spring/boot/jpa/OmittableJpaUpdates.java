@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies partial updates that are described by records with {@code Omittable} components to entities using the
+ * transactional shared {@link EntityManager} of an {@link EntityManagerFactory}.
+ *
+ * <p>An {@link OmittableEntityUpdater} with the default attribute mapping is created once per entity type, record type,
+ * and locking mode and reused for subsequent updates. Updates must be executed within a transaction.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableJpaUpdates {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final Map<UpdaterKey, OmittableEntityUpdater<?, ?>> updaters;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param entityManagerFactory  the factory of the entity managers to execute the updates with
+     *
+     * @since   2.1.0
+     */
+    public OmittableJpaUpdates(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.updaters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@return the updater for the given entity and record type}
+     *
+     * @param <E>               the type of the entity
+     * @param <T>               the type of the record
+     * @param entityType        the type of the entity
+     * @param recordType        the type of the record
+     * @param optimisticLocking whether optimistic locking is enabled
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <E, T extends Record> OmittableEntityUpdater<E, T> getUpdater(Class<E> entityType, Class<T> recordType, boolean optimisticLocking) {
+        return (OmittableEntityUpdater<E, T>) this.updaters.computeIfAbsent(
+            new UpdaterKey(entityType, recordType, optimisticLocking),
+            key -> OmittableEntityUpdater.builder(this.entityManagerFactory.getMetamodel(), entityType, recordType)
+                .optimisticLocking(optimisticLocking)
+                .build()
+        );
+    }
+
+    /**
+     * Applies the given record to the entity with the given id.
+     *
+     * @param <T>           the type of the record
+     * @param entityType    the type of the entity
+     * @param id            the id of the entity
+     * @param record        the record
+     *
+     * @return  the number of updated entities
+     *
+     * @see OmittableEntityUpdater#update(EntityManager, Object, Record)
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> int update(Class<?> entityType, Object id, T record) {
+        return this.getUpdater(entityType, (Class<T>) record.getClass(), false).update(this.entityManager, id, record);
+    }
+
+    /**
+     * Applies the given record to the entity with the given id if the entity has the version of the record.
+     *
+     * @param <T>           the type of the record
+     * @param entityType    the type of the entity
+     * @param id            the id of the entity
+     * @param record        the record
+     *
+     * @return  the number of updated entities
+     *
+     * @throws ObjectOptimisticLockingFailureException  if no entity with the given id and version exists
+     *
+     * @see OmittableEntityUpdater#update(EntityManager, Object, Record)
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> int updateVersioned(Class<?> entityType, Object id, T record) {
+        return this.getUpdater(entityType, (Class<T>) record.getClass(), true).update(this.entityManager, id, record);
+    }
+
+    private record UpdaterKey(Class<?> entityType, Class<?> recordType, boolean optimisticLocking) {}
+
+}
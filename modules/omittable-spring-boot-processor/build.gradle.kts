@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    id("com.osmerion.maven-publish-conventions")
+    `java-library`
+    `jvm-test-suite`
+}
+
+java {
+    withSourcesJar()
+    withJavadocJar()
+}
+
+testing {
+    suites {
+        register<JvmTestSuite>("integrationTest") {
+            useJUnitJupiter()
+
+            dependencies {
+                annotationProcessor(project())
+
+                implementation(project(":omittable-spring-boot-core"))
+
+                implementation(platform(libs.spring.boot.dependencies))
+                implementation(libs.jackson.databind)
+                implementation(libs.spring.boot.starter.test)
+            }
+        }
+    }
+}
+
+tasks {
+    check {
+        dependsOn(testing.suites.named("integrationTest"))
+    }
+}
+
+publishing {
+    publications.register<MavenPublication>("mavenJava") {
+        from(components["java"])
+
+        pom {
+            description = "Annotation processor that generates compact patch types for Omittable properties."
+        }
+    }
+}
+
+dependencies {
+    compileOnly(libs.jspecify)
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.processor;
+
+import com.example.model.AddressChanges;
+import com.example.model.AddressUpdate;
+import com.example.model.PersonUpdate;
+import com.example.model.PersonUpdatePatch;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.patch.OmittablePatch;
+import com.osmerion.omittable.spring.boot.core.patch.OmittablePatchModule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public final class OmittablePatchProcessorIntegrationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new OmittablePatchModule());
+
+    @Test
+    public void testDeserializeInterface() throws Exception {
+        PersonUpdate update = this.objectMapper.readValue("""
+            {"firstName": "Karl", "e_mail": null, "tags": ["a", "b"]}
+            """, PersonUpdate.class);
+
+        assertThat(update).isInstanceOf(PersonUpdatePatch.class);
+        assertThat(update.firstName()).isEqualTo(Omittable.of("Karl"));
+        assertThat(update.email()).isEqualTo(Omittable.of(null));
+        assertThat(update.age()).isEqualTo(Omittable.absent());
+        assertThat(update.tags()).isEqualTo(Omittable.of(List.of("a", "b")));
+    }
+
+    @Test
+    public void testPresenceMask() throws Exception {
+        PersonUpdatePatch patch = this.objectMapper.readValue("""
+            {"e_mail": "karl@example.com", "age": 42}
+            """, PersonUpdatePatch.class);
+
+        assertThat(patch.getPresenceMask()).isEqualTo(PersonUpdatePatch.EMAIL | PersonUpdatePatch.AGE);
+        assertThat(patch.hasFirstName()).isFalse();
+        assertThat(patch.hasAge()).isTrue();
+        assertThat(patch.getAge()).isEqualTo(42);
+    }
+
+    @Test
+    public void testPrimitiveNull() throws Exception {
+        PersonUpdatePatch patch = this.objectMapper.readValue("""
+            {"age": null}
+            """, PersonUpdatePatch.class);
+
+        assertThat(patch.hasAge()).isTrue();
+        assertThat(patch.getAge()).isNull();
+        assertThat(patch.age()).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    public void testSetters() {
+        PersonUpdatePatch patch = new PersonUpdatePatch()
+            .setFirstName("Karl")
+            .setAge(null);
+
+        assertThat(patch.getPresenceMask()).isEqualTo(PersonUpdatePatch.FIRST_NAME | PersonUpdatePatch.AGE);
+        assertThat(patch.email()).isEqualTo(Omittable.absent());
+        assertThat(patch).isEqualTo(new PersonUpdatePatch().setAge(null).setFirstName("Karl"));
+        assertThat(patch).isNotEqualTo(new PersonUpdatePatch().setFirstName("Karl"));
+        assertThat(patch).hasToString("PersonUpdatePatch{firstName=Karl, age=null}");
+    }
+
+    @Test
+    public void testRecordPatch() throws Exception {
+        AddressUpdate update = this.objectMapper.readValue("""
+            {"primary": true}
+            """, AddressChanges.class).toRecord();
+
+        assertThat(update).isEqualTo(new AddressUpdate(Omittable.absent(), Omittable.of(true)));
+    }
+
+    @Test
+    public void testUnknownProperties() {
+        assertThatExceptionOfType(UnrecognizedPropertyException.class)
+            .isThrownBy(() -> this.objectMapper.readValue("""
+                {"firstName": "Karl", "nickname": "K"}
+                """, PersonUpdate.class));
+
+        ObjectMapper lenientMapper = this.objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        assertThatNoException().isThrownBy(() -> {
+            PersonUpdate update = lenientMapper.readValue("""
+                {"nickname": {"nested": [1, 2]}, "firstName": "Karl"}
+                """, PersonUpdate.class);
+
+            assertThat(update.firstName()).isEqualTo(Omittable.of("Karl"));
+        });
+    }
+
+    @Test
+    public void testIsOmittablePatch() {
+        assertThat(new PersonUpdatePatch()).isInstanceOf(OmittablePatch.class);
+        assertThat(new AddressChanges().getPresenceMask()).isZero();
+    }
+
+}
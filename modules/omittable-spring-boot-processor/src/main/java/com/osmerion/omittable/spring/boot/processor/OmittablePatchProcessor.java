@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An annotation processor that generates compact patch classes for types that are annotated with
+ * {@code @GenerateOmittablePatch}.
+ *
+ * <p>See {@code com.osmerion.omittable.spring.boot.core.patch.GenerateOmittablePatch} for details.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@SupportedAnnotationTypes(OmittablePatchProcessor.ANNOTATION)
+public final class OmittablePatchProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.osmerion.omittable.spring.boot.core.patch.GenerateOmittablePatch";
+    static final String INDEX_LOCATION = "META-INF/omittable/patch-types";
+
+    private static final String OMITTABLE = "com.osmerion.omittable.Omittable";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String STD_DESERIALIZER = "com.fasterxml.jackson.databind.deser.std.StdDeserializer";
+    private static final String NULLABLE = "org.jspecify.annotations.Nullable";
+
+    private static final int MAX_PROPERTIES = Long.SIZE;
+    private static final Set<String> RESERVED_NAMES = Set.of("nullMask", "presenceMask");
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    public OmittablePatchProcessor() {}
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Elements elements = this.processingEnv.getElementUtils();
+        TypeElement annotation = elements.getTypeElement(ANNOTATION);
+
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) this.process(type, annotation);
+            }
+        }
+
+        if (roundEnv.processingOver() && !this.index.isEmpty()) this.writeIndex();
+        return false;
+    }
+
+    private void process(TypeElement type, TypeElement annotation) {
+        boolean isRecord = type.getKind() == ElementKind.RECORD;
+
+        if (!isRecord && type.getKind() != ElementKind.INTERFACE) {
+            this.error(type, "@GenerateOmittablePatch is only supported on interfaces and records");
+            return;
+        }
+
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS || type.getModifiers().contains(Modifier.PRIVATE)) {
+            this.error(type, "@GenerateOmittablePatch is not supported on local or private types");
+            return;
+        }
+
+        if (!type.getTypeParameters().isEmpty()) {
+            this.error(type, "@GenerateOmittablePatch is not supported on generic types");
+            return;
+        }
+
+        List<PatchProperty> properties = this.collectProperties(type, isRecord);
+        if (properties == null) return;
+
+        Elements elements = this.processingEnv.getElementUtils();
+        PackageElement packageElement = elements.getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String simpleName = this.generatedSimpleName(type, annotation);
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        PatchSourceWriter writer = new PatchSourceWriter(
+            packageName,
+            simpleName,
+            type.getQualifiedName().toString(),
+            isRecord,
+            properties,
+            elements.getTypeElement(STD_DESERIALIZER) != null,
+            elements.getTypeElement(NULLABLE) != null
+        );
+
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer out = file.openWriter()) {
+                out.write(writer.write());
+            }
+        } catch (IOException e) {
+            this.error(type, "Failed to write " + qualifiedName + ": " + e.getMessage());
+            return;
+        }
+
+        if (!isRecord) this.index.put(elements.getBinaryName(type).toString(), qualifiedName);
+    }
+
+    private @Nullable List<PatchProperty> collectProperties(TypeElement type, boolean isRecord) {
+        List<PatchProperty> properties = new ArrayList<>();
+        boolean valid = true;
+
+        if (isRecord) {
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                PatchProperty property = this.createProperty(component, component.getSimpleName().toString(), component.asType(), properties.size());
+
+                if (property == null) {
+                    valid = false;
+                } else {
+                    properties.add(property);
+                }
+            }
+        } else {
+            for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+                if (!method.getModifiers().contains(Modifier.ABSTRACT)) continue;
+
+                if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) {
+                    this.error(method, "Methods of @GenerateOmittablePatch interfaces must not have parameters");
+                    valid = false;
+                    continue;
+                }
+
+                PatchProperty property = this.createProperty(method, method.getSimpleName().toString(), method.getReturnType(), properties.size());
+
+                if (property == null) {
+                    valid = false;
+                } else {
+                    properties.add(property);
+                }
+            }
+        }
+
+        if (properties.size() > MAX_PROPERTIES) {
+            this.error(type, "@GenerateOmittablePatch types must not have more than " + MAX_PROPERTIES + " properties");
+            valid = false;
+        }
+
+        return valid ? properties : null;
+    }
+
+    private @Nullable PatchProperty createProperty(Element element, String name, TypeMirror type, int bit) {
+        Types types = this.processingEnv.getTypeUtils();
+
+        if (RESERVED_NAMES.contains(name)) {
+            this.error(element, "'" + name + "' is reserved for the state of generated patches");
+            return null;
+        }
+
+        if (type.getKind() != TypeKind.DECLARED || !((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(OMITTABLE)) {
+            this.error(element, "Properties of @GenerateOmittablePatch types must be of type Omittable");
+            return null;
+        }
+
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        if (typeArguments.size() != 1 || typeArguments.get(0).getKind() == TypeKind.WILDCARD || typeArguments.get(0).getKind() == TypeKind.TYPEVAR) {
+            this.error(element, "Properties of @GenerateOmittablePatch types must declare a concrete value type");
+            return null;
+        }
+
+        TypeMirror valueType = typeArguments.get(0);
+
+        String primitiveType = null;
+        try {
+            primitiveType = types.unboxedType(valueType).toString();
+        } catch (IllegalArgumentException e) {
+            // The value type is not a boxed primitive type.
+        }
+
+        return new PatchProperty(
+            name,
+            this.jsonName(element, name),
+            TypeNames.sourceName(valueType),
+            TypeNames.isGeneric(valueType) ? null : TypeNames.erasedSourceName(types.erasure(valueType)),
+            primitiveType,
+            bit
+        );
+    }
+
+    private String jsonName(Element element, String name) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_PROPERTY)) continue;
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    String value = entry.getValue().getValue().toString();
+                    if (!value.isEmpty()) return value;
+                }
+            }
+        }
+
+        return name;
+    }
+
+    private String generatedSimpleName(TypeElement type, TypeElement annotation) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) continue;
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("name")) {
+                    String value = entry.getValue().getValue().toString();
+                    if (!value.isEmpty()) return value;
+                }
+            }
+        }
+
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement enclosingType; enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosingType.getSimpleName());
+        }
+
+        return name.append("Patch").toString();
+    }
+
+    private void writeIndex() {
+        Filer filer = this.processingEnv.getFiler();
+
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer out = file.openWriter()) {
+                for (Map.Entry<String, String> entry : this.index.entrySet()) {
+                    out.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.processor;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A property of a patch type.
+ *
+ * @param name          the name of the property
+ * @param jsonName      the name of the property in JSON documents
+ * @param valueType     the source representation of the wrapped value type
+ * @param rawValueType  the source representation of the wrapped value type if it is not generic, or {@code null}
+ * @param primitiveType the primitive type that is used to store the value, or {@code null} if the value type is not
+ *                      a boxed primitive type
+ * @param bit           the bit of the property in the presence mask
+ */
+record PatchProperty(
+    String name,
+    String jsonName,
+    String valueType,
+    @Nullable String rawValueType,
+    @Nullable String primitiveType,
+    int bit
+) {
+
+    String capitalizedName() {
+        return Character.toUpperCase(this.name.charAt(0)) + this.name.substring(1);
+    }
+
+    String constantName() {
+        StringBuilder constantName = new StringBuilder(this.name.length() + 4);
+
+        for (int i = 0; i < this.name.length(); i++) {
+            char c = this.name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) constantName.append('_');
+
+            constantName.append(Character.toUpperCase(c));
+        }
+
+        return constantName.toString();
+    }
+
+    boolean isArray() {
+        return this.valueType.endsWith("[]");
+    }
+
+}
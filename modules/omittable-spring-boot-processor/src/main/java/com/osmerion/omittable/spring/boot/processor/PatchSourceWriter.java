@@ -0,0 +1,384 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.processor;
+
+import java.util.List;
+
+/**
+ * Renders the source of a patch class.
+ */
+final class PatchSourceWriter {
+
+    private static final String OMITTABLE = "com.osmerion.omittable.Omittable";
+    private static final String JSON_TOKEN = "com.fasterxml.jackson.core.JsonToken";
+
+    private final String packageName;
+    private final String simpleName;
+    private final String sourceType;
+    private final boolean isRecord;
+    private final List<PatchProperty> properties;
+    private final boolean jackson;
+    private final boolean jspecify;
+    private final boolean hasPrimitives;
+
+    private final StringBuilder out = new StringBuilder();
+    private int indent;
+
+    PatchSourceWriter(String packageName, String simpleName, String sourceType, boolean isRecord, List<PatchProperty> properties, boolean jackson, boolean jspecify) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.sourceType = sourceType;
+        this.isRecord = isRecord;
+        this.properties = properties;
+        this.jackson = jackson;
+        this.jspecify = jspecify;
+        this.hasPrimitives = properties.stream().anyMatch(property -> property.primitiveType() != null);
+    }
+
+    String write() {
+        if (!this.packageName.isEmpty()) {
+            this.line("package " + this.packageName + ";");
+            this.line();
+        }
+
+        this.line("/**");
+        this.line(" * A compact patch that is generated for {@link " + this.sourceType + "}.");
+        this.line(" *");
+        this.line(" * <p>The presence of the properties is stored in a bitmask and the values are stored in plain fields.</p>");
+        this.line(" */");
+        this.line("@javax.annotation.processing.Generated(\"" + OmittablePatchProcessor.class.getName() + "\")");
+        if (this.jspecify) this.line("@org.jspecify.annotations.NullUnmarked");
+        if (this.jackson) this.line("@com.fasterxml.jackson.databind.annotation.JsonDeserialize(using = " + this.simpleName + ".Deserializer.class)");
+
+        String interfaces = this.isRecord
+            ? "com.osmerion.omittable.spring.boot.core.patch.OmittablePatch"
+            : this.sourceType + ", com.osmerion.omittable.spring.boot.core.patch.OmittablePatch";
+
+        this.open("public final class " + this.simpleName + " implements " + interfaces + " {");
+        this.line();
+        this.writeConstants();
+        this.writeFields();
+
+        this.line("public " + this.simpleName + "() {}");
+        this.line();
+
+        this.line("@Override");
+        this.open("public long getPresenceMask() {");
+        this.line("return this.presenceMask;");
+        this.close("}");
+
+        for (PatchProperty property : this.properties) {
+            this.line();
+            this.writeAccessors(property);
+        }
+
+        if (this.isRecord) {
+            this.line();
+            this.writeToRecord();
+        }
+
+        this.line();
+        this.writeEquals();
+        this.line();
+        this.writeHashCode();
+        this.line();
+        this.writeToString();
+
+        if (this.jackson) {
+            this.line();
+            this.writeDeserializer();
+        }
+
+        this.close("}");
+        return this.out.toString();
+    }
+
+    private void writeConstants() {
+        for (PatchProperty property : this.properties) {
+            this.line("/** The bit of the {@code " + property.name() + "} property in the presence mask. */");
+            this.line("public static final long " + property.constantName() + " = 1L << " + property.bit() + ";");
+            this.line();
+        }
+    }
+
+    private void writeFields() {
+        this.line("private long presenceMask;");
+        if (this.hasPrimitives) this.line("private long nullMask;");
+        this.line();
+
+        for (PatchProperty property : this.properties) {
+            String fieldType = (property.primitiveType() != null) ? property.primitiveType() : property.valueType();
+            this.line("private " + fieldType + " " + property.name() + ";");
+        }
+
+        this.line();
+    }
+
+    private void writeAccessors(PatchProperty property) {
+        String name = property.name();
+        String constant = property.constantName();
+        String presence = "(this.presenceMask & " + constant + ") != 0L";
+
+        if (!this.isRecord) this.line("@Override");
+        this.open("public " + OMITTABLE + "<" + property.valueType() + "> " + name + "() {");
+        this.line("if ((this.presenceMask & " + constant + ") == 0L) return " + OMITTABLE + ".absent();");
+        this.line("return " + OMITTABLE + ".of(this.get" + property.capitalizedName() + "());");
+        this.close("}");
+        this.line();
+
+        this.line("/** {@return whether the {@code " + name + "} property is present} */");
+        this.open("public boolean has" + property.capitalizedName() + "() {");
+        this.line("return " + presence + ";");
+        this.close("}");
+        this.line();
+
+        this.line("/** {@return the value of the {@code " + name + "} property, or {@code null} if it is absent} */");
+        this.open("public " + property.valueType() + " get" + property.capitalizedName() + "() {");
+        if (property.primitiveType() != null) {
+            this.line("return ((this.presenceMask & " + constant + ") == 0L || (this.nullMask & " + constant + ") != 0L) ? null : this." + name + ";");
+        } else {
+            this.line("return this." + name + ";");
+        }
+        this.close("}");
+        this.line();
+
+        this.line("/**");
+        this.line(" * Sets the value of the {@code " + name + "} property and marks it as present.");
+        this.line(" *");
+        this.line(" * @param " + name + " the value");
+        this.line(" *");
+        this.line(" * @return  this patch");
+        this.line(" */");
+        this.open("public " + this.simpleName + " set" + property.capitalizedName() + "(" + property.valueType() + " " + name + ") {");
+        if (property.primitiveType() != null) {
+            this.open("if (" + name + " == null) {");
+            this.line("this." + name + " = " + defaultValue(property.primitiveType()) + ";");
+            this.line("this.nullMask |= " + constant + ";");
+            this.dedent();
+            this.open("} else {");
+            this.line("this." + name + " = " + name + ";");
+            this.line("this.nullMask &= ~" + constant + ";");
+            this.close("}");
+            this.line();
+        } else {
+            this.line("this." + name + " = " + name + ";");
+        }
+        this.line("this.presenceMask |= " + constant + ";");
+        this.line("return this;");
+        this.close("}");
+    }
+
+    private void writeToRecord() {
+        StringBuilder arguments = new StringBuilder();
+        for (PatchProperty property : this.properties) {
+            if (arguments.length() > 0) arguments.append(", ");
+            arguments.append("this.").append(property.name()).append("()");
+        }
+
+        this.line("/** {@return a new {@link " + this.sourceType + "} with the properties of this patch} */");
+        this.open("public " + this.sourceType + " toRecord() {");
+        this.line("return new " + this.sourceType + "(" + arguments + ");");
+        this.close("}");
+    }
+
+    private void writeEquals() {
+        this.line("@Override");
+        this.open("public boolean equals(java.lang.Object obj) {");
+        this.line("if (this == obj) return true;");
+        this.line("if (!(obj instanceof " + this.simpleName + ")) return false;");
+        this.line();
+        this.line(this.simpleName + " other = (" + this.simpleName + ") obj;");
+        this.line("return this.presenceMask == other.presenceMask");
+        this.indent();
+        if (this.hasPrimitives) this.line("&& this.nullMask == other.nullMask");
+
+        for (PatchProperty property : this.properties) {
+            String name = property.name();
+            String primitiveType = property.primitiveType();
+
+            if (primitiveType == null) {
+                this.line("&& java.util.Objects." + (property.isArray() ? "deepEquals" : "equals") + "(this." + name + ", other." + name + ")");
+            } else if (primitiveType.equals("double") || primitiveType.equals("float")) {
+                this.line("&& java.lang." + (primitiveType.equals("double") ? "Double" : "Float") + ".compare(this." + name + ", other." + name + ") == 0");
+            } else {
+                this.line("&& this." + name + " == other." + name);
+            }
+        }
+
+        this.out.setLength(this.out.length() - 1);
+        this.out.append(";\n");
+        this.dedent();
+        this.close("}");
+    }
+
+    private void writeHashCode() {
+        this.line("@Override");
+        this.open("public int hashCode() {");
+        this.line("int result = java.lang.Long.hashCode(this.presenceMask);");
+        if (this.hasPrimitives) this.line("result = 31 * result + java.lang.Long.hashCode(this.nullMask);");
+
+        for (PatchProperty property : this.properties) {
+            String name = property.name();
+            String primitiveType = property.primitiveType();
+
+            if (primitiveType == null) {
+                String hash = property.isArray()
+                    ? "java.util.Arrays.deepHashCode(new java.lang.Object[] { this." + name + " })"
+                    : "java.util.Objects.hashCode(this." + name + ")";
+
+                this.line("result = 31 * result + " + hash + ";");
+            } else {
+                this.line("result = 31 * result + java.lang." + boxedName(primitiveType) + ".hashCode(this." + name + ");");
+            }
+        }
+
+        this.line("return result;");
+        this.close("}");
+    }
+
+    private void writeToString() {
+        this.line("@Override");
+        this.open("public java.lang.String toString() {");
+        this.line("java.util.StringJoiner joiner = new java.util.StringJoiner(\", \", \"" + this.simpleName + "{\", \"}\");");
+
+        for (PatchProperty property : this.properties) {
+            String value = property.isArray()
+                ? "java.util.Arrays.deepToString(new java.lang.Object[] { this." + property.name() + " })"
+                : "this.get" + property.capitalizedName() + "()";
+
+            this.line("if ((this.presenceMask & " + property.constantName() + ") != 0L) joiner.add(\"" + property.name() + "=\" + " + value + ");");
+        }
+
+        this.line("return joiner.toString();");
+        this.close("}");
+    }
+
+    private void writeDeserializer() {
+        this.line("/** A deserializer for {@link " + this.simpleName + "}. */");
+        this.open("public static final class Deserializer extends com.fasterxml.jackson.databind.deser.std.StdDeserializer<" + this.simpleName + "> {");
+        this.line();
+        this.line("private static final long serialVersionUID = 1L;");
+        this.line();
+
+        boolean hasTypeReferences = false;
+        for (PatchProperty property : this.properties) {
+            if (property.rawValueType() != null) continue;
+
+            String typeReference = "com.fasterxml.jackson.core.type.TypeReference<" + property.valueType() + ">";
+            this.line("private static final " + typeReference + " " + property.constantName() + "_TYPE = new " + typeReference + "() {};");
+            hasTypeReferences = true;
+        }
+
+        if (hasTypeReferences) this.line();
+
+        this.open("public Deserializer() {");
+        this.line("super(" + this.simpleName + ".class);");
+        this.close("}");
+        this.line();
+
+        this.line("@Override");
+        this.open("public " + this.simpleName + " deserialize(com.fasterxml.jackson.core.JsonParser parser, com.fasterxml.jackson.databind.DeserializationContext context) throws java.io.IOException {");
+        this.line(this.simpleName + " patch = new " + this.simpleName + "();");
+        this.line("java.lang.String name;");
+        this.line();
+        this.open("if (parser.isExpectedStartObjectToken()) {");
+        this.line("name = parser.nextFieldName();");
+        this.dedent();
+        this.open("} else if (parser.hasToken(" + JSON_TOKEN + ".FIELD_NAME)) {");
+        this.line("name = parser.currentName();");
+        this.dedent();
+        this.open("} else {");
+        this.line("return (" + this.simpleName + ") context.handleUnexpectedToken(" + this.simpleName + ".class, parser);");
+        this.close("}");
+        this.line();
+        this.open("for (; name != null; name = parser.nextFieldName()) {");
+        this.line("boolean isNull = parser.nextToken() == " + JSON_TOKEN + ".VALUE_NULL;");
+        this.line();
+        this.open("switch (name) {");
+
+        for (PatchProperty property : this.properties) {
+            String read = (property.rawValueType() != null)
+                ? "context.readValue(parser, " + property.rawValueType() + ".class)"
+                : "context.readValue(parser, context.getTypeFactory().constructType(" + property.constantName() + "_TYPE))";
+
+            this.open("case \"" + escape(property.jsonName()) + "\":");
+            this.line("patch.set" + property.capitalizedName() + "(isNull ? null : " + read + ");");
+            this.line("break;");
+            this.dedent();
+        }
+
+        this.open("default:");
+        this.line("context.handleUnknownProperty(parser, this, " + this.simpleName + ".class, name);");
+        this.dedent();
+        this.close("}");
+        this.close("}");
+        this.line();
+        this.line("return patch;");
+        this.close("}");
+        this.line();
+        this.close("}");
+    }
+
+    private void open(String line) {
+        this.line(line);
+        this.indent();
+    }
+
+    private void close(String line) {
+        this.dedent();
+        this.line(line);
+    }
+
+    private void indent() {
+        this.indent++;
+    }
+
+    private void dedent() {
+        this.indent--;
+    }
+
+    private void line() {
+        this.out.append('\n');
+    }
+
+    private void line(String line) {
+        this.out.append("    ".repeat(this.indent)).append(line).append('\n');
+    }
+
+    private static String boxedName(String primitiveType) {
+        switch (primitiveType) {
+            case "char": return "Character";
+            case "int": return "Integer";
+            default: return Character.toUpperCase(primitiveType.charAt(0)) + primitiveType.substring(1);
+        }
+    }
+
+    private static String defaultValue(String primitiveType) {
+        switch (primitiveType) {
+            case "boolean": return "false";
+            case "char": return "'\\0'";
+            case "double": return "0.0D";
+            case "float": return "0.0F";
+            case "long": return "0L";
+            default: return "0";
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+}
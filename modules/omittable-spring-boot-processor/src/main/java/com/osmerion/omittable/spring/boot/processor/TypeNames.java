@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import java.util.List;
+
+/**
+ * Utilities for rendering types as source code.
+ *
+ * <p>Types are rendered with fully qualified names and without type annotations, so that generated sources do not
+ * depend on imports.</p>
+ */
+final class TypeNames {
+
+    static String sourceName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return sourceName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED: {
+                DeclaredType declaredType = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+
+                List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+                if (!typeArguments.isEmpty()) {
+                    name.append('<');
+                    for (int i = 0; i < typeArguments.size(); i++) {
+                        if (i > 0) name.append(", ");
+                        name.append(sourceName(typeArguments.get(i)));
+                    }
+                    name.append('>');
+                }
+
+                return name.toString();
+            }
+            case WILDCARD: {
+                WildcardType wildcardType = (WildcardType) type;
+
+                if (wildcardType.getExtendsBound() != null) return "? extends " + sourceName(wildcardType.getExtendsBound());
+                if (wildcardType.getSuperBound() != null) return "? super " + sourceName(wildcardType.getSuperBound());
+                return "?";
+            }
+            case BOOLEAN: return "boolean";
+            case BYTE: return "byte";
+            case CHAR: return "char";
+            case DOUBLE: return "double";
+            case FLOAT: return "float";
+            case INT: return "int";
+            case LONG: return "long";
+            case SHORT: return "short";
+            default:
+                return type.toString();
+        }
+    }
+
+    static String erasedSourceName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return erasedSourceName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            default:
+                return sourceName(type);
+        }
+    }
+
+    static boolean isGeneric(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isGeneric(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return !((DeclaredType) type).getTypeArguments().isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    private TypeNames() {}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * A generic base controller whose handler method is inherited by controllers that bind different value types.
+ *
+ * @param <T>   the type of the value
+ */
+public abstract class AbstractValueController<T> {
+
+    @GetMapping
+    public Mono<String> value(@RequestParam(name = "value") Omittable<@Nullable T> value) {
+        if (!value.isPresent()) return Mono.just(value.toString());
+
+        T v = value.orElseThrow();
+        return Mono.just((v != null) ? v.getClass().getSimpleName() + ": " + v : "null");
+    }
+
+}
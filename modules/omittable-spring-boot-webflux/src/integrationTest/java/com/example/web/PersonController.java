@@ -15,16 +15,30 @@
  */
 package com.example.web;
 
+import com.example.model.AccountView;
+import com.example.model.AddressView;
+import com.example.model.PersonPatch;
+import com.example.model.PersonUpdate;
+import com.example.model.PersonView;
+import com.fasterxml.jackson.annotation.JsonView;
 import com.osmerion.omittable.Omittable;
 import org.jspecify.annotations.Nullable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/person")
 public final class PersonController {
 
+    private static final PersonView PERSON = new PersonView("Karl", "karl@example.com", new AddressView("Main Street", "Springfield"));
+    private static final PersonView OTHER_PERSON = new PersonView("Anna", "anna@example.com", new AddressView("Elm Street", "Shelbyville"));
+    private static final AccountView ACCOUNT = new AccountView("Karl", "s3cret");
+
     @GetMapping
     public Mono<ResponseEntity<String>> foo(
         @RequestParam(name = "required") String required,
@@ -33,4 +47,65 @@ public final class PersonController {
         return Mono.just(ResponseEntity.ok(required + ", " + omittable));
     }
 
+    @GetMapping("/id")
+    public Mono<String> id(@RequestParam(name = "myId") Omittable<@Nullable UUID> myId) {
+        return Mono.just(myId.toString());
+    }
+
+    @GetMapping("/ids")
+    public Mono<String> ids(@RequestParam(name = "ids") Omittable<@Nullable List<UUID>> ids) {
+        return Mono.just(ids.toString());
+    }
+
+    @GetMapping("/default")
+    public Mono<String> defaultValue(@RequestParam(name = "name", defaultValue = "Karl") Omittable<String> name) {
+        return Mono.just(name.toString());
+    }
+
+    @PostMapping("/echo")
+    public Mono<PersonPatch> echo(@RequestBody Mono<PersonPatch> patch) {
+        return patch;
+    }
+
+    @PostMapping("/describe")
+    public Mono<String> describe(@RequestBody Mono<PersonPatch> patch) {
+        return patch.map(PersonPatch::toString);
+    }
+
+    @PostMapping("/update")
+    public Mono<PersonUpdate> update(@RequestBody Mono<PersonUpdate> update) {
+        return update;
+    }
+
+    @PostMapping("/update/describe")
+    public Mono<String> describeUpdate(@RequestBody Mono<PersonUpdate> update) {
+        return update.map(PersonUpdate::toString);
+    }
+
+    @GetMapping("/view")
+    public Mono<PersonView> view() {
+        return Mono.just(PERSON);
+    }
+
+    @GetMapping("/view/untyped")
+    public Mono<Object> untypedView() {
+        return Mono.just(PERSON);
+    }
+
+    @GetMapping("/views")
+    public Flux<PersonView> views() {
+        return Flux.just(PERSON, OTHER_PERSON);
+    }
+
+    @GetMapping("/account")
+    @JsonView(AccountView.Public.class)
+    public Mono<AccountView> account() {
+        return Mono.just(ACCOUNT);
+    }
+
+    @PatchMapping(consumes = "application/merge-patch+json")
+    public Mono<String> patch(@RequestBody Mono<PersonPatch> patch) {
+        return patch.map(PersonPatch::toString);
+    }
+
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.example.web.PersonController;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.convert.CachingOmittableConverter;
+import com.sun.management.ThreadMXBean;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.DispatcherHandler;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Measures the allocations on the request handling path of {@code Omittable} request parameters and asserts ceilings
+ * on them.
+ *
+ * <p>Bytes are measured deterministically as the difference of the bytes that are allocated by the current thread
+ * ({@link ThreadMXBean#getCurrentThreadAllocatedBytes()}) around direct calls to the argument resolver (including the
+ * subscription to the resolved argument) and the converter, and around requests that are dispatched on the current
+ * thread. Each measurement is compared to a baseline for the same request parameters declared without
+ * {@code Omittable}, which is measured the same way. The ceilings are the baseline plus a margin for the
+ * {@code Omittable} wrappers.</p>
+ *
+ * <p>Objects are counted with JDK Flight Recorder while the {@link PersonController} endpoints handle a fixed request
+ * mix. Sampled allocations are attributed to the first frame of an Omittable class on the stack, and the test fails
+ * if the estimated number of objects per request exceeds a ceiling. The top allocation sites are reported in the
+ * failure message.</p>
+ *
+ * <p>The margins and the ceiling can be overridden using the {@code omittable.allocation.resolverMarginBytes},
+ * {@code omittable.allocation.converterMarginBytes}, {@code omittable.allocation.requestMarginBytes}, and
+ * {@code omittable.allocation.maxObjectsPerRequest} system properties.</p>
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class AllocationIntegrationTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final int REQUEST_WARMUP_ITERATIONS = 5_000;
+    private static final int REQUEST_MEASURED_ITERATIONS = 2_000;
+    private static final int ROUNDS = 5;
+
+    private static final int RECORDING_WARMUP_ITERATIONS = 500;
+    private static final int RECORDING_MEASURED_ITERATIONS = 2_500;
+
+    private static final long RESOLVER_MARGIN_BYTES = Long.getLong("omittable.allocation.resolverMarginBytes", 48L);
+    private static final long CONVERTER_MARGIN_BYTES = Long.getLong("omittable.allocation.converterMarginBytes", 48L);
+    private static final long REQUEST_MARGIN_BYTES = Long.getLong("omittable.allocation.requestMarginBytes", 64L);
+    private static final long MAX_OBJECTS_PER_REQUEST = Long.getLong("omittable.allocation.maxObjectsPerRequest", 64L);
+
+    private static final String ATTRIBUTED_PACKAGE_PREFIX = "com.osmerion.omittable.";
+    private static final String SAMPLE_ID = "d3a33656-3fb4-4430-8103-b7c60f018eb4";
+
+    private static @Nullable Object sink;
+    private static final Consumer<Object> SINK = value -> sink = value;
+
+    @SuppressWarnings("unused")
+    private static final class Handlers {
+
+        void plain(@RequestParam(name = "myId") UUID id) {}
+
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        @Nullable Object run() throws Exception;
+
+    }
+
+    @BeforeAll
+    public static void setup() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation accounting is not supported");
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /*
+     * Returns the minimum of the average bytes that are allocated per operation over several rounds. The minimum is
+     * used to ignore one-off allocations (e.g. of lazily initialized caches) in individual rounds.
+     */
+    private static long measure(Operation operation, int warmupIterations, int measuredIterations) throws Exception {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < warmupIterations; i++) sink = operation.run();
+
+        long bytesPerOperation = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < measuredIterations; i++) sink = operation.run();
+
+            bytesPerOperation = Math.min(bytesPerOperation, (threadMXBean.getCurrentThreadAllocatedBytes() - start) / measuredIterations);
+        }
+
+        return bytesPerOperation;
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private DispatcherHandler dispatcherHandler;
+
+    @Autowired
+    private RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+    @Autowired
+    private CachingOmittableConverter omittableConverter;
+
+    @Autowired
+    @Qualifier("webFluxConversionService")
+    private ConversionService conversionService;
+
+    @Test
+    public void testResolverAllocations() throws Exception {
+        MethodParameter omittableParameter = omittableParameter();
+        MethodParameter plainParameter = plainParameter();
+
+        HandlerMethodArgumentResolver omittableResolver = this.findResolver(omittableParameter);
+        HandlerMethodArgumentResolver plainResolver = this.findResolver(plainParameter);
+
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/person/id").queryParam("myId", SAMPLE_ID));
+        BindingContext bindingContext = new BindingContext(this.requestMappingHandlerAdapter.getWebBindingInitializer());
+
+        assertThat(omittableResolver.resolveArgument(omittableParameter, bindingContext, exchange).block())
+            .isEqualTo(Omittable.of(UUID.fromString(SAMPLE_ID)));
+
+        /* The resolved arguments are subscribed to, so that the allocations of the returned publishers are included. */
+        long baseline = measure(() -> plainResolver.resolveArgument(plainParameter, bindingContext, exchange).subscribe(SINK), WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+        long bytes = measure(() -> omittableResolver.resolveArgument(omittableParameter, bindingContext, exchange).subscribe(SINK), WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+
+        assertThat(bytes)
+            .as("Bytes allocated per resolved Omittable parameter (baseline: %d B)", baseline)
+            .isLessThanOrEqualTo(baseline + RESOLVER_MARGIN_BYTES);
+    }
+
+    @Test
+    public void testConverterAllocations() throws Exception {
+        TypeDescriptor sourceType = TypeDescriptor.valueOf(String.class);
+        TypeDescriptor omittableType = new TypeDescriptor(omittableParameter());
+        TypeDescriptor plainType = new TypeDescriptor(plainParameter());
+
+        assertThat(this.omittableConverter.convert(SAMPLE_ID, sourceType, omittableType))
+            .isEqualTo(Omittable.of(UUID.fromString(SAMPLE_ID)));
+
+        long baseline = measure(() -> this.conversionService.convert(SAMPLE_ID, sourceType, plainType), WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+        long bytes = measure(() -> this.omittableConverter.convert(SAMPLE_ID, sourceType, omittableType), WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+
+        assertThat(bytes)
+            .as("Bytes allocated per converted Omittable value (baseline: %d B)", baseline)
+            .isLessThanOrEqualTo(baseline + CONVERTER_MARGIN_BYTES);
+    }
+
+    /*
+     * The requests are dispatched by the DispatcherHandler on the current thread, so that all allocations of the
+     * request handling path are accounted to it. Both endpoints take the same parameters and produce the same
+     * response.
+     */
+    @Test
+    public void testRequestAllocations() throws Exception {
+        List<String> queries = List.of("", "?name=Karl&myId=" + SAMPLE_ID, "?name=&myId=");
+
+        for (String path : List.of("/allocation/omittable", "/allocation/baseline")) {
+            for (String query : queries) {
+                assertThat(this.dispatch(path + query).getResponse().getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            }
+        }
+
+        long baseline = measure(() -> this.dispatch("/allocation/baseline", queries), REQUEST_WARMUP_ITERATIONS, REQUEST_MEASURED_ITERATIONS) / queries.size();
+        long bytes = measure(() -> this.dispatch("/allocation/omittable", queries), REQUEST_WARMUP_ITERATIONS, REQUEST_MEASURED_ITERATIONS) / queries.size();
+
+        assertThat(bytes)
+            .as("Bytes allocated per request with two Omittable parameters (baseline: %d B)", baseline)
+            .isLessThanOrEqualTo(baseline + REQUEST_MARGIN_BYTES);
+    }
+
+    private @Nullable ServerWebExchange dispatch(String path, List<String> queries) {
+        ServerWebExchange exchange = null;
+        for (String query : queries) exchange = this.dispatch(path + query);
+
+        return exchange;
+    }
+
+    private ServerWebExchange dispatch(String url) {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(url));
+        this.dispatcherHandler.handle(exchange).block();
+
+        return exchange;
+    }
+
+    @Test
+    public void testAllocatedObjectsPerRequest() throws Exception {
+        assumeTrue(FlightRecorder.isAvailable(), "JDK Flight Recorder is not available");
+
+        String baseUrl = "http://localhost:" + this.port;
+        List<String> requestMix = List.of(
+            baseUrl + "/person?required=Karl",
+            baseUrl + "/person?required=Karl&omittable=Anna",
+            baseUrl + "/person?required=Karl&omittable",
+            baseUrl + "/person/id?myId=" + SAMPLE_ID,
+            baseUrl + "/person/id"
+        );
+
+        this.sendRequests(requestMix, RECORDING_WARMUP_ITERATIONS);
+
+        Path dump = Files.createTempFile("omittable-allocations", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ObjectAllocationInNewTLAB").withStackTrace();
+            recording.enable("jdk.ObjectAllocationOutsideTLAB").withStackTrace();
+            recording.start();
+
+            this.sendRequests(requestMix, RECORDING_MEASURED_ITERATIONS);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        long objects = 0;
+        Map<String, Long> objectsBySite = new HashMap<>();
+
+        try {
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                String site = findAttributedSite(event.getStackTrace());
+                if (site == null) continue;
+
+                long allocationSize = Math.max(1, event.getLong("allocationSize"));
+                long sampledBytes = event.hasField("tlabSize") ? event.getLong("tlabSize") : allocationSize;
+                long sampledObjects = Math.max(1, sampledBytes / allocationSize);
+
+                objects += sampledObjects;
+                objectsBySite.merge(site + " -> " + event.getClass("objectClass").getName(), sampledObjects, Long::sum);
+            }
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        long requests = (long) RECORDING_MEASURED_ITERATIONS * requestMix.size();
+        String topSites = objectsBySite.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(10)
+            .map(it -> String.format(Locale.ROOT, "  %.1f objects/req: %s", (double) it.getValue() / requests, it.getKey()))
+            .collect(Collectors.joining(System.lineSeparator()));
+
+        assertThat(objects / requests)
+            .as("Allocated objects per request attributed to Omittable frames. Top sites:%n%s", topSites)
+            .isLessThanOrEqualTo(MAX_OBJECTS_PER_REQUEST);
+    }
+
+    private void sendRequests(List<String> requestMix, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            for (String url : requestMix) {
+                this.testRestTemplate.getForObject(url, String.class);
+            }
+        }
+    }
+
+    private static @Nullable String findAttributedSite(@Nullable RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return null;
+
+        String site = null;
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) continue;
+
+            String typeName = frame.getMethod().getType().getName();
+            if (typeName.startsWith(AllocationIntegrationTest.class.getName())) return null; // Client-side allocations
+
+            if (site == null && typeName.startsWith(ATTRIBUTED_PACKAGE_PREFIX)) {
+                site = typeName + "." + frame.getMethod().getName();
+            }
+        }
+
+        return site;
+    }
+
+    /*
+     * The request mapping resolvers are private to Spring WebFlux (see OmittableReactiveAutoConfiguration).
+     */
+    @SuppressWarnings("unchecked")
+    private HandlerMethodArgumentResolver findResolver(MethodParameter parameter) {
+        List<HandlerMethodArgumentResolver> resolvers = (List<HandlerMethodArgumentResolver>) new DirectFieldAccessor(this.requestMappingHandlerAdapter)
+            .getPropertyValue("methodResolver.requestMappingResolvers");
+
+        assertThat(resolvers).isNotNull();
+
+        return resolvers.stream()
+            .filter(it -> it.supportsParameter(parameter))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static MethodParameter omittableParameter() throws NoSuchMethodException {
+        return new MethodParameter(PersonController.class.getMethod("id", Omittable.class), 0);
+    }
+
+    private static MethodParameter plainParameter() throws NoSuchMethodException {
+        return new MethodParameter(Handlers.class.getDeclaredMethod("plain", UUID.class), 0);
+    }
+
+}
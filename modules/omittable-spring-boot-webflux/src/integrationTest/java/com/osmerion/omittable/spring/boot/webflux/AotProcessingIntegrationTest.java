@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.aot.OmittableHandlerMethodAotProcessor;
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableHandlerMetadataRegistry;
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableParameterMetadata;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+public final class AotProcessingIntegrationTest {
+
+    @RestController
+    public static class AotController {
+
+        private enum Level { LOW, HIGH }
+
+        @GetMapping("/level")
+        public String level(@RequestParam(name = "level") Omittable<Level> level) {
+            return level.toString();
+        }
+
+        @GetMapping("/ids")
+        public String ids(@RequestParam(name = "ids") Omittable<List<UUID>> ids) {
+            return ids.toString();
+        }
+
+        @GetMapping("/values")
+        public String values(
+            @RequestParam(name = "name") Omittable<@Nullable String> name,
+            @RequestParam(name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Omittable<LocalDate> date,
+            @RequestParam(name = "age") Mono<Omittable<Integer>> age,
+            @RequestParam(name = "page", defaultValue = "1") Omittable<Integer> page,
+            @RequestParam(name = "other") String other
+        ) {
+            return name + ", " + date + ", " + page + ", " + other;
+        }
+
+    }
+
+    private static OmittableHandlerMetadataRegistry compileMetadataRegistry() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("aotController", new RootBeanDefinition(AotController.class));
+
+        BeanFactoryInitializationAotContribution contribution = new OmittableHandlerMethodAotProcessor().processAheadOfTime(beanFactory);
+        assertThat(contribution).isNotNull();
+
+        TestGenerationContext generationContext = new TestGenerationContext();
+        List<MethodReference> initializers = new ArrayList<>();
+
+        contribution.applyTo(generationContext, new BeanFactoryInitializationCode() {
+
+            @Override
+            public GeneratedMethods getMethods() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void addInitializer(MethodReference methodReference) {
+                initializers.add(methodReference);
+            }
+
+        });
+
+        assertThat(initializers).hasSize(1);
+        generationContext.writeGeneratedContent();
+
+        DefaultListableBeanFactory runtimeBeanFactory = new DefaultListableBeanFactory();
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            Class<?> generatedClass = compiled.getAllCompiledClasses().stream()
+                .filter(type -> type.getSimpleName().endsWith("OmittableHandlerMetadata"))
+                .findFirst()
+                .orElseThrow();
+
+            Method method = ReflectionUtils.findMethod(generatedClass, "registerOmittableHandlerMetadata", DefaultListableBeanFactory.class);
+            assertThat(method).isNotNull();
+
+            ReflectionUtils.invokeMethod(method, null, runtimeBeanFactory);
+        });
+
+        return runtimeBeanFactory.getBean(OmittableHandlerMetadataRegistry.BEAN_NAME, OmittableHandlerMetadataRegistry.class);
+    }
+
+    @Test
+    public void testGeneratedPlansMatchRuntimePlans() {
+        OmittableHandlerMetadataRegistry metadataRegistry = compileMetadataRegistry();
+
+        ReactiveAdapterRegistry adapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(null, adapterRegistry);
+        AotController controller = new AotController();
+
+        List<Method> methods = Arrays.stream(AotController.class.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(GetMapping.class))
+            .toList();
+
+        assertThat(methods).hasSize(3);
+        assertThat(metadataRegistry.size()).isEqualTo(3);
+
+        for (Method method : methods) {
+            HandlerMethod handlerMethod = new HandlerMethod(controller, method);
+
+            List<OmittableParameterMetadata> parameters = metadataRegistry.getParameters(method);
+            assertThat(parameters).isNotNull();
+
+            OmittableBindingPlan aotPlan = OmittableBindingPlan.create(handlerMethod, parameters);
+            OmittableBindingPlan runtimePlan = OmittableBindingPlan.create(handlerMethod, resolver, adapterRegistry);
+
+            for (int i = 0; i < method.getParameterCount(); i++) {
+                assertThat(aotPlan.getBinding(i))
+                    .as("Binding of parameter %d of %s", i, method)
+                    .isEqualTo(runtimePlan.getBinding(i));
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedPlanForMultiValuedParameter() {
+        OmittableHandlerMetadataRegistry metadataRegistry = compileMetadataRegistry();
+
+        Method method = ReflectionUtils.findMethod(AotController.class, "ids", Omittable.class);
+        assertThat(method).isNotNull();
+
+        List<OmittableParameterMetadata> parameters = metadataRegistry.getParameters(method);
+        assertThat(parameters).isNotNull();
+
+        OmittableBindingPlan.Binding binding = OmittableBindingPlan.create(new HandlerMethod(new AotController(), method), parameters).getBinding(0);
+        assertThat(binding).isNotNull();
+        assertThat(binding.multiValued()).isTrue();
+        assertThat(binding.valueType().getType()).isEqualTo(List.class);
+
+        assertThat(binding.valueType().getElementTypeDescriptor()).isNotNull();
+        assertThat(binding.valueType().getElementTypeDescriptor().getType()).isEqualTo(UUID.class);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.example.web.PersonController;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Asserts that the {@link OmittableBindingArgumentResolver} is installed ahead of the built-in argument resolvers and
+ * falls back to its delegate for handlers that are not covered by a binding plan.
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class ArgumentResolverIntegrationTest {
+
+    public static final class LateController {
+
+        public Mono<String> late(@RequestParam(name = "value") Omittable<@Nullable UUID> value) {
+            return Mono.just(value.toString());
+        }
+
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+    @Autowired
+    private RequestMappingHandlerMapping requestMappingHandlerMapping;
+
+    @Test
+    public void testResolverIsPrepended() {
+        assertThat(this.getRequestMappingResolvers()).first().isInstanceOf(OmittableBindingArgumentResolver.class);
+    }
+
+    @Test
+    public void testSupportsParameter() throws NoSuchMethodException {
+        HandlerMethodArgumentResolver resolver = this.getRequestMappingResolvers().get(0);
+        Method method = PersonController.class.getMethod("foo", String.class, Omittable.class);
+
+        assertThat(resolver.supportsParameter(new MethodParameter(method, 0))).isFalse();
+        assertThat(resolver.supportsParameter(new MethodParameter(method, 1))).isTrue();
+    }
+
+    @Test
+    public void testHandlerRegisteredAfterStartup() throws NoSuchMethodException {
+        RequestMappingInfo mapping = RequestMappingInfo.paths("/late").methods(RequestMethod.GET).build();
+        Method method = LateController.class.getMethod("late", Omittable.class);
+
+        this.requestMappingHandlerMapping.registerMapping(mapping, new LateController(), method);
+
+        try {
+            assertThat(this.getRequestMappingResolvers().get(0).supportsParameter(new MethodParameter(method, 0))).isTrue();
+
+            assertThat(this.testRestTemplate.getForObject("http://localhost:" + this.port + "/late", String.class))
+                .isEqualTo("Omittable.absent");
+
+            assertThat(this.testRestTemplate.getForObject("http://localhost:" + this.port + "/late?value", String.class))
+                .isEqualTo("Omittable[null]");
+
+            assertThat(this.testRestTemplate.getForObject("http://localhost:" + this.port + "/late?value=d3a33656-3fb4-4430-8103-b7c60f018eb4", String.class))
+                .isEqualTo("Omittable[d3a33656-3fb4-4430-8103-b7c60f018eb4]");
+        } finally {
+            this.requestMappingHandlerMapping.unregisterMapping(mapping);
+        }
+    }
+
+    @Test
+    public void testUnexpectedLayoutIsNotFatal() {
+        // The method resolver of the adapter is only initialized by afterPropertiesSet().
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        OmittableRequestParamMethodArgumentResolver resolver = new OmittableRequestParamMethodArgumentResolver(null, ReactiveAdapterRegistry.getSharedInstance());
+
+        assertThat(OmittableReactiveAutoConfiguration.prependArgumentResolver(adapter, resolver)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<HandlerMethodArgumentResolver> getRequestMappingResolvers() {
+        return (List<HandlerMethodArgumentResolver>) new DirectFieldAccessor(this.requestMappingHandlerAdapter)
+            .getPropertyValue("methodResolver.requestMappingResolvers");
+    }
+
+}
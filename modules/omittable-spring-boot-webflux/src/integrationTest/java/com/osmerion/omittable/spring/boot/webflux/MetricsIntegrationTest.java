@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.osmerion.omittable.spring.boot.core.metrics.OmittableMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = { Main.class, MetricsIntegrationTest.MetricsConfiguration.class },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class MetricsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testOutcomes() {
+        this.testRestTemplate.getForObject("http://localhost:" + port + "/person?required=Karl", String.class);
+        this.testRestTemplate.getForObject("http://localhost:" + port + "/person?required=Karl&omittable", String.class);
+        this.testRestTemplate.getForObject("http://localhost:" + port + "/person?required=Karl&omittable=Karl", String.class);
+        this.testRestTemplate.getForObject("http://localhost:" + port + "/person?required=Karl&omittable=Karl", String.class);
+
+        assertThat(this.count("absent")).isEqualTo(1.0);
+        assertThat(this.count("null")).isEqualTo(1.0);
+        assertThat(this.count("present")).isEqualTo(2.0);
+
+        assertThat(this.meterRegistry.get(OmittableMetricsListener.RESOLUTION).tag("endpoint", "PersonController#foo").tag("parameter", "omittable").timer().count())
+            .isEqualTo(4L);
+    }
+
+    private double count(String outcome) {
+        return this.meterRegistry.get(OmittableMetricsListener.OUTCOMES)
+            .tag("endpoint", "PersonController#foo")
+            .tag("parameter", "omittable")
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+
+    @TestConfiguration
+    public static class MetricsConfiguration {
+
+        @Bean
+        public SimpleMeterRegistry simpleMeterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.example.model.PersonUpdate;
+import com.example.proto.PersonMessage;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Asserts that records with {@code Omittable} components can be read from and written as Protocol Buffers messages.
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class ProtobufIntegrationTest {
+
+    private static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Test
+    public void testDeserialization() {
+        assertThat(this.describe(PersonMessage.newBuilder().setRequired("foo").build()))
+            .isEqualTo("PersonUpdate[name=Omittable.absent, nickname=Omittable.absent, age=Omittable.absent, required=foo]");
+
+        assertThat(this.describe(PersonMessage.newBuilder().setName("").setNickname(StringValue.of("")).build()))
+            .isEqualTo("PersonUpdate[name=Omittable[], nickname=Omittable[], age=Omittable.absent, required=]");
+
+        assertThat(this.describe(PersonMessage.newBuilder().setName("Karl").setNickname(StringValue.of("Kalle")).setAge(Int32Value.of(42)).build()))
+            .isEqualTo("PersonUpdate[name=Omittable[Karl], nickname=Omittable[Kalle], age=Omittable[42], required=]");
+    }
+
+    @Test
+    public void testRoundTrip() throws InvalidProtocolBufferException {
+        for (PersonMessage message : List.of(
+            PersonMessage.newBuilder().setRequired("foo").build(),
+            PersonMessage.newBuilder().setName("").setAge(Int32Value.of(0)).build(),
+            PersonMessage.newBuilder().setName("Karl").setNickname(StringValue.of("Kalle")).setAge(Int32Value.of(42)).setRequired("foo").build()
+        )) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(APPLICATION_X_PROTOBUF);
+            headers.setAccept(List.of(APPLICATION_X_PROTOBUF));
+
+            byte[] response = this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person/update", new HttpEntity<>(message.toByteArray(), headers), byte[].class);
+            assertThat(PersonMessage.parseFrom(response)).isEqualTo(message);
+        }
+    }
+
+    @Test
+    public void testJsonIsShared() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.ALL));
+
+        assertThat(this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person/update/describe", new HttpEntity<>("{\"name\": \"Karl\", \"required\": \"foo\"}", headers), String.class))
+            .isEqualTo("PersonUpdate[name=Omittable[Karl], nickname=Omittable.absent, age=Omittable.absent, required=foo]");
+
+        ResponseEntity<String> response = this.testRestTemplate.postForEntity("http://localhost:" + this.port + "/person/update", new HttpEntity<>("{\"required\": \"foo\"}", headers), String.class);
+        assertThat(response.getHeaders().getContentType()).isNotNull().matches(MediaType.APPLICATION_JSON::isCompatibleWith);
+    }
+
+    @Test
+    public void testUntypedResponsesAreNotClaimed() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(APPLICATION_X_PROTOBUF));
+
+        ResponseEntity<byte[]> response = this.testRestTemplate.exchange("http://localhost:" + this.port + "/person/view/untyped", HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+
+        headers.setAccept(List.of(MediaType.ALL));
+
+        ResponseEntity<String> jsonResponse = this.testRestTemplate.exchange("http://localhost:" + this.port + "/person/view/untyped", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(jsonResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(jsonResponse.getHeaders().getContentType()).isNotNull().matches(MediaType.APPLICATION_JSON::isCompatibleWith);
+    }
+
+    @Test
+    public void testNullIsWrittenAsAbsent() {
+        PersonUpdate update = new PersonUpdate(Omittable.of(null), Omittable.of(null), Omittable.absent(), "foo");
+        PersonMessage message = (PersonMessage) OmittableProtobufMapper.of(PersonUpdate.class).toMessage(update);
+
+        assertThat(message.hasName()).isFalse();
+        assertThat(message.hasNickname()).isFalse();
+        assertThat(message.hasAge()).isFalse();
+        assertThat(message.getRequired()).isEqualTo("foo");
+    }
+
+    private String describe(PersonMessage message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_X_PROTOBUF);
+
+        return this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person/update/describe", new HttpEntity<>(message.toByteArray(), headers), String.class);
+    }
+
+}
@@ -16,12 +16,21 @@
 package com.osmerion.omittable.spring.boot.webflux;
 
 import com.example.Main;
+import com.example.web.PersonController;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.resttestclient.TestRestTemplate;
 import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+
+import java.net.URI;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -50,4 +59,82 @@ public final class SpringWebFluxIntegrationTest {
             .isEqualTo("Karl, Omittable[null]");
     }
 
+    @Test
+    public void testEmptyValue() {
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person?required=Karl&omittable=", String.class))
+            .isEqualTo("Karl, Omittable[]");
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person?required=Karl&omittable", String.class))
+            .isEqualTo("Karl, Omittable[null]");
+    }
+
+    @Test
+    public void testInitBinderEditorsApply() {
+        assertThat(this.testRestTemplate.getForObject(URI.create("http://localhost:" + port + "/trimmed?name=%20Karl%20"), String.class))
+            .isEqualTo("Omittable[Karl]");
+
+        assertThat(this.testRestTemplate.getForObject(URI.create("http://localhost:" + port + "/trimmed?name=%20%20"), String.class))
+            .isEqualTo("Omittable[null]");
+
+        assertThat(this.testRestTemplate.getForObject(URI.create("http://localhost:" + port + "/trimmed"), String.class))
+            .isEqualTo("Omittable.absent");
+    }
+
+    @Test
+    public void testTypeMismatch() {
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person/id?myId=d3a33656-3fb4-4430-8103-b7c60f018eb4", String.class))
+            .isEqualTo("Omittable[d3a33656-3fb4-4430-8103-b7c60f018eb4]");
+
+        assertThat(this.testRestTemplate.getForEntity("http://localhost:" + port + "/person/id?myId=not-a-uuid", String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testMultiValued() {
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person/ids", String.class))
+            .isEqualTo("Omittable.absent");
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person/ids?ids=d3a33656-3fb4-4430-8103-b7c60f018eb4", String.class))
+            .isEqualTo("Omittable[[d3a33656-3fb4-4430-8103-b7c60f018eb4]]");
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person/ids?ids=d3a33656-3fb4-4430-8103-b7c60f018eb4&ids=0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69", String.class))
+            .isEqualTo("Omittable[[d3a33656-3fb4-4430-8103-b7c60f018eb4, 0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69]]");
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person/ids?ids=d3a33656-3fb4-4430-8103-b7c60f018eb4,0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69", String.class))
+            .isEqualTo("Omittable[[d3a33656-3fb4-4430-8103-b7c60f018eb4, 0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69]]");
+
+        assertThat(this.testRestTemplate.getForEntity("http://localhost:" + port + "/person/ids?ids=d3a33656-3fb4-4430-8103-b7c60f018eb4&ids=not-a-uuid", String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testInheritedHandlerMethods() {
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/value/uuid?value=d3a33656-3fb4-4430-8103-b7c60f018eb4", String.class))
+            .isEqualTo("UUID: d3a33656-3fb4-4430-8103-b7c60f018eb4");
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/value/integer?value=42", String.class))
+            .isEqualTo("Integer: 42");
+
+        assertThat(this.testRestTemplate.getForEntity("http://localhost:" + port + "/value/integer?value=d3a33656-3fb4-4430-8103-b7c60f018eb4", String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/value/integer", String.class))
+            .isEqualTo("Omittable.absent");
+    }
+
+    @Test
+    public void testDefaultValueIsResolvedReactively() throws NoSuchMethodException {
+        HandlerMethod handlerMethod = new HandlerMethod(new PersonController(), PersonController.class.getMethod("defaultValue", Omittable.class));
+        ReactiveAdapterRegistry registry = ReactiveAdapterRegistry.getSharedInstance();
+
+        OmittableBindingPlans plans = OmittableBindingPlans.create(List.of(handlerMethod), new OmittableRequestParamMethodArgumentResolver(null, registry), registry);
+        OmittableBindingPlan.Binding binding = plans.getPlan(handlerMethod.getBeanType(), handlerMethod.getMethod()).getBinding(0);
+
+        assertThat(binding).isNotNull();
+        assertThat(binding.synchronous()).isFalse();
+
+        assertThat(this.testRestTemplate.getForObject("http://localhost:" + port + "/person/default?name=Anna", String.class))
+            .isEqualTo("Omittable[Anna]");
+    }
+
 }
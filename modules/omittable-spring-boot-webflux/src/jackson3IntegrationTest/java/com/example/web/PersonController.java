@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import com.example.model.PersonUpdate;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/person")
+public final class PersonController {
+
+    @PostMapping
+    public Mono<PersonUpdate> echo(@RequestBody Mono<PersonUpdate> update) {
+        return update;
+    }
+
+    @PostMapping("/describe")
+    public Mono<String> describe(@RequestBody Mono<PersonUpdate> update) {
+        return update.map(PersonUpdate::toString);
+    }
+
+}
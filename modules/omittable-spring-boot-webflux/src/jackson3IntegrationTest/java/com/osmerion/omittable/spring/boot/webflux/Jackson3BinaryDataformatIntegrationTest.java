@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.example.model.PersonUpdate;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.jackson3.OmittableJackson3Module;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Asserts that {@code Omittable} request and response bodies work with the Smile and CBOR dataformats of Jackson 3.
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class Jackson3BinaryDataformatIntegrationTest {
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder().addModule(new OmittableJackson3Module()).build();
+    private static final ObjectMapper CBOR_MAPPER = CBORMapper.builder().addModule(new OmittableJackson3Module()).build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Test
+    public void testSmileDeserialization() {
+        this.assertDeserialization(SMILE_MAPPER, APPLICATION_SMILE);
+    }
+
+    @Test
+    public void testCborDeserialization() {
+        this.assertDeserialization(CBOR_MAPPER, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    public void testSmileRoundTrip() {
+        this.assertRoundTrip(SMILE_MAPPER, APPLICATION_SMILE);
+    }
+
+    @Test
+    public void testCborRoundTrip() {
+        this.assertRoundTrip(CBOR_MAPPER, MediaType.APPLICATION_CBOR);
+    }
+
+    private void assertDeserialization(ObjectMapper mapper, MediaType mediaType) {
+        assertThat(this.describe(mapper.writeValueAsBytes(Map.of()), mediaType))
+            .isEqualTo("PersonUpdate[name=Omittable.absent, age=Omittable.absent]");
+
+        assertThat(this.describe(mapper.writeValueAsBytes(Collections.singletonMap("name", null)), mediaType))
+            .isEqualTo("PersonUpdate[name=Omittable[null], age=Omittable.absent]");
+
+        assertThat(this.describe(mapper.writeValueAsBytes(Map.of("name", "Karl", "age", 42)), mediaType))
+            .isEqualTo("PersonUpdate[name=Omittable[Karl], age=Omittable[42]]");
+    }
+
+    private void assertRoundTrip(ObjectMapper mapper, MediaType mediaType) {
+        for (PersonUpdate update : List.of(
+            new PersonUpdate(Omittable.absent(), Omittable.absent()),
+            new PersonUpdate(Omittable.of(null), Omittable.absent()),
+            new PersonUpdate(Omittable.of("Karl"), Omittable.of(42))
+        )) {
+            byte[] response = this.echo(mapper.writeValueAsBytes(update), mediaType);
+            assertThat(mapper.readValue(response, PersonUpdate.class)).isEqualTo(update);
+        }
+
+        // Absent properties are omitted from the response.
+        assertThat(mapper.readTree(this.echo(mapper.writeValueAsBytes(Map.of()), mediaType)).isEmpty()).isTrue();
+    }
+
+    private String describe(byte[] body, MediaType mediaType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+
+        return this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person/describe", new HttpEntity<>(body, headers), String.class);
+    }
+
+    private byte[] echo(byte[] body, MediaType mediaType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+        headers.setAccept(List.of(mediaType));
+
+        byte[] response = this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person", new HttpEntity<>(body, headers), byte[].class);
+        assertThat(response).isNotNull();
+
+        return response;
+    }
+
+}
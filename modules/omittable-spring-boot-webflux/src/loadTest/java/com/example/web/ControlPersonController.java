@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * A copy of {@link PersonController} that uses plain parameters instead of {@code Omittable} to serve as baseline.
+ */
+@RestController
+@RequestMapping("/control/person")
+public final class ControlPersonController {
+
+    @GetMapping
+    public Mono<ResponseEntity<String>> findByFilter(
+        @RequestParam(name = "name", required = false) @Nullable String name
+    ) {
+        return Mono.just(ResponseEntity.ok(String.valueOf(name)));
+    }
+
+    @GetMapping("/complex-type")
+    public Mono<ResponseEntity<String>> callComplexType(
+        @RequestParam(name = "myId", required = false) @Nullable UUID id
+    ) {
+        String typeName = id != null ? id.getClass().getSimpleName() : "null";
+        return Mono.just(ResponseEntity.ok(id + " - " + typeName));
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.osmerion.omittable.spring.boot.core.loadtest.LoadGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Load test that compares the throughput and latency of endpoints with {@code Omittable} parameters to equivalent
+ * endpoints with plain parameters on Netty.
+ *
+ * @author  Leon Linhart
+ */
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class SpringWebFluxLoadTest {
+
+    private static final String ID = "d3a33656-3fb4-4430-8103-b7c60f018eb4";
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    public void testThroughputAndLatency() throws Exception {
+        List<LoadGenerator.Report> reports = new ArrayList<>();
+
+        try (LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + this.port))) {
+            for (String prefix : List.of("/person", "/control/person")) {
+                String variant = prefix.equals("/person") ? "omittable" : "control";
+
+                reports.add(generator.run(variant + "-present", List.of(prefix + "?name=Karl", prefix + "/complex-type?myId=" + ID)));
+                reports.add(generator.run(variant + "-absent", List.of(prefix, prefix + "/complex-type")));
+                reports.add(generator.run(variant + "-null", List.of(prefix + "?name", prefix + "/complex-type?myId")));
+            }
+        }
+
+        LoadGenerator.publish("netty", reports);
+
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errors()).isZero();
+            assertThat(report.failures()).isZero();
+        });
+    }
+
+}
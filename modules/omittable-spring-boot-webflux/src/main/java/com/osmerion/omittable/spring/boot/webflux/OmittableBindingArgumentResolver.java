@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableParameterListener;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.ConversionNotSupportedException;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerErrorException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that uses precomputed {@link OmittableBindingPlans binding plans} to decide
+ * which parameters are bound to {@code Omittable} values.
+ *
+ * <p>Parameters of handler methods for which a binding plan exists are looked up by their index. The delegate resolver
+ * is only consulted for parameters of methods that were not known when the plans were created.</p>
+ *
+ * <p>Parameters that are bound directly from the query string are resolved synchronously, without assembling a
+ * reactive pipeline. Parameters that are declared in a reactive wrapper (e.g. {@code Mono<Omittable<T>>}) or that are
+ * not covered by a binding plan are resolved by the delegate.</p>
+ *
+ * <p>If an {@link OmittableParameterListener} is configured, it is notified about the resolution of parameters with a
+ * binding that are not declared in a reactive wrapper.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableBindingArgumentResolver implements SyncHandlerMethodArgumentResolver {
+
+    private final OmittableBindingPlans plans;
+    private final HandlerMethodArgumentResolver delegate;
+    private final @Nullable OmittableParameterListener listener;
+
+    /**
+     * Creates a new resolver.
+     *
+     * @param plans     the binding plans
+     * @param delegate  the resolver to delegate to
+     *
+     * @since   2.1.0
+     */
+    public OmittableBindingArgumentResolver(OmittableBindingPlans plans, HandlerMethodArgumentResolver delegate) {
+        this(plans, delegate, null);
+    }
+
+    /**
+     * Creates a new resolver.
+     *
+     * @param plans     the binding plans
+     * @param delegate  the resolver to delegate to
+     * @param listener  the listener to notify about resolved parameters, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    public OmittableBindingArgumentResolver(
+        OmittableBindingPlans plans,
+        HandlerMethodArgumentResolver delegate,
+        @Nullable OmittableParameterListener listener
+    ) {
+        this.plans = plans;
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    /*
+     * The containing class of the parameters of a handler method is the type of the controller. It is part of the
+     * lookup since methods that are inherited from generic base controllers may bind different value types.
+     */
+    private @Nullable OmittableBindingPlan findPlan(MethodParameter parameter) {
+        Method method = parameter.getMethod();
+        return (method != null) ? this.plans.getPlan(parameter.getContainingClass(), method) : null;
+    }
+
+    private OmittableBindingPlan.@Nullable Binding findBinding(MethodParameter parameter) {
+        OmittableBindingPlan plan = this.findPlan(parameter);
+        return (plan != null) ? plan.getBinding(parameter.getParameterIndex()) : null;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        OmittableBindingPlan plan = this.findPlan(parameter);
+        if (plan == null) return this.delegate.supportsParameter(parameter);
+
+        return plan.getBinding(parameter.getParameterIndex()) != null;
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        OmittableBindingPlan.Binding binding = this.findBinding(parameter);
+        if (binding == null || !binding.synchronous()) {
+            Mono<Object> value = this.delegate.resolveArgument(parameter, bindingContext, exchange);
+
+            OmittableParameterListener listener = this.listener;
+            if (listener == null || binding == null || binding.reactive()) return value;
+
+            String name = binding.name();
+            if (name == null) return value;
+
+            long start = System.nanoTime();
+
+            return value
+                .doOnNext(it -> {
+                    if (it instanceof Omittable<?> omittable) {
+                        listener.parameterResolved(parameter, name, OmittableParameterListener.Outcome.of(omittable), System.nanoTime() - start, -1);
+                    }
+                })
+                .doOnError(ServerWebInputException.class, e -> {
+                    Throwable cause = e.getCause();
+                    listener.conversionFailed(parameter, name, (cause != null) ? cause : e);
+                });
+        }
+
+        return Mono.just(this.resolveBinding(binding, parameter, bindingContext, exchange));
+    }
+
+    @Override
+    public Object resolveArgumentValue(MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        OmittableBindingPlan.Binding binding = this.findBinding(parameter);
+        if (binding == null || !binding.synchronous()) {
+            throw new IllegalStateException("Parameter cannot be resolved synchronously: " + parameter);
+        }
+
+        return this.resolveBinding(binding, parameter, bindingContext, exchange);
+    }
+
+    private Omittable<?> resolveBinding(
+        OmittableBindingPlan.Binding binding,
+        MethodParameter parameter,
+        BindingContext bindingContext,
+        ServerWebExchange exchange
+    ) {
+        String name = binding.name();
+        assert name != null;
+
+        OmittableParameterListener listener = this.listener;
+        long start = (listener != null) ? System.nanoTime() : 0L;
+
+        List<String> values = exchange.getRequest().getQueryParams().get(name);
+        if (values == null) return this.resolved(parameter, name, Omittable.absent(), start, -1);
+
+        // Like Spring's resolver for @RequestParam, a single value is converted as-is (e.g. "a,b" to a list).
+        Object value = (values.size() == 1) ? values.get(0) : (values.isEmpty() ? null : values);
+        if (value == null) return this.resolved(parameter, name, Omittable.of(null), start, -1);
+
+        /*
+         * Values are always converted by a data binder, even if they are assignable to the value type already, so that
+         * editors registered by @InitBinder methods (e.g. a StringTrimmerEditor) and String to String converters apply.
+         */
+        TypeDescriptor valueType = binding.valueType();
+        WebDataBinder binder = bindingContext.createDataBinder(exchange, name);
+        long conversionStart = (listener != null) ? System.nanoTime() : 0L;
+        Object convertedValue;
+
+        try {
+            convertedValue = binder.convertIfNecessary(value, valueType.getType(), valueType);
+        } catch (ConversionNotSupportedException e) {
+            if (listener != null) listener.conversionFailed(parameter, name, e);
+            throw new ServerErrorException("Conversion not supported.", parameter, e);
+        } catch (TypeMismatchException e) {
+            if (listener != null) listener.conversionFailed(parameter, name, e);
+            throw new ServerWebInputException("Type mismatch.", parameter, e);
+        }
+
+        long conversionNanos = (listener != null) ? System.nanoTime() - conversionStart : -1;
+        return this.resolved(parameter, name, Omittable.of(convertedValue), start, conversionNanos);
+    }
+
+    private Omittable<?> resolved(MethodParameter parameter, String name, Omittable<?> value, long start, long conversionNanos) {
+        OmittableParameterListener listener = this.listener;
+        if (listener != null) {
+            listener.parameterResolved(parameter, name, OmittableParameterListener.Outcome.of(value), System.nanoTime() - start, conversionNanos);
+        }
+
+        return value;
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableParameterMetadata;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * An immutable binding plan for the parameters of a single handler method.
+ *
+ * <p>A binding plan records, once per handler method, which of its parameters are bound to {@code Omittable} values,
+ * together with the information required to bind them. This avoids repeatedly inspecting each parameter of a handler
+ * method for every request.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableBindingPlan {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    /**
+     * Creates a binding plan for the given handler method.
+     *
+     * @param handlerMethod     the handler method to create the plan for
+     * @param resolver          the resolver that is used to determine which parameters are bound to {@code Omittable}
+     *                          values
+     * @param adapterRegistry   the registry that is used to detect reactive parameter types
+     *
+     * @return  the binding plan for the given handler method
+     *
+     * @since   2.1.0
+     */
+    public static OmittableBindingPlan create(
+        HandlerMethod handlerMethod,
+        HandlerMethodArgumentResolver resolver,
+        ReactiveAdapterRegistry adapterRegistry
+    ) {
+        MethodParameter[] parameters = handlerMethod.getMethodParameters();
+        @Nullable Binding[] bindings = new Binding[parameters.length];
+        boolean hasBindings = false;
+
+        for (MethodParameter parameter : parameters) {
+            if (!resolver.supportsParameter(parameter)) continue;
+
+            boolean reactive = adapterRegistry.getAdapter(parameter.getParameterType()) != null;
+            TypeDescriptor valueType = resolveValueType(parameter, reactive);
+
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            String name = resolveName(parameter, requestParam);
+
+            boolean hasDefaultValue = requestParam != null && !ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue());
+
+            bindings[parameter.getParameterIndex()] = new Binding(
+                parameter.getParameterIndex(),
+                name,
+                valueType,
+                reactive,
+                isMultiValued(valueType),
+                !reactive && name != null && !hasDefaultValue
+            );
+
+            hasBindings = true;
+        }
+
+        return new OmittableBindingPlan(handlerMethod.getMethod(), hasBindings ? bindings : new Binding[0]);
+    }
+
+    /**
+     * Creates a binding plan for the given handler method from precomputed metadata.
+     *
+     * <p>The metadata determines which parameters are bound. The value types of the bindings are resolved from the
+     * parameters of the handler method the same way as for plans that are created at runtime, so that generics and
+     * annotations (e.g. {@code @DateTimeFormat}) are taken into account.</p>
+     *
+     * @param handlerMethod the handler method to create the plan for
+     * @param parameters    the metadata of all {@code Omittable} parameters of the handler method
+     *
+     * @return  the binding plan for the given handler method
+     *
+     * @since   2.1.0
+     */
+    public static OmittableBindingPlan create(HandlerMethod handlerMethod, List<OmittableParameterMetadata> parameters) {
+        if (parameters.isEmpty()) return new OmittableBindingPlan(handlerMethod.getMethod(), new Binding[0]);
+
+        MethodParameter[] methodParameters = handlerMethod.getMethodParameters();
+        @Nullable Binding[] bindings = new Binding[methodParameters.length];
+
+        for (OmittableParameterMetadata parameter : parameters) {
+            TypeDescriptor valueType = resolveValueType(methodParameters[parameter.parameterIndex()], parameter.reactive());
+
+            bindings[parameter.parameterIndex()] = new Binding(
+                parameter.parameterIndex(),
+                parameter.name(),
+                valueType,
+                parameter.reactive(),
+                isMultiValued(valueType),
+                !parameter.reactive() && !parameter.hasDefaultValue()
+            );
+        }
+
+        return new OmittableBindingPlan(handlerMethod.getMethod(), bindings);
+    }
+
+    private static TypeDescriptor resolveValueType(MethodParameter parameter, boolean reactive) {
+        MethodParameter nestedParameter = reactive ? parameter.nested() : parameter;
+
+        TypeDescriptor valueType = TypeDescriptor.nested(nestedParameter, 1);
+        return (valueType != null) ? valueType : TypeDescriptor.valueOf(Object.class);
+    }
+
+    private static boolean isMultiValued(TypeDescriptor valueType) {
+        return valueType.isArray() || valueType.isCollection();
+    }
+
+    private static @Nullable String resolveName(MethodParameter parameter, @Nullable RequestParam requestParam) {
+        if (requestParam != null && StringUtils.hasText(requestParam.name())) return requestParam.name();
+
+        parameter.initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+        return parameter.getParameterName();
+    }
+
+    private final Method method;
+    private final @Nullable Binding[] bindings;
+
+    OmittableBindingPlan(Method method, @Nullable Binding[] bindings) {
+        this.method = method;
+        this.bindings = bindings;
+    }
+
+    /**
+     * {@return the handler method this plan was created for}
+     *
+     * @since   2.1.0
+     */
+    public Method getMethod() {
+        return this.method;
+    }
+
+    /**
+     * {@return whether any parameter of the handler method is bound to an {@code Omittable} value}
+     *
+     * @since   2.1.0
+     */
+    public boolean hasBindings() {
+        return this.bindings.length > 0;
+    }
+
+    /**
+     * Returns the binding for the parameter with the given index, or {@code null} if the parameter is not bound to an
+     * {@code Omittable} value.
+     *
+     * @param parameterIndex    the index of the parameter
+     *
+     * @return  the binding for the parameter, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    public @Nullable Binding getBinding(int parameterIndex) {
+        return parameterIndex >= 0 && parameterIndex < this.bindings.length ? this.bindings[parameterIndex] : null;
+    }
+
+    /**
+     * The binding of a single parameter to an {@code Omittable} value.
+     *
+     * @param parameterIndex    the index of the parameter
+     * @param name              the name of the request parameter, or {@code null} if it could not be determined
+     * @param valueType         the type of the value wrapped by the {@code Omittable}
+     * @param reactive          whether the {@code Omittable} is wrapped in a reactive type (e.g. {@code Mono})
+     * @param multiValued       whether the value type is an array or a collection (to which multiple values of the
+     *                          request parameter are bound)
+     * @param synchronous       whether the parameter can be resolved synchronously from the query string
+     *
+     * @since   2.1.0
+     */
+    public record Binding(
+        int parameterIndex,
+        @Nullable String name,
+        TypeDescriptor valueType,
+        boolean reactive,
+        boolean multiValued,
+        boolean synchronous
+    ) {}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableHandlerMetadataRegistry;
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableParameterMetadata;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable collection of {@link OmittableBindingPlan binding plans} for a set of handler methods.
+ *
+ * <p>Plans are looked up by the handler method and the class that contains it (i.e. the type of the controller). A
+ * method that is inherited from a generic base controller may bind different value types for each controller.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableBindingPlans {
+
+    /**
+     * Creates binding plans for the given handler methods.
+     *
+     * @param handlerMethods    the handler methods to create plans for
+     * @param resolver          the resolver that is used to determine which parameters are bound to {@code Omittable}
+     *                          values
+     * @param adapterRegistry   the registry that is used to detect reactive parameter types
+     *
+     * @return  the binding plans for the given handler methods
+     *
+     * @since   2.1.0
+     */
+    public static OmittableBindingPlans create(
+        Iterable<HandlerMethod> handlerMethods,
+        HandlerMethodArgumentResolver resolver,
+        ReactiveAdapterRegistry adapterRegistry
+    ) {
+        return create(handlerMethods, resolver, adapterRegistry, null);
+    }
+
+    /**
+     * Creates binding plans for the given handler methods.
+     *
+     * <p>Plans for handler methods that are known to the given metadata registry are created from the precomputed
+     * metadata. All other handler methods are inspected using the given resolver.</p>
+     *
+     * @param handlerMethods    the handler methods to create plans for
+     * @param resolver          the resolver that is used to determine which parameters are bound to {@code Omittable}
+     *                          values
+     * @param adapterRegistry   the registry that is used to detect reactive parameter types
+     * @param metadataRegistry  the registry of precomputed handler metadata, or {@code null}
+     *
+     * @return  the binding plans for the given handler methods
+     *
+     * @since   2.1.0
+     */
+    public static OmittableBindingPlans create(
+        Iterable<HandlerMethod> handlerMethods,
+        HandlerMethodArgumentResolver resolver,
+        ReactiveAdapterRegistry adapterRegistry,
+        @Nullable OmittableHandlerMetadataRegistry metadataRegistry
+    ) {
+        Map<Class<?>, Map<Method, OmittableBindingPlan>> plans = new HashMap<>();
+        int size = 0;
+
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            Map<Method, OmittableBindingPlan> plansByMethod = plans.computeIfAbsent(handlerMethod.getBeanType(), it -> new HashMap<>());
+            if (plansByMethod.containsKey(handlerMethod.getMethod())) continue;
+
+            /*
+             * The value types are resolved against the bean type of the handler method, so that type variables of
+             * methods that are inherited from generic base controllers are resolved per controller.
+             */
+            List<OmittableParameterMetadata> parameters = metadataRegistry != null ? metadataRegistry.getParameters(handlerMethod.getMethod()) : null;
+            OmittableBindingPlan plan = (parameters != null)
+                ? OmittableBindingPlan.create(handlerMethod, parameters)
+                : OmittableBindingPlan.create(handlerMethod, resolver, adapterRegistry);
+
+            plansByMethod.put(handlerMethod.getMethod(), plan);
+            size++;
+        }
+
+        Map<Class<?>, Map<Method, OmittableBindingPlan>> immutablePlans = new HashMap<>(plans.size());
+        plans.forEach((beanType, plansByMethod) -> immutablePlans.put(beanType, Map.copyOf(plansByMethod)));
+
+        return new OmittableBindingPlans(Map.copyOf(immutablePlans), size);
+    }
+
+    private final Map<Class<?>, Map<Method, OmittableBindingPlan>> plans;
+    private final int size;
+
+    private OmittableBindingPlans(Map<Class<?>, Map<Method, OmittableBindingPlan>> plans, int size) {
+        this.plans = plans;
+        this.size = size;
+    }
+
+    /**
+     * Returns the binding plan for the given handler method of the given class, or {@code null} if no plan was created
+     * for the method.
+     *
+     * @param containingClass   the class that contains the handler method (i.e. the type of the controller)
+     * @param method            the handler method
+     *
+     * @return  the binding plan for the given handler method, or {@code null}
+     *
+     * @since   2.1.0
+     */
+    public @Nullable OmittableBindingPlan getPlan(Class<?> containingClass, Method method) {
+        Map<Method, OmittableBindingPlan> plansByMethod = this.plans.get(containingClass);
+        return (plansByMethod != null) ? plansByMethod.get(method) : null;
+    }
+
+    /**
+     * {@return the number of handler methods for which a plan was created}
+     *
+     * @since   2.1.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+}
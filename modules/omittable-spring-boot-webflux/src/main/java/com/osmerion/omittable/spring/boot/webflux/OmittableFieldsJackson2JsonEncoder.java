@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.fields.OmittableFieldSelector;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Jackson2JsonEncoder} that limits the serialization of response bodies to the properties that are requested
+ * by a query parameter.
+ *
+ * <p>The query parameter is bound like an {@code Omittable<List<String>>} request parameter. If it is absent, values
+ * are encoded unchanged. Otherwise, each value is written by the {@link OmittableFieldSelector}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFieldsJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private static final String FIELDS_HINT = OmittableFieldsJackson2JsonEncoder.class.getName() + ".fields";
+
+    private static final ResolvableType SELECTION_TYPE = ResolvableType.forClass(Object.class);
+
+    private final OmittableFieldSelector selector;
+    private final String parameterName;
+
+    /**
+     * Creates a new encoder.
+     *
+     * @param objectMapper  the object mapper that is used to write values
+     * @param selector      the selector that is used to write values if fields are requested
+     * @param parameterName the name of the query parameter
+     *
+     * @since   2.1.0
+     */
+    public OmittableFieldsJackson2JsonEncoder(ObjectMapper objectMapper, OmittableFieldSelector selector, String parameterName) {
+        super(objectMapper);
+        this.selector = selector;
+        this.parameterName = parameterName;
+    }
+
+    @Override
+    public Map<String, Object> getEncodeHints(
+        @Nullable ResolvableType actualType,
+        ResolvableType elementType,
+        @Nullable MediaType mediaType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        Map<String, Object> hints = super.getEncodeHints(actualType, elementType, mediaType, request, response);
+
+        List<String> values = request.getQueryParams().get(this.parameterName);
+        if (values == null) return hints;
+
+        hints = new HashMap<>(hints);
+        hints.put(FIELDS_HINT, values);
+
+        return hints;
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(
+        Publisher<?> inputStream,
+        DataBufferFactory bufferFactory,
+        ResolvableType elementType,
+        @Nullable MimeType mimeType,
+        @Nullable Map<String, Object> hints
+    ) {
+        @SuppressWarnings("unchecked")
+        List<String> values = (hints != null) ? (List<String>) hints.get(FIELDS_HINT) : null;
+        if (values == null) return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+
+        /*
+         * The selections are encoded as plain objects since they are not instances of the declared element type. The
+         * selected values are written with their declared structure by the selector.
+         */
+        Omittable<List<String>> fields = Omittable.of(values);
+        Publisher<?> selections = (inputStream instanceof Mono<?> mono)
+            ? mono.map(value -> this.selector.select(value, fields))
+            : Flux.from(inputStream).map(value -> this.selector.select(value, fields));
+
+        return super.encode(selections, bufferFactory, SELECTION_TYPE, mimeType, hints);
+    }
+
+}
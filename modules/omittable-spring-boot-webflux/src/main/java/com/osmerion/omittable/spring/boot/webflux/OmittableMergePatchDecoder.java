@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link org.springframework.core.codec.Decoder Decoder} that reads JSON Merge Patch
+ * (<a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a>) documents into objects with {@code Omittable}
+ * properties.
+ *
+ * <p>The document is bound in a single streaming pass by the given {@link ObjectMapper}, which must have the
+ * {@code OmittableModule} registered. Members that are missing from the document are bound as absent
+ * {@code Omittable}s, and members with a {@code null} value are bound as {@code Omittable}s of {@code null}. Nested
+ * objects are bound recursively in the same way.</p>
+ *
+ * <p>A merge patch whose root is not an object (for example, {@code null} or an array) would replace the target as a
+ * whole. Such documents are rejected with a {@link DecodingException}, since they cannot be applied to objects with
+ * {@code Omittable} properties. A merge patch is always a single document, and it is never decoded as a stream of
+ * array elements.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableMergePatchDecoder extends AbstractJackson2Decoder {
+
+    /**
+     * The {@code application/merge-patch+json} media type.
+     *
+     * @since   2.1.0
+     */
+    public static final MediaType APPLICATION_MERGE_PATCH_JSON = new MediaType("application", "merge-patch+json");
+
+    /**
+     * Creates a new decoder.
+     *
+     * @param objectMapper  the object mapper that is used to read merge patches
+     *
+     * @since   2.1.0
+     */
+    public OmittableMergePatchDecoder(ObjectMapper objectMapper) {
+        super(objectMapper, (MimeType) APPLICATION_MERGE_PATCH_JSON);
+    }
+
+    /*
+     * Merge patches are only decoded if the content type is known. As a side effect, codec configurers order this
+     * decoder ahead of the general-purpose JSON decoders since it does not claim to decode arbitrary content.
+     */
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return mimeType != null && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return this.decodeToMono(input, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public @Nullable Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) throws DecodingException {
+        ObjectMapper objectMapper = this.getObjectMapper();
+
+        try (JsonParser parser = objectMapper.createParser(dataBuffer.asInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodingException("JSON Merge Patch document must be an object");
+            }
+
+            /* The reader continues from the current token, so that the document is still bound in a single pass. */
+            return objectMapper.readerFor(this.getJavaType(targetType.getType(), null)).readValue(parser);
+        } catch (InvalidDefinitionException e) {
+            throw new CodecException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new DecodingException("JSON decoding error: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new DecodingException("I/O error while decoding JSON Merge Patch document", e);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMapper;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMessage;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link org.springframework.core.codec.Decoder Decoder} that reads records with {@code Omittable} components from
+ * Protocol Buffers messages.
+ *
+ * <p>Only records that are annotated with {@link OmittableProtobufMessage} are supported. They are mapped from their
+ * message type by an {@link OmittableProtobufMapper}, without an intermediate JSON representation. The content is
+ * decoded as a single message.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableProtobufDecoder extends AbstractDataBufferDecoder<Record> {
+
+    /**
+     * Creates a new decoder.
+     *
+     * @since   2.1.0
+     */
+    public OmittableProtobufDecoder() {
+        super(OmittableProtobufEncoder.MIME_TYPES);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return OmittableProtobufMapper.isMapped(elementType.toClass()) && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<Record> decode(Publisher<DataBuffer> input, ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return this.decodeToMono(input, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public Record decode(DataBuffer buffer, ResolvableType targetType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) throws DecodingException {
+        try {
+            @SuppressWarnings("unchecked")
+            OmittableProtobufMapper<Record> mapper = (OmittableProtobufMapper<Record>) OmittableProtobufMapper.of(targetType.toClass().asSubclass(Record.class));
+
+            return mapper.parseFrom(buffer.asInputStream());
+        } catch (InvalidProtocolBufferException e) {
+            throw new DecodingException("Could not read Protobuf message: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected I/O error while reading data", e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+}
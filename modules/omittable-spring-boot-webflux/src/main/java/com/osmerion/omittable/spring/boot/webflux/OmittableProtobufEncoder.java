@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMapper;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMessage;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link org.springframework.core.codec.Encoder Encoder} that writes records with {@code Omittable} components as
+ * Protocol Buffers messages.
+ *
+ * <p>Only records that are annotated with {@link OmittableProtobufMessage} are supported. They are mapped to their
+ * message type by an {@link OmittableProtobufMapper}, without an intermediate JSON representation. Like Spring's
+ * {@code ProtobufEncoder}, streams of records are written as delimited messages.</p>
+ *
+ * <p>The element type must be declared as a mapped record type. Responses with other element types (for example,
+ * {@code Mono<Object>}) are not written as Protocol Buffers messages, so that requests for them are rejected during
+ * content negotiation.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableProtobufEncoder extends AbstractEncoder<Record> {
+
+    static final MimeType[] MIME_TYPES = {
+        new MimeType("application", "x-protobuf"),
+        new MimeType("application", "protobuf")
+    };
+
+    /**
+     * Creates a new encoder.
+     *
+     * @since   2.1.0
+     */
+    public OmittableProtobufEncoder() {
+        super(MIME_TYPES);
+    }
+
+    /*
+     * Codec configurers order custom encoders that can encode Object (without a MIME type) after the general-purpose
+     * JSON encoders. Without this, Protocol Buffers would be preferred in content negotiation for records that may be
+     * written as both JSON and Protocol Buffers. Object is only claimed for that check, and no MIME types are advertised
+     * for it, so that handlers with other element types are not written as Protocol Buffers messages.
+     */
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        Class<?> type = elementType.toClass();
+        return ((type == Object.class && mimeType == null) || OmittableProtobufMapper.isMapped(type)) && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes(ResolvableType elementType) {
+        return OmittableProtobufMapper.isMapped(elementType.toClass()) ? this.getEncodableMimeTypes() : List.of();
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends Record> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        boolean delimited = !(inputStream instanceof Mono);
+
+        // The elements are not cast to Record here, so that unexpected elements fail with an EncodingException.
+        Flux<Object> values = Flux.from(inputStream);
+        return values.map(value -> this.encodeValue(value, bufferFactory, delimited));
+    }
+
+    @Override
+    public DataBuffer encodeValue(Record value, DataBufferFactory bufferFactory, ResolvableType valueType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return this.encodeValue(value, bufferFactory, false);
+    }
+
+    private DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, boolean delimited) {
+        if (!(value instanceof Record record) || !OmittableProtobufMapper.isMapped(record.getClass())) {
+            throw new EncodingException("Not a record annotated with @OmittableProtobufMessage: " + value.getClass().getName());
+        }
+
+        @SuppressWarnings("unchecked")
+        OmittableProtobufMapper<Record> mapper = (OmittableProtobufMapper<Record>) OmittableProtobufMapper.of(record.getClass());
+        Message message = mapper.toMessage(record);
+
+        int size = message.getSerializedSize();
+        DataBuffer buffer = bufferFactory.allocateBuffer(delimited ? size + CodedOutputStream.computeUInt32SizeNoTag(size) : size);
+
+        try {
+            if (delimited) {
+                message.writeDelimitedTo(buffer.asOutputStream());
+            } else {
+                message.writeTo(buffer.asOutputStream());
+            }
+
+            return buffer;
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new EncodingException("Could not write Protobuf message: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -15,22 +15,40 @@
  */
 package com.osmerion.omittable.spring.boot.webflux;
 
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.Message;
 import com.osmerion.omittable.Omittable;
 import com.osmerion.omittable.jackson.OmittableModule;
-import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import com.osmerion.omittable.spring.boot.core.OmittableProperties;
+import com.osmerion.omittable.spring.boot.core.convert.CachingOmittableConverter;
+import com.osmerion.omittable.spring.boot.core.fields.OmittableFieldSelector;
+import com.osmerion.omittable.spring.boot.core.metadata.OmittableHandlerMetadataRegistry;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableConversionListener;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableParameterListener;
 import com.osmerion.omittable.spring.webflux.OmittableRequestParamMethodArgumentResolver;
 import com.osmerion.omittable.swagger.v3.core.converter.OmittableModelConverter;
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import org.springdoc.core.configuration.SpringDocConfiguration;
 import org.springdoc.core.customizers.ParameterCustomizer;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -38,11 +56,29 @@ import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.cbor.JacksonCborDecoder;
+import org.springframework.http.codec.cbor.JacksonCborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.codec.smile.JacksonSmileDecoder;
+import org.springframework.http.codec.smile.JacksonSmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
 import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 /**
@@ -54,8 +90,13 @@ import java.util.List;
  */
 @AutoConfiguration
 @ConditionalOnWebApplication(type =  ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(OmittableProperties.class)
 public class OmittableReactiveAutoConfiguration {
 
+    private static final Log LOGGER = LogFactory.getLog(OmittableReactiveAutoConfiguration.class);
+
+    private static final boolean JACKSON_3_PRESENT = ClassUtils.isPresent("tools.jackson.databind.json.JsonMapper", OmittableReactiveAutoConfiguration.class.getClassLoader());
+
     public OmittableReactiveAutoConfiguration() {}
 
     @Bean
@@ -66,15 +107,40 @@ public class OmittableReactiveAutoConfiguration {
         return new OmittableRequestParamMethodArgumentResolver(factory, registry);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public CachingOmittableConverter omittableConverter(
+        @Lazy ConversionService conversionService,
+        OmittableProperties properties,
+        ObjectProvider<OmittableConversionListener> listeners
+    ) {
+        return new CachingOmittableConverter(
+            conversionService,
+            properties.getConversion().getCacheSize(),
+            OmittableConversionListener.of(listeners.orderedStream().toList())
+        );
+    }
+
     @Bean
     public WebFluxConfigurer omittableWebFluxConfigurer(
-        @Lazy ConversionService conversionService
+        ObjectProvider<CachingOmittableConverter> omittableConverter,
+        ObjectProvider<OmittableRequestParamMethodArgumentResolver> omittableRequestParamMethodArgumentResolver
     ) {
         return new WebFluxConfigurer() {
 
             @Override
             public void addFormatters(FormatterRegistry registry) {
-                registry.addConverter(new OmittableConverter(conversionService));
+                registry.addConverter(omittableConverter.getObject());
+            }
+
+            /*
+             * Custom resolvers are consulted after the built-in ones. This registration only takes effect if the
+             * resolver could not be prepended (see prependArgumentResolver), in which case Omittable parameters
+             * without @RequestParam are still bound.
+             */
+            @Override
+            public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+                configurer.addCustomResolver(omittableRequestParamMethodArgumentResolver.getObject());
             }
 
         };
@@ -82,34 +148,65 @@ public class OmittableReactiveAutoConfiguration {
 
     @Bean
     public InitializingBean omittableInitializationBean(
+        ObjectProvider<RequestMappingHandlerMapping> requestMappingHandlerMappings,
         RequestMappingHandlerAdapter requestMappingHandlerAdapter,
-        OmittableRequestParamMethodArgumentResolver omittableRequestParamMethodArgumentResolver
+        OmittableRequestParamMethodArgumentResolver omittableRequestParamMethodArgumentResolver,
+        @Lazy ReactiveAdapterRegistry registry,
+        ObjectProvider<OmittableHandlerMetadataRegistry> metadataRegistry,
+        ObjectProvider<OmittableParameterListener> listeners
     ) {
         return () -> {
-            // This is a hack to work around the fact that Spring does not provide a way to customize the order
-            Class<RequestMappingHandlerAdapter> requestMappingHandlerAdapterClass = RequestMappingHandlerAdapter.class;
-            Field methodResolverField = requestMappingHandlerAdapterClass.getDeclaredField("methodResolver");
+            List<HandlerMethod> handlerMethods = requestMappingHandlerMappings.orderedStream()
+                .flatMap(mapping -> mapping.getHandlerMethods().values().stream())
+                .toList();
 
-            methodResolverField.setAccessible(true);
+            OmittableBindingPlans plans = OmittableBindingPlans.create(
+                handlerMethods,
+                omittableRequestParamMethodArgumentResolver,
+                registry,
+                metadataRegistry.getIfAvailable()
+            );
+            OmittableBindingArgumentResolver resolver = new OmittableBindingArgumentResolver(
+                plans,
+                omittableRequestParamMethodArgumentResolver,
+                OmittableParameterListener.of(listeners.orderedStream().toList())
+            );
 
-            try {
-                Object methodResolver = methodResolverField.get(requestMappingHandlerAdapter);
-                Class<?> controllerMethodResolverClass = methodResolver.getClass();
-                Field requestMappingResolversField = controllerMethodResolverClass.getDeclaredField("requestMappingResolvers");
+            prependArgumentResolver(requestMappingHandlerAdapter, resolver);
+        };
+    }
 
-                requestMappingResolversField.setAccessible(true);
+    /*
+     * Spring WebFlux does not provide a way to register argument resolvers ahead of the built-in ones. Since the
+     * built-in resolver for @RequestParam would otherwise claim Omittable parameters, the resolver is prepended to the
+     * request mapping resolvers once during startup. This relies on private fields of Spring WebFlux (see
+     * OmittableRuntimeHints). If their layout changed, a warning is logged instead of failing the startup, and only the
+     * custom resolver that is registered by omittableWebFluxConfigurer is available.
+     */
+    @SuppressWarnings("unchecked")
+    static boolean prependArgumentResolver(RequestMappingHandlerAdapter requestMappingHandlerAdapter, HandlerMethodArgumentResolver resolver) {
+        Object resolvers;
 
-                try {
-                    @SuppressWarnings("unchecked")
-                    List<HandlerMethodArgumentResolver> handlerMethodArgumentResolvers = (List<HandlerMethodArgumentResolver>) requestMappingResolversField.get(methodResolver);
-                    handlerMethodArgumentResolvers.add(0, omittableRequestParamMethodArgumentResolver);
-                } finally {
-                    requestMappingResolversField.setAccessible(false);
-                }
-            } finally {
-                methodResolverField.setAccessible(false);
-            }
-        };
+        try {
+            resolvers = new DirectFieldAccessor(requestMappingHandlerAdapter).getPropertyValue("methodResolver.requestMappingResolvers");
+        } catch (BeansException e) {
+            LOGGER.warn("Failed to locate the request mapping resolvers of " + requestMappingHandlerAdapter + ". Omittable parameters annotated with @RequestParam are bound by the built-in resolver.", e);
+            return false;
+        }
+
+        if (!(resolvers instanceof List<?>)) {
+            LOGGER.warn("Unexpected request mapping resolvers of " + requestMappingHandlerAdapter + ": " + resolvers + ". Omittable parameters annotated with @RequestParam are bound by the built-in resolver.");
+            return false;
+        }
+
+        try {
+            ((List<HandlerMethodArgumentResolver>) resolvers).add(0, resolver);
+        } catch (UnsupportedOperationException e) {
+            LOGGER.warn("Failed to prepend to the request mapping resolvers of " + requestMappingHandlerAdapter + ". Omittable parameters annotated with @RequestParam are bound by the built-in resolver.", e);
+            return false;
+        }
+
+        return true;
     }
 
     @Configuration
@@ -122,10 +219,206 @@ public class OmittableReactiveAutoConfiguration {
             return new OmittableModule();
         }
 
+        /*
+         * Registers Jackson codecs that are backed by an ObjectMapper with the OmittableModule. The Jackson decoder
+         * decodes Flux request bodies (NDJSON and JSON arrays) one element at a time, and the size of each element is
+         * bounded by the maximum in-memory size of the codecs. Additionally, a decoder for JSON Merge Patch documents
+         * is registered.
+         *
+         * If Jackson 3 is available and there is no ObjectMapper bean, the default JSON codecs are left to Jackson 3
+         * (see OmittableJackson3AutoConfiguration) instead of setting up a second Jackson stack for them.
+         *
+         * If sparse fieldsets are enabled, the JSON encoder writes responses through the OmittableFieldSelector when
+         * the query parameter is present.
+         */
+        @Bean
+        public WebFluxConfigurer omittableJacksonWebFluxConfigurer(
+            ObjectProvider<ObjectMapper> objectMapper,
+            OmittableModule omittableModule,
+            ObjectProvider<OmittableFieldSelector> omittableFieldSelector,
+            OmittableProperties properties
+        ) {
+            return new WebFluxConfigurer() {
+
+                @Override
+                public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                    ObjectMapper mapper = objectMapper.getIfAvailable();
+                    boolean defaultCodecs = (mapper != null) || !JACKSON_3_PRESENT;
+
+                    if (mapper == null) mapper = new ObjectMapper();
+                    if (!mapper.getRegisteredModuleIds().contains(omittableModule.getTypeId())) {
+                        mapper = mapper.copy().registerModule(omittableModule);
+                    }
+
+                    if (defaultCodecs) {
+                        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+
+                        OmittableFieldSelector selector = omittableFieldSelector.getIfAvailable();
+                        configurer.defaultCodecs().jackson2JsonEncoder((selector != null)
+                            ? new OmittableFieldsJackson2JsonEncoder(mapper, selector, properties.getFields().getParameterName())
+                            : new Jackson2JsonEncoder(mapper)
+                        );
+                    }
+
+                    configurer.customCodecs().registerWithDefaultConfig(new OmittableMergePatchDecoder(mapper));
+                }
+
+            };
+        }
+
+        /*
+         * The selector copies the ObjectMapper and assigns the filter only in the copy. Responses without the query
+         * parameter are thus written by the regular encoder without any filter.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBooleanProperty(name = "omittable.fields.enabled")
+        public OmittableFieldSelector omittableFieldSelector(
+            ObjectProvider<ObjectMapper> objectMapper,
+            OmittableModule omittableModule,
+            OmittableProperties properties
+        ) {
+            ObjectMapper mapper = objectMapper.getIfAvailable(ObjectMapper::new);
+            if (!mapper.getRegisteredModuleIds().contains(omittableModule.getTypeId())) {
+                mapper = mapper.copy().registerModule(omittableModule);
+            }
+
+            return new OmittableFieldSelector(mapper, properties.getFields().getCacheSize());
+        }
+
+    }
+
+    /*
+     * The binary dataformats are configured with the Jackson stack of their dataformat module. Jackson 2 mappers are
+     * built from the Jackson2ObjectMapperBuilder of the context with the factory of the dataformat, so that they share
+     * the modules (including the Omittable module), features, and properties of the JSON mapper. Jackson 3 mappers are
+     * built from the Jackson modules in the context. This way, absent, null, and present values are handled the same
+     * way in all formats.
+     *
+     * Smile codecs replace the default ones. CBOR codecs are not registered by default and are registered as custom
+     * codecs instead, which are ordered after the default JSON codecs and thus do not take precedence over JSON in
+     * content negotiation.
+     */
+    @Configuration
+    @ConditionalOnClass({ ObjectMapper.class, SmileFactory.class })
+    @ConditionalOnMissingClass("tools.jackson.dataformat.smile.SmileMapper")
+    public static class OmittableJacksonSmileAutoConfiguration {
+
+        @Bean
+        public WebFluxConfigurer omittableSmileWebFluxConfigurer(
+            ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+            ObjectProvider<Module> modules
+        ) {
+            return new WebFluxConfigurer() {
+
+                @Override
+                public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                    ObjectMapper mapper = objectMapperBuilder.getIfAvailable(() -> new Jackson2ObjectMapperBuilder().modulesToInstall(modules.orderedStream().toArray(Module[]::new)))
+                        .factory(new SmileFactory())
+                        .build();
+                    configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(mapper));
+                    configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass({ ObjectMapper.class, CBORFactory.class })
+    @ConditionalOnMissingClass("tools.jackson.dataformat.cbor.CBORMapper")
+    public static class OmittableJacksonCborAutoConfiguration {
+
+        @Bean
+        public WebFluxConfigurer omittableCborWebFluxConfigurer(
+            ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+            ObjectProvider<Module> modules
+        ) {
+            return new WebFluxConfigurer() {
+
+                @Override
+                public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                    ObjectMapper mapper = objectMapperBuilder.getIfAvailable(() -> new Jackson2ObjectMapperBuilder().modulesToInstall(modules.orderedStream().toArray(Module[]::new)))
+                        .factory(new CBORFactory())
+                        .build();
+                    configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(mapper));
+                    configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(SmileMapper.class)
+    public static class OmittableJackson3SmileAutoConfiguration {
+
+        @Bean
+        public WebFluxConfigurer omittableJackson3SmileWebFluxConfigurer(
+            ObjectProvider<SmileMapper> smileMapper,
+            ObjectProvider<JacksonModule> modules
+        ) {
+            return new WebFluxConfigurer() {
+
+                @Override
+                public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                    SmileMapper mapper = smileMapper.getIfAvailable(() -> SmileMapper.builder().addModules(modules.orderedStream().toList()).build());
+                    configurer.defaultCodecs().jacksonSmileDecoder(new JacksonSmileDecoder(mapper));
+                    configurer.defaultCodecs().jacksonSmileEncoder(new JacksonSmileEncoder(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(CBORMapper.class)
+    public static class OmittableJackson3CborAutoConfiguration {
+
+        @Bean
+        public WebFluxConfigurer omittableJackson3CborWebFluxConfigurer(
+            ObjectProvider<CBORMapper> cborMapper,
+            ObjectProvider<JacksonModule> modules
+        ) {
+            return new WebFluxConfigurer() {
+
+                @Override
+                public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                    CBORMapper mapper = cborMapper.getIfAvailable(() -> CBORMapper.builder().addModules(modules.orderedStream().toList()).build());
+                    configurer.customCodecs().registerWithDefaultConfig(new JacksonCborDecoder(mapper));
+                    configurer.customCodecs().registerWithDefaultConfig(new JacksonCborEncoder(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(Message.class)
+    public static class OmittableProtobufAutoConfiguration {
+
+        @Bean
+        public WebFluxConfigurer omittableProtobufWebFluxConfigurer() {
+            return new WebFluxConfigurer() {
+
+                @Override
+                public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                    configurer.customCodecs().registerWithDefaultConfig(new OmittableProtobufDecoder());
+                    configurer.customCodecs().registerWithDefaultConfig(new OmittableProtobufEncoder());
+                }
+
+            };
+        }
+
     }
 
     @Configuration
     @ConditionalOnClass(SpringDocConfiguration.class)
+    @ConditionalOnBooleanProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
     public static class OmittableSpringdocAutoConfiguration {
 
         @Bean
@@ -153,10 +446,16 @@ public class OmittableReactiveAutoConfiguration {
     @ConditionalOnClass(ModelConverter.class)
     public static class OmittableSwaggerAutoConfiguration {
 
+        /*
+         * The converter is only requested when API docs are generated. Creating it lazily avoids resolving the
+         * ObjectMapper at startup in applications that do not serve API docs. Applications that use Jackson 3 do not
+         * have an ObjectMapper bean, so Swagger's own mapper is used instead.
+         */
         @Bean
+        @Lazy
         @ConditionalOnMissingBean
-        public OmittableModelConverter omittableModelConverter(ObjectMapper objectMapper) {
-            return new OmittableModelConverter(objectMapper);
+        public OmittableModelConverter omittableModelConverter(ObjectProvider<ObjectMapper> objectMapper) {
+            return new OmittableModelConverter(objectMapper.getIfAvailable(Json::mapper));
         }
 
     }
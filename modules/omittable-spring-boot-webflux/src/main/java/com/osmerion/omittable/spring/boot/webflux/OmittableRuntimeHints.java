@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson.OmittableModule;
+import com.osmerion.omittable.swagger.v3.core.converter.OmittableModelConverter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * A {@link RuntimeHintsRegistrar} that registers the hints required to use Omittable types in native images.
+ *
+ * <p>Reflective access to {@link Omittable}, the {@link OmittableModule}, its Jackson 3 counterpart and the
+ * {@link OmittableModelConverter} is registered, as well as the service descriptors that are used to discover Jackson
+ * modules and Swagger model converters.</p>
+ *
+ * <p>In addition, access to the private fields of Spring WebFlux that are used to register the Omittable argument
+ * resolver is registered.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableRuntimeHints implements RuntimeHintsRegistrar {
+
+    public OmittableRuntimeHints() {}
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.reflection()
+            .registerType(Omittable.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(OmittableModule.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(OmittableModelConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(TypeReference.of("com.osmerion.omittable.spring.boot.core.jackson3.OmittableJackson3Module"), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        hints.resources()
+            .registerPattern("META-INF/services/com.fasterxml.jackson.databind.Module")
+            .registerPattern("META-INF/services/tools.jackson.databind.JacksonModule")
+            .registerPattern("META-INF/services/io.swagger.v3.core.converter.ModelConverter");
+
+        // Required to prepend the argument resolver (see OmittableReactiveAutoConfiguration#omittableInitializationBean)
+        hints.reflection()
+            .registerType(RequestMappingHandlerAdapter.class, builder -> builder.withField("methodResolver"))
+            .registerType(TypeReference.of("org.springframework.web.reactive.result.method.annotation.ControllerMethodResolver"), builder -> builder.withField("requestMappingResolvers"));
+    }
+
+}
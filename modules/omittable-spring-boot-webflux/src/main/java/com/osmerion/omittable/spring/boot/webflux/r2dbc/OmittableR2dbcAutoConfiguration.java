@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux.r2dbc;
+
+import com.osmerion.omittable.spring.boot.webflux.OmittableReactiveAutoConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.binding.BindMarkersFactoryResolver;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for partial updates of {@code Omittable} records with R2DBC.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfiguration(
+    after = OmittableReactiveAutoConfiguration.class,
+    afterName = "org.springframework.boot.r2dbc.autoconfigure.R2dbcAutoConfiguration"
+)
+@ConditionalOnClass({ ConnectionFactory.class, DatabaseClient.class })
+@ConditionalOnSingleCandidate(ConnectionFactory.class)
+@EnableConfigurationProperties(OmittableR2dbcProperties.class)
+public class OmittableR2dbcAutoConfiguration {
+
+    public OmittableR2dbcAutoConfiguration() {}
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OmittableR2dbcUpdates omittableR2dbcUpdates(
+        ConnectionFactory connectionFactory,
+        ObjectProvider<DatabaseClient> databaseClient,
+        OmittableR2dbcProperties properties
+    ) {
+        return new OmittableR2dbcUpdates(
+            databaseClient.getIfUnique(() -> DatabaseClient.create(connectionFactory)),
+            BindMarkersFactoryResolver.resolve(connectionFactory),
+            properties.getStatementCacheSize(),
+            properties.getBatchSize()
+        );
+    }
+
+}
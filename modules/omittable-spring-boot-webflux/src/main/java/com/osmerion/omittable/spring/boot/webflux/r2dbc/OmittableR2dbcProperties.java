@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux.r2dbc;
+
+import com.osmerion.omittable.spring.boot.core.patch.OmittableUpdateStatements;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the R2DBC support of Omittable types.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@ConfigurationProperties(prefix = "omittable.r2dbc")
+public class OmittableR2dbcProperties {
+
+    /**
+     * The maximum number of cached update statements per record type and table. A value of zero disables the cache.
+     */
+    private int statementCacheSize = OmittableUpdateStatements.DEFAULT_STATEMENT_CACHE_SIZE;
+
+    /**
+     * The maximum number of consecutive records with the same presence mask that are bound to a single statement.
+     */
+    private int batchSize = OmittableR2dbcUpdater.DEFAULT_BATCH_SIZE;
+
+    public OmittableR2dbcProperties() {}
+
+    /**
+     * {@return the maximum number of cached update statements per record type and table}
+     *
+     * @since   2.1.0
+     */
+    public int getStatementCacheSize() {
+        return this.statementCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached update statements per record type and table.
+     *
+     * @param statementCacheSize    the maximum number of cached update statements
+     *
+     * @since   2.1.0
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * {@return the maximum number of records that are bound to a single statement}
+     *
+     * @since   2.1.0
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the maximum number of records that are bound to a single statement.
+     *
+     * @param batchSize the maximum number of records per statement
+     *
+     * @since   2.1.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux.r2dbc;
+
+import com.osmerion.omittable.spring.boot.core.patch.OmittableRecordType;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableUpdateStatements;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindMarkersFactory;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Executes partial updates that are described by records with {@code Omittable} components using R2DBC.
+ *
+ * <p>The {@code UPDATE} statement for a record only assigns the columns of the present {@code Omittable} components
+ * and of the non-key components that are not {@code Omittable}. A present component that wraps {@code null} sets the
+ * column to {@code NULL}, while an absent component leaves the column untouched. The key components identify the row
+ * in the {@code WHERE} clause. Statements are cached per presence mask (see {@link OmittableUpdateStatements}).</p>
+ *
+ * <p>{@link #update(DatabaseClient, Publisher) Streams of records} are executed on a single connection. Consecutive
+ * records with the same presence mask are bound to a single statement in batches of up to
+ * {@link Builder#batchSize(int) batchSize} records, which allows drivers to pipeline the executions. Records are
+ * requested from the upstream publisher as the batches complete.</p>
+ *
+ * <p>Updaters are thread-safe and should be reused.</p>
+ *
+ * @param <T>   the type of the record
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableR2dbcUpdater<T extends Record> {
+
+    /**
+     * The default maximum number of records that are bound to a single statement.
+     *
+     * @since   2.1.0
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Creates a new builder for an updater of the given record type.
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param table the name of the table to update
+     *
+     * @return  a new builder
+     *
+     * @throws IllegalArgumentException if the given type is not a supported record type
+     *
+     * @since   2.1.0
+     */
+    public static <T extends Record> Builder<T> builder(Class<T> type, String table) {
+        return new Builder<>(OmittableUpdateStatements.builder(type, table));
+    }
+
+    private final OmittableUpdateStatements<T> statements;
+    private final int batchSize;
+
+    private OmittableR2dbcUpdater(OmittableUpdateStatements<T> statements, int batchSize) {
+        this.statements = statements;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@return the structure of the record type}
+     *
+     * @since   2.1.0
+     */
+    public OmittableRecordType<T> getRecordType() {
+        return this.statements.getRecordType();
+    }
+
+    /**
+     * {@return the SQL of the update statement for the given presence mask, or {@code null} if no column would be
+     * assigned}
+     *
+     * @param presenceMask  the presence mask
+     *
+     * @since   2.1.0
+     */
+    public @Nullable String getSql(long presenceMask) {
+        OmittableUpdateStatements.Statement statement = this.statements.getStatement(presenceMask);
+        return (statement != null) ? statement.getSql() : null;
+    }
+
+    /**
+     * {@return the number of cached statements}
+     *
+     * @since   2.1.0
+     */
+    public int getCachedStatementCount() {
+        return this.statements.getCachedStatementCount();
+    }
+
+    /**
+     * Updates the row that is identified by the given record.
+     *
+     * <p>If no column would be assigned, no statement is executed and {@code 0} is emitted.</p>
+     *
+     * @param databaseClient    the client to execute the statement with
+     * @param record            the record
+     *
+     * @return  a {@code Mono} that emits the number of updated rows
+     *
+     * @since   2.1.0
+     */
+    public Mono<Long> update(DatabaseClient databaseClient, T record) {
+        return this.update(databaseClient, Mono.just(record)).single();
+    }
+
+    /**
+     * Updates the rows that are identified by the given records.
+     *
+     * <p>If no column would be assigned for a record, no statement is executed for it and {@code 0} is emitted.</p>
+     *
+     * @param databaseClient    the client to execute the statements with
+     * @param records           the records
+     *
+     * @return  a {@code Flux} that emits the number of updated rows for each record in the order of the given records
+     *
+     * @since   2.1.0
+     */
+    public Flux<Long> update(DatabaseClient databaseClient, Publisher<? extends T> records) {
+        OmittableRecordType<T> recordType = this.statements.getRecordType();
+
+        return databaseClient.inConnectionMany(connection -> Flux.from(records)
+            .map(record -> new Entry<T>(recordType.getPresenceMask(record), record))
+            .windowUntilChanged(Entry::presenceMask)
+            .concatMap(window -> window.buffer(this.batchSize))
+            .concatMap(batch -> this.execute(connection, batch))
+        );
+    }
+
+    private Flux<Long> execute(Connection connection, List<Entry<T>> batch) {
+        OmittableUpdateStatements.Statement statement = this.statements.getStatement(batch.get(0).presenceMask());
+        if (statement == null) return Flux.fromIterable(batch).map(entry -> 0L);
+
+        List<OmittableRecordType.Component> parameters = statement.getParameters();
+        Statement r2dbcStatement = connection.createStatement(statement.getSql());
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) r2dbcStatement.add();
+
+            @Nullable Object[] arguments = statement.getArguments(batch.get(i).record());
+            for (int j = 0; j < arguments.length; j++) {
+                Object argument = arguments[j];
+
+                if (argument != null) {
+                    r2dbcStatement.bind(j, argument);
+                } else {
+                    r2dbcStatement.bindNull(j, ClassUtils.resolvePrimitiveIfNecessary(parameters.get(j).getValueType()));
+                }
+            }
+        }
+
+        return Flux.from(r2dbcStatement.execute()).concatMap(Result::getRowsUpdated);
+    }
+
+    private record Entry<T>(long presenceMask, T record) {}
+
+    /**
+     * A builder for an {@link OmittableR2dbcUpdater}.
+     *
+     * <p>By default, the components that are not {@code Omittable} are used as keys, the names of the columns are
+     * derived from the names of the components by converting them from camel case to snake case, and indexed bind
+     * markers of the form {@code $1} are used.</p>
+     *
+     * @param <T>   the type of the record
+     *
+     * @since   2.1.0
+     */
+    public static final class Builder<T extends Record> {
+
+        private final OmittableUpdateStatements.Builder<T> statements;
+        private BindMarkersFactory bindMarkersFactory = BindMarkersFactory.indexed("$", 1);
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder(OmittableUpdateStatements.Builder<T> statements) {
+            this.statements = statements;
+        }
+
+        /**
+         * Sets the name of the column for the given component.
+         *
+         * @param component the name of the component
+         * @param column    the name of the column
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with the given name
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> column(String component, String column) {
+            this.statements.column(component, column);
+            return this;
+        }
+
+        /**
+         * Sets the components that identify the row to update.
+         *
+         * @param components    the names of the key components
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if there is no component with one of the given names, or if one of the
+         *                                  components is an {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> keys(String... components) {
+            this.statements.keys(components);
+            return this;
+        }
+
+        /**
+         * Sets the factory for the bind markers of the database.
+         *
+         * @param bindMarkersFactory    the factory for bind markers
+         *
+         * @return  this builder
+         *
+         * @see org.springframework.r2dbc.core.binding.BindMarkersFactoryResolver
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> bindMarkers(BindMarkersFactory bindMarkersFactory) {
+            this.bindMarkersFactory = bindMarkersFactory;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of consecutive records with the same presence mask that are bound to a single
+         * statement.
+         *
+         * @param batchSize the maximum number of records per statement
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is not positive
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> batchSize(int batchSize) {
+            if (batchSize < 1) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            this.batchSize = batchSize;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached statements.
+         *
+         * <p>A value of zero disables the cache.</p>
+         *
+         * @param statementCacheSize    the maximum number of cached statements
+         *
+         * @return  this builder
+         *
+         * @throws IllegalArgumentException if the given size is negative
+         *
+         * @since   2.1.0
+         */
+        public Builder<T> statementCacheSize(int statementCacheSize) {
+            this.statements.statementCacheSize(statementCacheSize);
+            return this;
+        }
+
+        /**
+         * {@return a new updater}
+         *
+         * @throws IllegalStateException if no key component is configured and the record has no component that is not
+         *                               an {@code Omittable}
+         *
+         * @since   2.1.0
+         */
+        public OmittableR2dbcUpdater<T> build() {
+            BindMarkersFactory bindMarkersFactory = this.bindMarkersFactory;
+
+            /*
+             * Bind markers are stateful and may only be created in sequence. Since statements are created rarely and
+             * have few parameters, the markers are recreated for each parameter instead of threading the state through
+             * the statement creation.
+             */
+            OmittableUpdateStatements<T> statements = this.statements.bindMarkers(index -> {
+                BindMarkers bindMarkers = bindMarkersFactory.create();
+                for (int i = 0; i < index; i++) bindMarkers.next();
+
+                return bindMarkers.next().getPlaceholder();
+            }).build();
+
+            return new OmittableR2dbcUpdater<>(statements, this.batchSize);
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux.r2dbc;
+
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.binding.BindMarkersFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executes partial updates that are described by records with {@code Omittable} components using a shared
+ * {@link DatabaseClient}.
+ *
+ * <p>An {@link OmittableR2dbcUpdater} with the default keys and column names is created once per record type and table
+ * and reused for subsequent updates.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableR2dbcUpdates {
+
+    private final DatabaseClient databaseClient;
+    private final BindMarkersFactory bindMarkersFactory;
+    private final int statementCacheSize;
+    private final int batchSize;
+    private final Map<UpdaterKey, OmittableR2dbcUpdater<?>> updaters;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param databaseClient        the client to execute the statements with
+     * @param bindMarkersFactory    the factory for the bind markers of the database
+     * @param statementCacheSize    the maximum number of cached statements per updater
+     * @param batchSize             the maximum number of records that are bound to a single statement
+     *
+     * @since   2.1.0
+     */
+    public OmittableR2dbcUpdates(DatabaseClient databaseClient, BindMarkersFactory bindMarkersFactory, int statementCacheSize, int batchSize) {
+        if (statementCacheSize < 0) throw new IllegalArgumentException("statementCacheSize must not be negative: " + statementCacheSize);
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+
+        this.databaseClient = databaseClient;
+        this.bindMarkersFactory = bindMarkersFactory;
+        this.statementCacheSize = statementCacheSize;
+        this.batchSize = batchSize;
+        this.updaters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@return the updater for the given record type and table}
+     *
+     * @param <T>   the type of the record
+     * @param type  the type of the record
+     * @param table the name of the table to update
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> OmittableR2dbcUpdater<T> getUpdater(Class<T> type, String table) {
+        return (OmittableR2dbcUpdater<T>) this.updaters.computeIfAbsent(
+            new UpdaterKey(type, table),
+            key -> OmittableR2dbcUpdater.builder(type, table)
+                .bindMarkers(this.bindMarkersFactory)
+                .statementCacheSize(this.statementCacheSize)
+                .batchSize(this.batchSize)
+                .build()
+        );
+    }
+
+    /**
+     * Updates the row that is identified by the given record.
+     *
+     * @param <T>       the type of the record
+     * @param table     the name of the table to update
+     * @param record    the record
+     *
+     * @return  a {@code Mono} that emits the number of updated rows
+     *
+     * @see OmittableR2dbcUpdater#update(DatabaseClient, Record)
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> Mono<Long> update(String table, T record) {
+        return this.getUpdater((Class<T>) record.getClass(), table).update(this.databaseClient, record);
+    }
+
+    /**
+     * Updates the rows that are identified by the given records.
+     *
+     * @param <T>       the type of the records
+     * @param type      the type of the records
+     * @param table     the name of the table to update
+     * @param records   the records
+     *
+     * @return  a {@code Flux} that emits the number of updated rows for each record in the order of the given records
+     *
+     * @see OmittableR2dbcUpdater#update(DatabaseClient, Publisher)
+     *
+     * @since   2.1.0
+     */
+    public <T extends Record> Flux<Long> update(Class<T> type, String table, Publisher<? extends T> records) {
+        return this.getUpdater(type, table).update(this.databaseClient, records);
+    }
+
+    private record UpdaterKey(Class<?> type, String table) {}
+
+}
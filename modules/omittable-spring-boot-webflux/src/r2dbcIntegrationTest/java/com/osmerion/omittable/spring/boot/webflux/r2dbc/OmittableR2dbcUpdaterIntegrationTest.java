@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux.r2dbc;
+
+import com.osmerion.omittable.Omittable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+public final class OmittableR2dbcUpdaterIntegrationTest {
+
+    public record PersonUpdate(long id, Omittable<String> firstName, Omittable<@Nullable String> email, Omittable<Integer> age) {}
+
+    private ConnectionFactory connectionFactory;
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    public void setUp() {
+        this.connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        this.databaseClient = DatabaseClient.create(this.connectionFactory);
+
+        this.databaseClient.sql("CREATE TABLE person (id BIGINT PRIMARY KEY, first_name VARCHAR(64), email VARCHAR(64), age INT)")
+            .then()
+            .block();
+
+        Flux.range(1, 1000)
+            .concatMap(id -> this.databaseClient.sql("INSERT INTO person VALUES ($1, $2, $3, $4)")
+                .bind(0, (long) id)
+                .bind(1, "Name" + id)
+                .bind(2, "mail" + id + "@example.com")
+                .bind(3, 20)
+                .then())
+            .blockLast();
+    }
+
+    @Test
+    public void testUpdate() {
+        OmittableR2dbcUpdater<PersonUpdate> updater = OmittableR2dbcUpdater.builder(PersonUpdate.class, "person").build();
+
+        Long count = updater.update(this.databaseClient, new PersonUpdate(1, Omittable.of("Karl"), Omittable.of(null), Omittable.absent())).block();
+
+        assertThat(count).isEqualTo(1L);
+        assertThat(this.row(1)).containsEntry("FIRST_NAME", "Karl").containsEntry("EMAIL", null).containsEntry("AGE", 20);
+        assertThat(this.row(2)).containsEntry("FIRST_NAME", "Name2").containsEntry("EMAIL", "mail2@example.com");
+        assertThat(updater.getSql(0b101L)).isEqualTo("UPDATE person SET first_name = $1, age = $2 WHERE id = $3");
+    }
+
+    @Test
+    public void testUpdateWithoutPresentComponents() {
+        OmittableR2dbcUpdater<PersonUpdate> updater = OmittableR2dbcUpdater.builder(PersonUpdate.class, "person").build();
+
+        assertThat(updater.update(this.databaseClient, new PersonUpdate(1, Omittable.absent(), Omittable.absent(), Omittable.absent())).block()).isZero();
+        assertThat(updater.getCachedStatementCount()).isZero();
+    }
+
+    @Test
+    public void testUpdateStream() {
+        OmittableR2dbcUpdater<PersonUpdate> updater = OmittableR2dbcUpdater.builder(PersonUpdate.class, "person")
+            .batchSize(16)
+            .build();
+
+        AtomicLong maxRequest = new AtomicLong();
+        Flux<PersonUpdate> records = Flux.range(1, 1001)
+            .map(id -> switch (id % 3) {
+                case 0 -> new PersonUpdate(id, Omittable.of("Renamed" + id), Omittable.absent(), Omittable.absent());
+                case 1 -> new PersonUpdate(id, Omittable.absent(), Omittable.absent(), Omittable.of(id));
+                default -> new PersonUpdate(id, Omittable.absent(), Omittable.absent(), Omittable.absent());
+            })
+            .doOnRequest(request -> maxRequest.accumulateAndGet(request, Math::max));
+
+        List<Long> counts = updater.update(this.databaseClient, records).collectList().block();
+
+        assertThat(counts).hasSize(1001);
+        assertThat(counts.subList(0, 6)).containsExactly(1L, 0L, 1L, 1L, 0L, 1L);
+        assertThat(counts.get(1000)).isZero();
+        assertThat(maxRequest.get()).isLessThan(Long.MAX_VALUE);
+        assertThat(updater.getCachedStatementCount()).isEqualTo(2);
+
+        assertThat(this.row(3)).containsEntry("FIRST_NAME", "Renamed3").containsEntry("AGE", 20);
+        assertThat(this.row(4)).containsEntry("FIRST_NAME", "Name4").containsEntry("AGE", 4);
+        assertThat(this.row(5)).containsEntry("FIRST_NAME", "Name5").containsEntry("AGE", 20);
+    }
+
+    @Test
+    public void testAutoConfiguration() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(OmittableR2dbcAutoConfiguration.class))
+            .withBean(ConnectionFactory.class, () -> this.connectionFactory)
+            .run(context -> {
+                OmittableR2dbcUpdates updates = context.getBean(OmittableR2dbcUpdates.class);
+
+                assertThat(updates.update("person", new PersonUpdate(3, Omittable.of("Carla"), Omittable.absent(), Omittable.absent())).block()).isEqualTo(1L);
+                assertThat(updates.getUpdater(PersonUpdate.class, "person")).isSameAs(updates.getUpdater(PersonUpdate.class, "person"));
+                assertThat(this.row(3)).containsEntry("FIRST_NAME", "Carla");
+            });
+    }
+
+    private Map<String, @Nullable Object> row(long id) {
+        return this.databaseClient.sql("SELECT * FROM person WHERE id = $1")
+            .bind(0, id)
+            .fetch()
+            .one()
+            .block();
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import com.osmerion.omittable.swagger.v3.core.converter.OmittableModelConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "springdoc.api-docs.enabled=false"
+)
+public final class ApiDocsDisabledIntegrationTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    public void testSpringDocConfigurationIsSkipped() {
+        assertThat(this.context.getBeanNamesForType(OmittableReactiveAutoConfiguration.OmittableSpringdocAutoConfiguration.class))
+            .isEmpty();
+    }
+
+    @Test
+    public void testModelConverterIsNotInstantiated() {
+        assertThat(this.context.getBeanFactory().containsSingleton("omittableModelConverter"))
+            .isFalse();
+
+        assertThat(this.context.getBean(OmittableModelConverter.class))
+            .isNotNull();
+    }
+
+}
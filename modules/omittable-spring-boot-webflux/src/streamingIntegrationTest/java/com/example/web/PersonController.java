@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import com.example.model.PersonUpdate;
+import com.osmerion.omittable.Omittable;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/person")
+public final class PersonController {
+
+    @PostMapping(path = "/bulk", consumes = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Mono<String> bulkUpdate(@RequestBody Flux<PersonUpdate> updates) {
+        return updates
+            .limitRate(256)
+            .reduce(new long[4], (counts, update) -> {
+                counts[outcome(update.name())]++;
+                if (update.age().isPresent()) counts[3]++;
+
+                return counts;
+            })
+            .map(counts -> "absent=" + counts[0] + ", null=" + counts[1] + ", present=" + counts[2] + ", age=" + counts[3]);
+    }
+
+    private static int outcome(Omittable<?> value) {
+        if (!value.isPresent()) return 0;
+        return value.orElseThrow() == null ? 1 : 2;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import com.example.Main;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Streams a large number of {@code PersonUpdate} records to a handler that consumes them as a {@code Flux}.
+ *
+ * <p>The test task runs with a capped heap that is too small to hold all decoded records (or the raw request body) at
+ * once. Thus, the test only passes if the records are decoded and consumed one at a time.</p>
+ *
+ * @author  Leon Linhart
+ */
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class StreamingIntegrationTest {
+
+    private static final int RECORD_COUNT = 1_000_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final String EXPECTED_RESPONSE = "absent=333334, null=333333, present=333333, age=500000";
+
+    @LocalServerPort
+    private int port;
+
+    private static String personUpdate(int index) {
+        String name = switch (index % 3) {
+            case 0 -> null;
+            case 1 -> "\"name\": null";
+            default -> "\"name\": \"Person " + index + "\"";
+        };
+
+        String age = (index % 2 == 0) ? "\"age\": " + (index % 100) : null;
+
+        if (name == null) return (age == null) ? "{}" : "{" + age + "}";
+        return (age == null) ? "{" + name + "}" : "{" + name + ", " + age + "}";
+    }
+
+    /*
+     * Generates the request body lazily in chunks of records so that it is never held in memory entirely.
+     */
+    private static Flux<DataBuffer> body(String prefix, String separator, String suffix) {
+        Flux<DataBuffer> records = Flux.range(0, RECORD_COUNT / CHUNK_SIZE)
+            .map(chunk -> {
+                StringBuilder builder = new StringBuilder();
+
+                for (int i = chunk * CHUNK_SIZE; i < (chunk + 1) * CHUNK_SIZE; i++) {
+                    if (i > 0) builder.append(separator);
+                    builder.append(personUpdate(i));
+                }
+
+                return wrap(builder.toString());
+            });
+
+        return Flux.concat(Flux.just(wrap(prefix)), records, Flux.just(wrap(suffix)));
+    }
+
+    private static DataBuffer wrap(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String post(MediaType contentType, Flux<DataBuffer> body) {
+        return WebClient.create("http://localhost:" + this.port)
+            .post()
+            .uri("/person/bulk")
+            .contentType(contentType)
+            .body(BodyInserters.fromDataBuffers(body))
+            .retrieve()
+            .bodyToMono(String.class)
+            .block(Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void testNdjson() {
+        assertThat(this.post(MediaType.APPLICATION_NDJSON, body("", "\n", "\n")))
+            .isEqualTo(EXPECTED_RESPONSE);
+    }
+
+    @Test
+    public void testJsonArray() {
+        assertThat(this.post(MediaType.APPLICATION_JSON, body("[", ",", "]")))
+            .isEqualTo(EXPECTED_RESPONSE);
+    }
+
+}
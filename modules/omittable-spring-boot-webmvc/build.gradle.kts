@@ -16,6 +16,7 @@
 plugins {
     id("com.osmerion.java-base-conventions")
     id("com.osmerion.maven-publish-conventions")
+    id("com.google.protobuf")
     `java-library`
     `jvm-test-suite`
 }
@@ -34,9 +35,55 @@ testing {
                 implementation(project())
 
                 implementation(platform(libs.spring.boot.dependencies))
+                implementation(libs.caffeine)
+                implementation(libs.jackson.dataformat.cbor)
+                implementation(libs.jackson.dataformat.smile)
+                implementation(libs.micrometer.core)
+                implementation(libs.protobuf.java)
                 implementation(libs.spring.boot.jackson2)
                 implementation(libs.spring.boot.starter.restclient.test)
                 implementation(libs.spring.boot.starter.webmvc.test)
+                implementation(libs.spring.context.support)
+            }
+        }
+        register<JvmTestSuite>("jackson3IntegrationTest") {
+            useJUnitJupiter()
+
+            dependencies {
+                implementation(project())
+
+                implementation(platform(libs.spring.boot.dependencies))
+                implementation(libs.jackson3.dataformat.cbor)
+                implementation(libs.jackson3.dataformat.smile)
+                implementation(libs.spring.boot.starter.restclient.test)
+                implementation(libs.spring.boot.starter.webmvc.test)
+            }
+        }
+        register<JvmTestSuite>("loadTest") {
+            useJUnitJupiter()
+
+            dependencies {
+                implementation(project())
+                implementation(testFixtures(project(":omittable-spring-boot-core")))
+
+                implementation(platform(libs.spring.boot.dependencies))
+                implementation(libs.spring.boot.jackson2)
+                implementation(libs.spring.boot.starter.restclient.test)
+                implementation(libs.spring.boot.starter.webmvc.test)
+            }
+
+            targets.configureEach {
+                testTask.configure {
+                    val reportDir = layout.buildDirectory.dir("reports/loadTest")
+                    outputs.dir(reportDir)
+                    outputs.upToDateWhen { false }
+
+                    systemProperty("omittable.loadTest.reportDir", reportDir.get().asFile.absolutePath)
+
+                    for (property in listOf("duration", "rate", "timeout", "warmup")) {
+                        providers.systemProperty("omittable.loadTest.$property").orNull?.let { systemProperty("omittable.loadTest.$property", it) }
+                    }
+                }
             }
         }
         register<JvmTestSuite>("springDocIntegrationTest") {
@@ -56,12 +103,25 @@ testing {
 }
 
 tasks {
+    named<Test>("integrationTest") {
+        for (property in listOf("resolverMarginBytes", "converterMarginBytes", "requestMarginBytes", "maxObjectsPerRequest")) {
+            providers.systemProperty("omittable.allocation.$property").orNull?.let { systemProperty("omittable.allocation.$property", it) }
+        }
+    }
+
     check {
         dependsOn(testing.suites.named("integrationTest"))
+        dependsOn(testing.suites.named("jackson3IntegrationTest"))
         dependsOn(testing.suites.named("springDocIntegrationTest"))
     }
 }
 
+protobuf {
+    protoc {
+        artifact = libs.protobuf.protoc.get().toString()
+    }
+}
+
 publishing {
     publications.register<MavenPublication>("mavenJava") {
         from(components["java"])
@@ -73,11 +133,18 @@ publishing {
 }
 
 dependencies {
+    api(project(":omittable-spring-boot-core"))
     api(libs.omittable.spring.webmvc)
     api(libs.omittable.swagger.core)
 
     api(platform(libs.spring.boot.dependencies))
     api(libs.spring.boot.autoconfigure)
 
+    compileOnly(libs.jackson.dataformat.cbor)
+    compileOnly(libs.jackson.dataformat.smile)
+    compileOnly(libs.jackson3.dataformat.cbor)
+    compileOnly(libs.jackson3.dataformat.smile)
+    compileOnly(libs.protobuf.java)
+
     compileOnly(libs.springdoc.openapi.starter.common)
 }
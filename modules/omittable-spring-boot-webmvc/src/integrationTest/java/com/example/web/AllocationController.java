@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Pairs of equivalent endpoints with {@code Omittable} and plain parameters that produce identical responses, so
+ * that the difference in allocations per request is due to the parameters alone.
+ */
+@RestController
+@RequestMapping("/allocation")
+public final class AllocationController {
+
+    @GetMapping("/omittable")
+    public ResponseEntity<Void> omittable(
+        @RequestParam(name = "name") Omittable<@Nullable String> name,
+        @RequestParam(name = "myId") Omittable<@Nullable UUID> id
+    ) {
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/baseline")
+    public ResponseEntity<Void> baseline(
+        @RequestParam(name = "name", required = false) @Nullable String name,
+        @RequestParam(name = "myId", required = false) @Nullable UUID id
+    ) {
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import com.example.model.OrderItem;
+import com.example.model.OrderUpdate;
+import com.osmerion.omittable.spring.boot.core.lazy.LazyValue;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/order")
+public final class OrderController {
+
+    @PostMapping
+    public String update(@RequestBody OrderUpdate update) {
+        if (update.action().isPresent() && "reject".equals(update.action().orElseThrow())) return "rejected";
+
+        LazyValue<List<OrderItem>> items = update.items().isPresent() ? update.items().orElseThrow() : null;
+        return "accepted " + ((items != null) ? items.get().size() : 0) + " items";
+    }
+
+}
@@ -15,17 +15,28 @@
  */
 package com.example.web;
 
+import com.example.model.AccountView;
+import com.example.model.AddressView;
+import com.example.model.PersonPatch;
+import com.example.model.PersonUpdate;
+import com.example.model.PersonView;
+import com.fasterxml.jackson.annotation.JsonView;
 import com.osmerion.omittable.Omittable;
 import org.jspecify.annotations.Nullable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/person")
 public final class PersonController {
 
+    private static final PersonView PERSON = new PersonView("Karl", "karl@example.com", new AddressView("Main Street", "Springfield"));
+    private static final PersonView OTHER_PERSON = new PersonView("Anna", "anna@example.com", new AddressView("Elm Street", "Shelbyville"));
+    private static final AccountView ACCOUNT = new AccountView("Karl", "s3cret");
+
     @GetMapping
     public ResponseEntity<String> findByFilter(
         @RequestParam(name = "name", required = false) Omittable<@Nullable String> name
@@ -46,4 +57,45 @@ public final class PersonController {
         }
     }
 
+    @PostMapping("/echo")
+    public PersonPatch echo(@RequestBody PersonPatch patch) {
+        return patch;
+    }
+
+    @PostMapping("/describe")
+    public String describe(@RequestBody PersonPatch patch) {
+        return patch.toString();
+    }
+
+    @PostMapping("/update")
+    public PersonUpdate update(@RequestBody PersonUpdate update) {
+        return update;
+    }
+
+    @PostMapping("/update/describe")
+    public String describeUpdate(@RequestBody PersonUpdate update) {
+        return update.toString();
+    }
+
+    @GetMapping("/view")
+    public PersonView view() {
+        return PERSON;
+    }
+
+    @GetMapping("/views")
+    public List<PersonView> views() {
+        return List.of(PERSON, OTHER_PERSON);
+    }
+
+    @GetMapping("/account")
+    @JsonView(AccountView.Public.class)
+    public AccountView account() {
+        return ACCOUNT;
+    }
+
+    @PatchMapping(consumes = "application/merge-patch+json")
+    public ResponseEntity<String> patch(@RequestBody PersonPatch patch) {
+        return ResponseEntity.ok(patch.toString());
+    }
+
 }
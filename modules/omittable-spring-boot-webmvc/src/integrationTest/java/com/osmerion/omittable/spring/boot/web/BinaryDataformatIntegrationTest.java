@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.example.model.AddressPatch;
+import com.example.model.PersonPatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson.OmittableModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Asserts that {@code Omittable} request and response bodies work with the Smile and CBOR dataformats.
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class BinaryDataformatIntegrationTest {
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory()).registerModule(new OmittableModule());
+    private static final ObjectMapper CBOR_MAPPER = new ObjectMapper(new CBORFactory()).registerModule(new OmittableModule());
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Test
+    public void testSmileDeserialization() throws IOException {
+        this.assertDeserialization(SMILE_MAPPER, APPLICATION_SMILE);
+    }
+
+    @Test
+    public void testCborDeserialization() throws IOException {
+        this.assertDeserialization(CBOR_MAPPER, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    public void testSmileRoundTrip() throws IOException {
+        this.assertRoundTrip(SMILE_MAPPER, APPLICATION_SMILE);
+    }
+
+    @Test
+    public void testCborRoundTrip() throws IOException {
+        this.assertRoundTrip(CBOR_MAPPER, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    public void testSmileUnknownProperties() throws IOException {
+        this.assertUnknownProperties(SMILE_MAPPER, APPLICATION_SMILE);
+    }
+
+    @Test
+    public void testCborUnknownProperties() throws IOException {
+        this.assertUnknownProperties(CBOR_MAPPER, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    public void testJsonIsPreferred() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.ALL));
+
+        HttpHeaders responseHeaders = this.testRestTemplate.postForEntity(
+            "http://localhost:" + this.port + "/person/echo",
+            new HttpEntity<>("{\"name\": \"Karl\"}", headers),
+            String.class
+        ).getHeaders();
+
+        assertThat(responseHeaders.getContentType()).isNotNull().matches(MediaType.APPLICATION_JSON::isCompatibleWith);
+    }
+
+    private void assertDeserialization(ObjectMapper mapper, MediaType mediaType) throws IOException {
+        assertThat(this.describe(mapper.writeValueAsBytes(Map.of()), mediaType))
+            .isEqualTo("PersonPatch[name=Omittable.absent, address=Omittable.absent]");
+
+        assertThat(this.describe(mapper.writeValueAsBytes(Collections.singletonMap("name", null)), mediaType))
+            .isEqualTo("PersonPatch[name=Omittable[null], address=Omittable.absent]");
+
+        assertThat(this.describe(mapper.writeValueAsBytes(Map.of("name", "Karl", "address", Collections.singletonMap("city", null))), mediaType))
+            .isEqualTo("PersonPatch[name=Omittable[Karl], address=Omittable[AddressPatch[street=Omittable.absent, city=Omittable[null]]]]");
+    }
+
+    private void assertRoundTrip(ObjectMapper mapper, MediaType mediaType) throws IOException {
+        PersonPatch patch = new PersonPatch(Omittable.of("Karl"), Omittable.of(new AddressPatch(Omittable.of(null), Omittable.of("Berlin"))));
+        assertThat(mapper.readValue(this.echo(mapper.writeValueAsBytes(patch), mediaType), PersonPatch.class)).isEqualTo(patch);
+
+        patch = new PersonPatch(Omittable.of(null), Omittable.of(null));
+        assertThat(mapper.readValue(this.echo(mapper.writeValueAsBytes(patch), mediaType), PersonPatch.class)).isEqualTo(patch);
+    }
+
+    /*
+     * The mappers of the binary dataformats are built from the same builder as the JSON mapper and thus share its
+     * configuration (e.g. unknown properties are ignored instead of failing the request).
+     */
+    private void assertUnknownProperties(ObjectMapper mapper, MediaType mediaType) throws IOException {
+        assertThat(this.describe(mapper.writeValueAsBytes(Map.of("name", "Karl", "unknown", 42)), mediaType))
+            .isEqualTo("PersonPatch[name=Omittable[Karl], address=Omittable.absent]");
+
+        PersonPatch patch = new PersonPatch(Omittable.of("Karl"), Omittable.absent());
+        assertThat(mapper.readValue(this.echo(mapper.writeValueAsBytes(Map.of("name", "Karl", "unknown", List.of(1, 2))), mediaType), PersonPatch.class)).isEqualTo(patch);
+    }
+
+    private String describe(byte[] body, MediaType mediaType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+
+        return this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person/describe", new HttpEntity<>(body, headers), String.class);
+    }
+
+    private byte[] echo(byte[] body, MediaType mediaType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+        headers.setAccept(List.of(mediaType));
+
+        byte[] response = this.testRestTemplate.postForObject("http://localhost:" + this.port + "/person/echo", new HttpEntity<>(body, headers), byte[].class);
+        assertThat(response).isNotNull();
+
+        return response;
+    }
+
+}
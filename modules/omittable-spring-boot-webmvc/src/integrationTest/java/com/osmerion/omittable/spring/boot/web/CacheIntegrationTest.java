@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.cache.OmittableCacheKey;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(
+    classes = { Main.class, CacheIntegrationTest.CacheConfiguration.class },
+    properties = "omittable.cache.enabled=true"
+)
+public final class CacheIntegrationTest {
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableCaching
+    public static class CacheConfiguration {
+
+        @Bean
+        @Primary
+        public CaffeineCacheManager caffeineCacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(1000));
+
+            return cacheManager;
+        }
+
+        @Bean
+        public ConcurrentMapCacheManager concurrentMapCacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        public PersonSearchService personSearchService() {
+            return new PersonSearchService();
+        }
+
+    }
+
+    public static class PersonSearchService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Cacheable(cacheNames = "people", cacheManager = "caffeineCacheManager")
+        public String findWithCaffeine(Omittable<@Nullable String> name, Omittable<@Nullable String> city) {
+            return this.find(name, city);
+        }
+
+        @Cacheable(cacheNames = "people", cacheManager = "concurrentMapCacheManager")
+        public String findWithConcurrentMap(Omittable<@Nullable String> name, Omittable<@Nullable String> city) {
+            return this.find(name, city);
+        }
+
+        @Cacheable(cacheNames = "names", cacheManager = "caffeineCacheManager")
+        public String findByNameWithCaffeine(Omittable<@Nullable String> name) {
+            return this.find(name, Omittable.absent());
+        }
+
+        @Cacheable(cacheNames = "names", cacheManager = "concurrentMapCacheManager")
+        public String findByNameWithConcurrentMap(Omittable<@Nullable String> name) {
+            return this.find(name, Omittable.absent());
+        }
+
+        @Cacheable(cacheNames = "plain", cacheManager = "concurrentMapCacheManager")
+        public String findPlain(String name, String city) {
+            return this.find(Omittable.of(name), Omittable.of(city));
+        }
+
+        public int getInvocations() {
+            return this.invocations.get();
+        }
+
+        public void resetInvocations() {
+            this.invocations.set(0);
+        }
+
+        private String find(Omittable<@Nullable String> name, Omittable<@Nullable String> city) {
+            this.invocations.incrementAndGet();
+            return "name=" + name + ", city=" + city;
+        }
+
+    }
+
+    @Autowired
+    private CaffeineCacheManager caffeineCacheManager;
+
+    @Autowired
+    private ConcurrentMapCacheManager concurrentMapCacheManager;
+
+    @Autowired
+    private PersonSearchService personSearchService;
+
+    @BeforeEach
+    public void clearCaches() {
+        for (CacheManager cacheManager : new CacheManager[] { this.caffeineCacheManager, this.concurrentMapCacheManager }) {
+            for (String name : new String[] { "people", "names", "plain" }) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache != null) cache.clear();
+            }
+        }
+
+        this.personSearchService.resetInvocations();
+    }
+
+    private void assertCachedByPresence(FindFunction find) {
+        for (int i = 0; i < 2; i++) {
+            assertThat(find.find(Omittable.absent(), Omittable.of("Berlin")))
+                .isEqualTo("name=Omittable.absent, city=Omittable[Berlin]");
+
+            assertThat(find.find(Omittable.of(null), Omittable.of("Berlin")))
+                .isEqualTo("name=Omittable[null], city=Omittable[Berlin]");
+
+            assertThat(find.find(Omittable.of("Karl"), Omittable.of("Berlin")))
+                .isEqualTo("name=Omittable[Karl], city=Omittable[Berlin]");
+
+            assertThat(find.find(Omittable.of("Karl"), Omittable.absent()))
+                .isEqualTo("name=Omittable[Karl], city=Omittable.absent");
+        }
+
+        assertThat(this.personSearchService.getInvocations()).isEqualTo(4);
+    }
+
+    @Test
+    public void testCaffeineCacheManager() {
+        this.assertCachedByPresence(this.personSearchService::findWithCaffeine);
+
+        Cache cache = this.caffeineCacheManager.getCache("people");
+        assertThat(cache).isNotNull();
+        assertThat(cache.get(new OmittableCacheKey(Omittable.absent(), Omittable.of("Berlin")), String.class))
+            .isEqualTo("name=Omittable.absent, city=Omittable[Berlin]");
+    }
+
+    @Test
+    public void testConcurrentMapCacheManager() {
+        this.assertCachedByPresence(this.personSearchService::findWithConcurrentMap);
+
+        Cache cache = this.concurrentMapCacheManager.getCache("people");
+        assertThat(cache).isNotNull();
+        assertThat(cache.get(new OmittableCacheKey(Omittable.of(null), Omittable.of("Berlin")), String.class))
+            .isEqualTo("name=Omittable[null], city=Omittable[Berlin]");
+    }
+
+    @Test
+    public void testSingleParameter() {
+        for (int i = 0; i < 2; i++) {
+            assertThat(this.personSearchService.findByNameWithCaffeine(Omittable.absent())).isEqualTo("name=Omittable.absent, city=Omittable.absent");
+            assertThat(this.personSearchService.findByNameWithCaffeine(Omittable.of(null))).isEqualTo("name=Omittable[null], city=Omittable.absent");
+            assertThat(this.personSearchService.findByNameWithConcurrentMap(Omittable.absent())).isEqualTo("name=Omittable.absent, city=Omittable.absent");
+            assertThat(this.personSearchService.findByNameWithConcurrentMap(Omittable.of(null))).isEqualTo("name=Omittable[null], city=Omittable.absent");
+        }
+
+        assertThat(this.personSearchService.getInvocations()).isEqualTo(4);
+
+        Cache cache = this.concurrentMapCacheManager.getCache("names");
+        assertThat(cache).isNotNull();
+        assertThat(cache.get(OmittableCacheKey.ABSENT, String.class)).isEqualTo("name=Omittable.absent, city=Omittable.absent");
+    }
+
+    @Test
+    public void testParametersWithoutOmittable() {
+        assertThat(this.personSearchService.findPlain("Karl", "Berlin")).isEqualTo("name=Omittable[Karl], city=Omittable[Berlin]");
+        assertThat(this.personSearchService.findPlain("Karl", "Berlin")).isEqualTo("name=Omittable[Karl], city=Omittable[Berlin]");
+        assertThat(this.personSearchService.getInvocations()).isEqualTo(1);
+
+        Cache cache = this.concurrentMapCacheManager.getCache("plain");
+        assertThat(cache).isNotNull();
+        assertThat(cache.get(new SimpleKey("Karl", "Berlin"), String.class)).isEqualTo("name=Omittable[Karl], city=Omittable[Berlin]");
+    }
+
+    @FunctionalInterface
+    private interface FindFunction {
+
+        String find(Omittable<@Nullable String> name, Omittable<@Nullable String> city);
+
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.convert.CachingOmittableConverter;
+import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Asserts that the {@link CachingOmittableConverter} converts exactly like the {@link OmittableConverter}.
+ *
+ * @author  Leon Linhart
+ */
+public final class CachingOmittableConverterIntegrationTest {
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+
+    @SuppressWarnings("unused")
+    private static final class Handlers {
+
+        void string(Omittable<String> value) {}
+        void uuid(Omittable<UUID> value) {}
+        void integers(Omittable<List<Integer>> value) {}
+        void date(@DateTimeFormat(pattern = "dd.MM.yyyy") Omittable<LocalDate> value) {}
+        void isoDate(@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Omittable<LocalDate> value) {}
+        @SuppressWarnings("rawtypes") void raw(Omittable value) {}
+
+    }
+
+    private static TypeDescriptor parameterType(String methodName) {
+        Method method = Arrays.stream(Handlers.class.getDeclaredMethods())
+            .filter(it -> it.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+
+        return new TypeDescriptor(new MethodParameter(method, 0));
+    }
+
+    @Test
+    public void testEquivalence() {
+        DefaultFormattingConversionService referenceService = new DefaultFormattingConversionService();
+        OmittableConverter reference = new OmittableConverter(referenceService);
+        referenceService.addConverter(reference);
+
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        CachingOmittableConverter converter = new CachingOmittableConverter(conversionService, 256);
+        conversionService.addConverter(converter);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquivalent(reference, converter, "Karl", STRING, parameterType("string"));
+            assertEquivalent(reference, converter, "", STRING, parameterType("string"));
+            assertEquivalent(reference, converter, null, STRING, parameterType("string"));
+            assertEquivalent(reference, converter, "0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69", STRING, parameterType("uuid"));
+            assertEquivalent(reference, converter, "1,2,3", STRING, parameterType("integers"));
+            assertEquivalent(reference, converter, "24.12.2025", STRING, parameterType("date"));
+            assertEquivalent(reference, converter, "Karl", STRING, parameterType("raw"));
+            assertEquivalent(reference, converter, Omittable.of("Karl"), TypeDescriptor.valueOf(Omittable.class), parameterType("string"));
+            assertEquivalent(reference, converter, Omittable.absent(), TypeDescriptor.valueOf(Omittable.class), parameterType("string"));
+        }
+    }
+
+    @Test
+    public void testConverterAddedAfterConversion() {
+        DefaultFormattingConversionService referenceService = new DefaultFormattingConversionService();
+        OmittableConverter reference = new OmittableConverter(referenceService);
+        referenceService.addConverter(reference);
+
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        CachingOmittableConverter converter = new CachingOmittableConverter(conversionService, 256);
+        conversionService.addConverter(converter);
+
+        assertThat(converter.convert(" Karl ", STRING, parameterType("string"))).isEqualTo(Omittable.of(" Karl "));
+
+        referenceService.addConverter(String.class, String.class, String::trim);
+        conversionService.addConverter(String.class, String.class, String::trim);
+
+        assertEquivalent(reference, converter, " Karl ", STRING, parameterType("string"));
+        assertThat(converter.convert(" Karl ", STRING, parameterType("string"))).isEqualTo(Omittable.of("Karl"));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        CachingOmittableConverter converter = new CachingOmittableConverter(conversionService, 2);
+        conversionService.addConverter(converter);
+
+        converter.convert("Karl", STRING, parameterType("string"));
+        converter.convert("Karl", STRING, parameterType("string"));
+        assertThat(converter.size()).isEqualTo(1);
+
+        converter.convert("0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69", STRING, parameterType("uuid"));
+        converter.convert("1,2,3", STRING, parameterType("integers"));
+        assertThat(converter.size()).isEqualTo(2);
+
+        assertThat(converter.convert("1,2,3", STRING, parameterType("integers"))).isEqualTo(Omittable.of(List.of(1, 2, 3)));
+
+        converter.clear();
+        assertThat(converter.size()).isZero();
+    }
+
+    @Test
+    public void testCacheDistinguishesTargetTypes() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        CachingOmittableConverter converter = new CachingOmittableConverter(conversionService, 256);
+        conversionService.addConverter(converter);
+
+        assertThat(parameterType("string").getResolvableType().hashCode()).isNotEqualTo(parameterType("uuid").getResolvableType().hashCode());
+
+        converter.convert("Karl", STRING, parameterType("string"));
+        converter.convert("0b6c5f4e-5d7e-4c3f-9f0a-2f1d3c4b5a69", STRING, parameterType("uuid"));
+        converter.convert("24.12.2025", STRING, parameterType("date"));
+        converter.convert("2025-12-24", STRING, parameterType("isoDate"));
+        assertThat(converter.size()).isEqualTo(4);
+
+        assertThat(converter.convert("24.12.2025", STRING, parameterType("date"))).isEqualTo(Omittable.of(LocalDate.of(2025, 12, 24)));
+        assertThat(converter.convert("2025-12-24", STRING, parameterType("isoDate"))).isEqualTo(Omittable.of(LocalDate.of(2025, 12, 24)));
+        assertThat(converter.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testCacheCanBeDisabled() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        CachingOmittableConverter converter = new CachingOmittableConverter(conversionService, 0);
+        conversionService.addConverter(converter);
+
+        assertThat(converter.convert("Karl", STRING, parameterType("string"))).isEqualTo(Omittable.of("Karl"));
+        assertThat(converter.size()).isZero();
+    }
+
+    private static void assertEquivalent(OmittableConverter reference, CachingOmittableConverter converter, @Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        assertThat(converter.convert(source, sourceType, targetType)).isEqualTo(reference.convert(source, sourceType, targetType));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osmerion.omittable.Omittable;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Asserts that the Omittable JDK Flight Recorder events are emitted when they are enabled.
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "omittable.jfr.enabled=true"
+)
+public final class FlightRecorderIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testEvents() throws Exception {
+        assumeTrue(FlightRecorder.isAvailable(), "JDK Flight Recorder is not available");
+
+        Path dump = Files.createTempFile("omittable-events", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("omittable.ParameterResolved");
+            recording.enable("omittable.BodyFieldDeserialized");
+            recording.start();
+
+            this.testRestTemplate.getForObject("http://localhost:" + port + "/person", String.class);
+            this.testRestTemplate.getForObject("http://localhost:" + port + "/person?name=Karl", String.class);
+            this.objectMapper.readValue("{\"name\":\"Karl\"}", PersonUpdate.class);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events;
+
+        try {
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("omittable.ParameterResolved"))
+            .extracting(event -> event.getString("handler"), event -> event.getString("parameter"), event -> event.getString("outcome"))
+            .containsExactlyInAnyOrder(
+                tuple("com.example.web.PersonController#findByFilter", "name", "ABSENT"),
+                tuple("com.example.web.PersonController#findByFilter", "name", "PRESENT")
+            );
+
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("omittable.BodyFieldDeserialized"))
+            .extracting(event -> event.getString("field"), event -> event.getString("outcome"))
+            .containsExactly(tuple("name", "PRESENT"));
+    }
+
+    public record PersonUpdate(Omittable<@Nullable String> name) {}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.example.model.OrderItem;
+import com.example.model.OrderUpdate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.lazy.LazyValue;
+import com.osmerion.omittable.spring.boot.core.lazy.LazyValueBindingException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class LazyValueIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ResponseEntity<String> post(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        return this.testRestTemplate.postForEntity("http://localhost:" + port + "/order", new HttpEntity<>(body, headers), String.class);
+    }
+
+    @Test
+    public void testPresenceIsRecordedWithoutMaterializing() throws Exception {
+        OrderUpdate update = this.objectMapper.readValue("""
+            {"action": "reject", "items": [{"name": "a", "quantity": 1}, {"name": "b", "quantity": 2}]}
+            """, OrderUpdate.class);
+
+        assertThat(update.items().isPresent()).isTrue();
+
+        LazyValue<List<OrderItem>> items = update.items().orElseThrow();
+        assertThat(items).isNotNull();
+        assertThat(items.isMaterialized()).isFalse();
+
+        assertThat(items.get()).containsExactly(new OrderItem("a", 1), new OrderItem("b", 2));
+        assertThat(items.isMaterialized()).isTrue();
+        assertThat(items.get()).isSameAs(items.get());
+    }
+
+    @Test
+    public void testAbsentAndNull() throws Exception {
+        assertThat(this.objectMapper.readValue("{}", OrderUpdate.class).items()).isEqualTo(Omittable.absent());
+        assertThat(this.objectMapper.readValue("{\"items\": null}", OrderUpdate.class).items()).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    public void testBindingErrorsAreDeferred() throws Exception {
+        OrderUpdate update = this.objectMapper.readValue("""
+            {"action": "reject", "items": [{"name": "a", "quantity": "many"}]}
+            """, OrderUpdate.class);
+
+        assertThat(update.action()).isEqualTo(Omittable.of("reject"));
+
+        LazyValue<List<OrderItem>> items = update.items().orElseThrow();
+        assertThat(items).isNotNull();
+        assertThatExceptionOfType(LazyValueBindingException.class).isThrownBy(items::get);
+
+        ResponseEntity<String> rejected = this.post("{\"action\": \"reject\", \"items\": [{\"name\": \"a\", \"quantity\": \"many\"}]}");
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(rejected.getBody()).isEqualTo("rejected");
+
+        ResponseEntity<String> accepted = this.post("{\"action\": \"accept\", \"items\": [{\"name\": \"a\", \"quantity\": \"many\"}]}");
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        assertThat(this.post("{\"action\": \"accept\", \"items\": [{\"name\": \"a\", \"quantity\": 1}]}").getBody())
+            .isEqualTo("accepted 1 items");
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        String json = "{\"action\":\"accept\",\"items\":[{\"name\":\"a\",\"quantity\":1}]}";
+        OrderUpdate update = this.objectMapper.readValue(json, OrderUpdate.class);
+
+        assertThat(this.objectMapper.writeValueAsString(update)).isEqualTo(json);
+        assertThat(update.items().orElseThrow()).returns(false, LazyValue::isMaterialized);
+
+        assertThat(this.objectMapper.writeValueAsString(LazyValue.of(List.of(new OrderItem("b", 2))))).isEqualTo("[{\"name\":\"b\",\"quantity\":2}]");
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.*;
+
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class MergePatchIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    private ResponseEntity<String> exchange(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+
+        return this.testRestTemplate.exchange("http://localhost:" + port + "/person", HttpMethod.PATCH, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private String patch(String body) {
+        return this.exchange(body).getBody();
+    }
+
+    @Test
+    public void testMergePatch() {
+        assertThat(this.patch("{}"))
+            .isEqualTo("PersonPatch[name=Omittable.absent, address=Omittable.absent]");
+
+        assertThat(this.patch("{\"name\": \"Karl\", \"address\": null}"))
+            .isEqualTo("PersonPatch[name=Omittable[Karl], address=Omittable[null]]");
+
+        assertThat(this.patch("{\"name\": null, \"address\": {\"city\": null}}"))
+            .isEqualTo("PersonPatch[name=Omittable[null], address=Omittable[AddressPatch[street=Omittable.absent, city=Omittable[null]]]]");
+    }
+
+    @Test
+    public void testNonObjectRootIsRejected() {
+        for (String body : new String[] { "null", "[]", "[{\"name\": \"Karl\"}]", "\"Karl\"", "42" }) {
+            assertThat(this.exchange(body).getStatusCode()).as(body).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableApplier;
+import com.osmerion.omittable.spring.boot.core.patch.OmittableApplierRegistry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(classes = Main.class)
+public final class OmittableApplierIntegrationTest {
+
+    public record PersonUpdate(long id, Omittable<String> name, Omittable<@Nullable String> email, Omittable<@Nullable Integer> age) {}
+
+    public record CounterUpdate(Omittable<@Nullable Integer> plain) {}
+
+    public static final class Person {
+
+        private @Nullable String name = "Name";
+        private @Nullable String email = "mail@example.com";
+        private int age = 42;
+
+        public void setName(@Nullable String name) {
+            this.name = name;
+        }
+
+        public void setEmail(@Nullable String email) {
+            this.email = email;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+    }
+
+    public record ImmutablePerson(@Nullable String name, @Nullable String email, int age) {
+
+        public ImmutablePerson withName(@Nullable String name) {
+            return new ImmutablePerson(name, this.email, this.age);
+        }
+
+        public ImmutablePerson withEmail(@Nullable String email) {
+            return new ImmutablePerson(this.name, email, this.age);
+        }
+
+        public ImmutablePerson withAge(int age) {
+            return new ImmutablePerson(this.name, this.email, age);
+        }
+
+    }
+
+    public static final class PersonBuilder {
+
+        private @Nullable String name;
+        private @Nullable String email;
+        private @Nullable Integer age;
+
+        public PersonBuilder name(@Nullable String name) {
+            this.name = name;
+            return this;
+        }
+
+        public PersonBuilder email(@Nullable String email) {
+            this.email = email;
+            return this;
+        }
+
+        public PersonBuilder age(Integer age) {
+            this.age = age;
+            return this;
+        }
+
+    }
+
+    @Autowired
+    private OmittableApplierRegistry registry;
+
+    @Test
+    public void testMutableTarget() {
+        Person person = this.registry.apply(new PersonUpdate(1, Omittable.of("Karl"), Omittable.of(null), Omittable.absent()), new Person());
+
+        assertThat(person.name).isEqualTo("Karl");
+        assertThat(person.email).isNull();
+        assertThat(person.age).isEqualTo(42);
+    }
+
+    @Test
+    public void testImmutableTarget() {
+        ImmutablePerson person = this.registry.apply(
+            new PersonUpdate(1, Omittable.absent(), Omittable.of("karl@example.com"), Omittable.of(7)),
+            new ImmutablePerson("Name", null, 42)
+        );
+
+        assertThat(person).isEqualTo(new ImmutablePerson("Name", "karl@example.com", 7));
+    }
+
+    @Test
+    public void testBuilderTarget() {
+        PersonBuilder builder = this.registry.apply(new PersonUpdate(1, Omittable.of("Karl"), Omittable.absent(), Omittable.of(7)), new PersonBuilder());
+
+        assertThat(builder.name).isEqualTo("Karl");
+        assertThat(builder.email).isNull();
+        assertThat(builder.age).isEqualTo(7);
+    }
+
+    @Test
+    public void testRegistryCachesAppliers() {
+        OmittableApplier<PersonUpdate, Person> applier = this.registry.getApplier(PersonUpdate.class, Person.class);
+
+        assertThat(this.registry.getApplier(PersonUpdate.class, Person.class)).isSameAs(applier);
+    }
+
+    @Test
+    public void testNullForPrimitiveParameter() {
+        Person person = new Person();
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> this.registry.apply(new PersonUpdate(1, Omittable.of("Karl"), Omittable.absent(), Omittable.of(null)), person))
+            .withMessageContaining("'age'");
+
+        assertThat(person.name).isEqualTo("Name");
+        assertThat(person.age).isEqualTo(42);
+    }
+
+    @Test
+    public void testNullForBoxedParameter() {
+        PersonBuilder builder = new PersonBuilder().age(7);
+        this.registry.apply(new PersonUpdate(1, Omittable.absent(), Omittable.absent(), Omittable.of(null)), builder);
+
+        assertThat(builder.age).isNull();
+    }
+
+    @Test
+    public void testTargetInClosedModule() {
+        /* java.base does not open java.util.concurrent.atomic, so the applier cannot use the LambdaMetafactory. */
+        OmittableApplier<CounterUpdate, AtomicInteger> applier = OmittableApplier.of(CounterUpdate.class, AtomicInteger.class);
+
+        AtomicInteger counter = new AtomicInteger(1);
+        assertThat(applier.apply(new CounterUpdate(Omittable.of(7)), counter)).isSameAs(counter);
+        assertThat(counter.get()).isEqualTo(7);
+
+        assertThat(applier.apply(new CounterUpdate(Omittable.absent()), counter).get()).isEqualTo(7);
+        assertThatIllegalArgumentException().isThrownBy(() -> applier.apply(new CounterUpdate(Omittable.of(null)), counter));
+        assertThat(counter.get()).isEqualTo(7);
+    }
+
+    @Test
+    public void testMissingMethod() {
+        assertThatIllegalArgumentException().isThrownBy(() -> OmittableApplier.of(PersonUpdate.class, Object.class));
+    }
+
+}
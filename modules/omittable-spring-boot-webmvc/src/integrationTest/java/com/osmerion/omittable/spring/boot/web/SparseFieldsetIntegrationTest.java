@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.osmerion.omittable.spring.boot.core.fields.OmittableFieldSelector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.assertj.core.api.Assertions.*;
+
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    properties = "omittable.fields.enabled=true",
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class SparseFieldsetIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private OmittableFieldSelector omittableFieldSelector;
+
+    private String get(String path) {
+        return this.testRestTemplate.getForObject("http://localhost:" + port + path, String.class);
+    }
+
+    @Test
+    public void testAbsentFields() {
+        assertThat(this.get("/person/view"))
+            .isEqualTo("{\"name\":\"Karl\",\"email\":\"karl@example.com\",\"address\":{\"street\":\"Main Street\",\"city\":\"Springfield\"}}");
+    }
+
+    @Test
+    public void testSelectedFields() {
+        assertThat(this.get("/person/view?fields=name"))
+            .isEqualTo("{\"name\":\"Karl\"}");
+
+        assertThat(this.get("/person/view?fields=name,address.city"))
+            .isEqualTo("{\"name\":\"Karl\",\"address\":{\"city\":\"Springfield\"}}");
+
+        assertThat(this.get("/person/view?fields=name&fields=email"))
+            .isEqualTo("{\"name\":\"Karl\",\"email\":\"karl@example.com\"}");
+
+        assertThat(this.get("/person/view?fields=address"))
+            .isEqualTo("{\"address\":{\"street\":\"Main Street\",\"city\":\"Springfield\"}}");
+    }
+
+    @Test
+    public void testSelectedFieldsOfElements() {
+        assertThat(this.get("/person/views"))
+            .isEqualTo("[{\"name\":\"Karl\",\"email\":\"karl@example.com\",\"address\":{\"street\":\"Main Street\",\"city\":\"Springfield\"}},{\"name\":\"Anna\",\"email\":\"anna@example.com\",\"address\":{\"street\":\"Elm Street\",\"city\":\"Shelbyville\"}}]");
+
+        assertThat(this.get("/person/views?fields=name"))
+            .isEqualTo("[{\"name\":\"Karl\"},{\"name\":\"Anna\"}]");
+    }
+
+    @Test
+    public void testSelectedFieldsWithJsonView() {
+        assertThat(this.get("/person/account"))
+            .isEqualTo("{\"name\":\"Karl\"}");
+
+        assertThat(this.get("/person/account?fields=secret"))
+            .isEqualTo("{}");
+
+        assertThat(this.get("/person/account?fields=name,secret"))
+            .isEqualTo("{\"name\":\"Karl\"}");
+    }
+
+    @Test
+    public void testWriterCache() {
+        int cachedWriterCount = this.omittableFieldSelector.getCachedWriterCount();
+
+        assertThat(this.get("/person/view?fields=email,address.street"))
+            .isEqualTo("{\"email\":\"karl@example.com\",\"address\":{\"street\":\"Main Street\"}}");
+
+        assertThat(this.get("/person/view?fields=address.street,email"))
+            .isEqualTo("{\"email\":\"karl@example.com\",\"address\":{\"street\":\"Main Street\"}}");
+
+        assertThat(this.omittableFieldSelector.getCachedWriterCount()).isEqualTo(cachedWriterCount + 1);
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.example.Main;
+import com.example.model.PersonUpdate;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.TestRestTemplate;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Asserts that {@code Omittable} request and response bodies work with Jackson 3 alone.
+ *
+ * @author  Leon Linhart
+ */
+@AutoConfigureTestRestTemplate
+@SpringBootTest(
+    classes = Main.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public final class Jackson3IntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void testJackson2IsNotConfigured() {
+        assertThat(this.applicationContext.getBeanNamesForType(ObjectMapper.class)).isEmpty();
+        assertThat(this.applicationContext.getBean(JsonMapper.class).writeValueAsString(new PersonUpdate(Omittable.of("Karl"), Omittable.absent())))
+            .isEqualTo("{\"name\":\"Karl\"}");
+    }
+
+    @Test
+    public void testDeserialization() {
+        assertThat(this.post("/person/describe", "{}")).isEqualTo("PersonUpdate[name=Omittable.absent, age=Omittable.absent]");
+        assertThat(this.post("/person/describe", "{\"name\": null}")).isEqualTo("PersonUpdate[name=Omittable[null], age=Omittable.absent]");
+        assertThat(this.post("/person/describe", "{\"name\": \"Karl\", \"age\": 42}")).isEqualTo("PersonUpdate[name=Omittable[Karl], age=Omittable[42]]");
+    }
+
+    @Test
+    public void testSerialization() {
+        assertThat(this.post("/person", "{}")).isEqualTo("{}");
+        assertThat(this.post("/person", "{\"name\": null}")).isEqualTo("{\"name\":null}");
+        assertThat(this.post("/person", "{\"name\": \"Karl\", \"age\": 42}")).isEqualTo("{\"name\":\"Karl\",\"age\":42}");
+    }
+
+    @Test
+    public void testContextualContentSerialization() {
+        JsonMapper mapper = this.applicationContext.getBean(JsonMapper.class);
+
+        assertThat(mapper.writeValueAsString(new Formatted(Omittable.of(42), Omittable.of(new Cat("Tom")))))
+            .isEqualTo("{\"number\":\"42\",\"animal\":{\"kind\":\"cat\",\"name\":\"Tom\"}}");
+        assertThat(mapper.writeValueAsString(new Formatted(Omittable.of(null), Omittable.absent())))
+            .isEqualTo("{\"number\":null}");
+    }
+
+    @Test
+    public void testPolymorphicContentRoundTrip() {
+        JsonMapper mapper = this.applicationContext.getBean(JsonMapper.class);
+
+        Formatted present = new Formatted(Omittable.of(42), Omittable.of(new Cat("Tom")));
+        assertThat(mapper.readValue(mapper.writeValueAsString(present), Formatted.class)).isEqualTo(present);
+
+        Formatted absent = new Formatted(Omittable.of(null), Omittable.absent());
+        assertThat(mapper.readValue(mapper.writeValueAsString(absent), Formatted.class)).isEqualTo(absent);
+
+        assertThat(mapper.readValue("{\"number\":\"7\",\"animal\":null}", Formatted.class))
+            .isEqualTo(new Formatted(Omittable.of(7), Omittable.of(null)));
+    }
+
+    record Formatted(
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Omittable<@Nullable Integer> number,
+        Omittable<@Nullable Animal> animal
+    ) {}
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes(@JsonSubTypes.Type(value = Cat.class, name = "cat"))
+    sealed interface Animal permits Cat {}
+
+    record Cat(String name) implements Animal {}
+
+    private String post(String path, String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        return this.testRestTemplate.postForObject("http://localhost:" + this.port + path, new HttpEntity<>(body, headers), String.class);
+    }
+
+}
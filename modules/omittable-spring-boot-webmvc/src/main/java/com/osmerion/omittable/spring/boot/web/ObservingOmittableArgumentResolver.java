@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableParameterListener;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link HandlerMethodArgumentResolver} that notifies an {@link OmittableParameterListener} about the resolution of
+ * {@code Omittable} request parameters by a delegate resolver.
+ *
+ * <p>The conversion of the values is performed by the delegate and is therefore not measured separately.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class ObservingOmittableArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final HandlerMethodArgumentResolver delegate;
+    private final OmittableParameterListener listener;
+
+    private final Map<MethodParameter, String> names = new ConcurrentHashMap<>();
+
+    ObservingOmittableArgumentResolver(HandlerMethodArgumentResolver delegate, OmittableParameterListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return this.delegate.supportsParameter(parameter);
+    }
+
+    @Override
+    public @Nullable Object resolveArgument(
+        MethodParameter parameter,
+        @Nullable ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest,
+        @Nullable WebDataBinderFactory binderFactory
+    ) throws Exception {
+        long start = System.nanoTime();
+        Object value;
+
+        try {
+            value = this.delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        } catch (TypeMismatchException | ConversionException e) {
+            this.listener.conversionFailed(parameter, this.getName(parameter), e);
+            throw e;
+        }
+
+        if (value instanceof Omittable<?> omittable) {
+            this.listener.parameterResolved(parameter, this.getName(parameter), OmittableParameterListener.Outcome.of(omittable), System.nanoTime() - start, -1);
+        }
+
+        return value;
+    }
+
+    private String getName(MethodParameter parameter) {
+        String name = this.names.get(parameter);
+        if (name != null) return name;
+
+        return this.names.computeIfAbsent(parameter, ObservingOmittableArgumentResolver::resolveName);
+    }
+
+    private static String resolveName(MethodParameter parameter) {
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        if (requestParam != null && StringUtils.hasText(requestParam.name())) return requestParam.name();
+
+        String name = parameter.getParameterName();
+        return (name != null) ? name : "arg" + parameter.getParameterIndex();
+    }
+
+}
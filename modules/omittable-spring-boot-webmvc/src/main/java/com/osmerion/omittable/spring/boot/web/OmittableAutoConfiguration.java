@@ -15,27 +15,51 @@
  */
 package com.osmerion.omittable.spring.boot.web;
 
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.Message;
 import com.osmerion.omittable.Omittable;
 import com.osmerion.omittable.jackson.OmittableModule;
-import com.osmerion.omittable.spring.core.convert.OmittableConverter;
+import com.osmerion.omittable.spring.boot.core.OmittableProperties;
+import com.osmerion.omittable.spring.boot.core.convert.CachingOmittableConverter;
+import com.osmerion.omittable.spring.boot.core.fields.OmittableFieldSelector;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableConversionListener;
+import com.osmerion.omittable.spring.boot.core.observation.OmittableParameterListener;
 import com.osmerion.omittable.spring.web.OmittableRequestParamMethodArgumentResolver;
 import com.osmerion.omittable.swagger.v3.core.converter.OmittableModelConverter;
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.util.Json;
+import org.jspecify.annotations.Nullable;
 import org.springdoc.core.configuration.SpringDocConfiguration;
 import org.springdoc.core.customizers.ParameterCustomizer;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,17 +74,32 @@ import java.util.stream.Stream;
  */
 @AutoConfiguration
 @ConditionalOnWebApplication(type =  ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(OmittableProperties.class)
 public class OmittableAutoConfiguration implements WebMvcConfigurer {
 
-    private final ConversionService conversionService;
+    private final ObjectProvider<CachingOmittableConverter> omittableConverter;
 
-    public OmittableAutoConfiguration(@Lazy ConversionService conversionService) {
-        this.conversionService = conversionService;
+    public OmittableAutoConfiguration(ObjectProvider<CachingOmittableConverter> omittableConverter) {
+        this.omittableConverter = omittableConverter;
     }
 
     @Override
     public void addFormatters(FormatterRegistry registry) {
-        registry.addConverter(new OmittableConverter(this.conversionService));
+        registry.addConverter(this.omittableConverter.getObject());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CachingOmittableConverter omittableConverter(
+        @Lazy ConversionService conversionService,
+        OmittableProperties properties,
+        ObjectProvider<OmittableConversionListener> listeners
+    ) {
+        return new CachingOmittableConverter(
+            conversionService,
+            properties.getConversion().getCacheSize(),
+            OmittableConversionListener.of(listeners.orderedStream().toList())
+        );
     }
 
     @Bean
@@ -72,9 +111,15 @@ public class OmittableAutoConfiguration implements WebMvcConfigurer {
     public InitializingBean omittableInitializationBean(
         @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
         RequestMappingHandlerAdapter requestMappingHandlerAdapter,
-        OmittableRequestParamMethodArgumentResolver resolver
+        OmittableRequestParamMethodArgumentResolver omittableRequestParamMethodArgumentResolver,
+        ObjectProvider<OmittableParameterListener> listeners
     ) {
         return () -> {
+            @Nullable OmittableParameterListener listener = OmittableParameterListener.of(listeners.orderedStream().toList());
+            HandlerMethodArgumentResolver resolver = (listener != null)
+                ? new ObservingOmittableArgumentResolver(omittableRequestParamMethodArgumentResolver, listener)
+                : omittableRequestParamMethodArgumentResolver;
+
             requestMappingHandlerAdapter.setArgumentResolvers(Stream.concat(
                 Stream.of(resolver),
                 Optional.ofNullable(requestMappingHandlerAdapter.getArgumentResolvers()).stream().flatMap(List::stream)
@@ -82,6 +127,21 @@ public class OmittableAutoConfiguration implements WebMvcConfigurer {
         };
     }
 
+    /*
+     * Content negotiation prefers converters that are registered first. Hence, a converter that is registered by
+     * default is replaced in place, and other converters are appended so that they do not take precedence over JSON.
+     */
+    private static void replaceMessageConverter(List<HttpMessageConverter<?>> converters, Class<?> type, HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+
+        converters.add(converter);
+    }
+
     @Configuration
     @ConditionalOnClass(ObjectMapper.class)
     public static class OmittableJacksonAutoConfiguration {
@@ -92,10 +152,185 @@ public class OmittableAutoConfiguration implements WebMvcConfigurer {
             return new OmittableModule();
         }
 
+        @Bean
+        public WebMvcConfigurer omittableMergePatchWebMvcConfigurer(
+            ObjectProvider<ObjectMapper> objectMapper,
+            OmittableModule omittableModule
+        ) {
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    ObjectMapper mapper = objectMapper.getIfAvailable(ObjectMapper::new);
+                    if (!mapper.getRegisteredModuleIds().contains(omittableModule.getTypeId())) {
+                        mapper = mapper.copy().registerModule(omittableModule);
+                    }
+
+                    // Registered first since the general-purpose JSON converters also accept application/*+json.
+                    converters.add(0, new OmittableMergePatchHttpMessageConverter(mapper));
+                }
+
+            };
+        }
+
+        /*
+         * The selector copies the ObjectMapper and assigns the filter only in the copy. Responses without the query
+         * parameter are thus written by the regular converters without any filter.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBooleanProperty(name = "omittable.fields.enabled")
+        public OmittableFieldSelector omittableFieldSelector(
+            ObjectProvider<ObjectMapper> objectMapper,
+            OmittableModule omittableModule,
+            OmittableProperties properties
+        ) {
+            ObjectMapper mapper = objectMapper.getIfAvailable(ObjectMapper::new);
+            if (!mapper.getRegisteredModuleIds().contains(omittableModule.getTypeId())) {
+                mapper = mapper.copy().registerModule(omittableModule);
+            }
+
+            return new OmittableFieldSelector(mapper, properties.getFields().getCacheSize());
+        }
+
+        @Bean
+        @ConditionalOnBooleanProperty(name = "omittable.fields.enabled")
+        public OmittableFieldsResponseBodyAdvice omittableFieldsResponseBodyAdvice(
+            OmittableFieldSelector omittableFieldSelector,
+            OmittableProperties properties
+        ) {
+            return new OmittableFieldsResponseBodyAdvice(omittableFieldSelector, properties.getFields().getParameterName());
+        }
+
+    }
+
+    /*
+     * The binary dataformats are configured with the Jackson stack of their dataformat module. Jackson 2 mappers are
+     * built from the Jackson2ObjectMapperBuilder of the context with the factory of the dataformat, so that they share
+     * the modules (including the Omittable module), features, and properties of the JSON mapper. Jackson 3 mappers are
+     * built from the Jackson modules in the context. This way, absent, null, and present values are handled the same
+     * way in all formats.
+     */
+    @Configuration
+    @ConditionalOnClass({ ObjectMapper.class, SmileFactory.class })
+    @ConditionalOnMissingClass("tools.jackson.dataformat.smile.SmileMapper")
+    public static class OmittableJacksonSmileAutoConfiguration {
+
+        @Bean
+        public WebMvcConfigurer omittableSmileWebMvcConfigurer(
+            ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+            ObjectProvider<Module> modules
+        ) {
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    ObjectMapper mapper = objectMapperBuilder.getIfAvailable(() -> new Jackson2ObjectMapperBuilder().modulesToInstall(modules.orderedStream().toArray(Module[]::new)))
+                        .factory(new SmileFactory())
+                        .build();
+                    replaceMessageConverter(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass({ ObjectMapper.class, CBORFactory.class })
+    @ConditionalOnMissingClass("tools.jackson.dataformat.cbor.CBORMapper")
+    public static class OmittableJacksonCborAutoConfiguration {
+
+        @Bean
+        public WebMvcConfigurer omittableCborWebMvcConfigurer(
+            ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+            ObjectProvider<Module> modules
+        ) {
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    ObjectMapper mapper = objectMapperBuilder.getIfAvailable(() -> new Jackson2ObjectMapperBuilder().modulesToInstall(modules.orderedStream().toArray(Module[]::new)))
+                        .factory(new CBORFactory())
+                        .build();
+                    replaceMessageConverter(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(SmileMapper.class)
+    public static class OmittableJackson3SmileAutoConfiguration {
+
+        @Bean
+        public WebMvcConfigurer omittableJackson3SmileWebMvcConfigurer(
+            ObjectProvider<SmileMapper> smileMapper,
+            ObjectProvider<JacksonModule> modules
+        ) {
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    SmileMapper mapper = smileMapper.getIfAvailable(() -> SmileMapper.builder().addModules(modules.orderedStream().toList()).build());
+                    replaceMessageConverter(converters, JacksonSmileHttpMessageConverter.class, new JacksonSmileHttpMessageConverter(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(CBORMapper.class)
+    public static class OmittableJackson3CborAutoConfiguration {
+
+        @Bean
+        public WebMvcConfigurer omittableJackson3CborWebMvcConfigurer(
+            ObjectProvider<CBORMapper> cborMapper,
+            ObjectProvider<JacksonModule> modules
+        ) {
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    CBORMapper mapper = cborMapper.getIfAvailable(() -> CBORMapper.builder().addModules(modules.orderedStream().toList()).build());
+                    replaceMessageConverter(converters, JacksonCborHttpMessageConverter.class, new JacksonCborHttpMessageConverter(mapper));
+                }
+
+            };
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(Message.class)
+    public static class OmittableProtobufAutoConfiguration {
+
+        /*
+         * The converter is appended instead of being exposed as a bean, since converter beans are registered ahead of
+         * the default converters. This way, JSON remains preferred in content negotiation for records that may be
+         * written as both JSON and Protocol Buffers.
+         */
+        @Bean
+        public WebMvcConfigurer omittableProtobufWebMvcConfigurer() {
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    converters.add(new OmittableProtobufHttpMessageConverter());
+                }
+
+            };
+        }
+
     }
 
     @Configuration
     @ConditionalOnClass(SpringDocConfiguration.class)
+    @ConditionalOnBooleanProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
     public static class OmittableSpringDocAutoConfiguration {
 
         @Bean
@@ -115,10 +350,16 @@ public class OmittableAutoConfiguration implements WebMvcConfigurer {
     @ConditionalOnClass(ModelConverter.class)
     public static class OmittableSwaggerAutoConfiguration {
 
+        /*
+         * The converter is only requested when API docs are generated. Creating it lazily avoids resolving the
+         * ObjectMapper at startup in applications that do not serve API docs. Applications that use Jackson 3 do not
+         * have an ObjectMapper bean, so Swagger's own mapper is used instead.
+         */
         @Bean
+        @Lazy
         @ConditionalOnMissingBean
-        public OmittableModelConverter omittableModelConverter(ObjectMapper objectMapper) {
-            return new OmittableModelConverter(objectMapper);
+        public OmittableModelConverter omittableModelConverter(ObjectProvider<ObjectMapper> objectMapper) {
+            return new OmittableModelConverter(objectMapper.getIfAvailable(Json::mapper));
         }
 
     }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.spring.boot.core.fields.OmittableFieldSelector;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link ResponseBodyAdvice} that limits the serialization of JSON response bodies to the properties that are
+ * requested by a query parameter.
+ *
+ * <p>The query parameter is bound like an {@code Omittable<List<String>>} request parameter. If it is absent, the body
+ * is written unchanged. Otherwise, the body is written by the {@link OmittableFieldSelector}.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@ControllerAdvice
+public final class OmittableFieldsResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final OmittableFieldSelector selector;
+    private final String parameterName;
+
+    /**
+     * Creates a new advice.
+     *
+     * @param selector      the selector that is used to write response bodies
+     * @param parameterName the name of the query parameter
+     *
+     * @since   2.1.0
+     */
+    public OmittableFieldsResponseBodyAdvice(OmittableFieldSelector selector, String parameterName) {
+        this.selector = selector;
+        this.parameterName = parameterName;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public @Nullable Object beforeBodyWrite(
+        @Nullable Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) return body;
+
+        String[] values = servletRequest.getServletRequest().getParameterValues(this.parameterName);
+        if (values == null) return body;
+
+        Omittable<List<String>> fields = Omittable.of(Arrays.asList(values));
+
+        if (body instanceof MappingJacksonValue container) {
+            container.setValue(this.selector.select(container.getValue(), fields));
+            return container;
+        }
+
+        return this.selector.select(body, fields);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * An {@link org.springframework.http.converter.HttpMessageConverter HttpMessageConverter} that reads JSON Merge Patch
+ * (<a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a>) documents into objects with {@code Omittable}
+ * properties.
+ *
+ * <p>The document is bound in a single streaming pass by the given {@link ObjectMapper}, which must have the
+ * {@code OmittableModule} registered. Members that are missing from the document are bound as absent
+ * {@code Omittable}s, and members with a {@code null} value are bound as {@code Omittable}s of {@code null}. Nested
+ * objects are bound recursively in the same way.</p>
+ *
+ * <p>A merge patch whose root is not an object (for example, {@code null} or an array) would replace the target as a
+ * whole. Such documents are rejected with an {@link HttpMessageNotReadableException}, since they cannot be applied
+ * to objects with {@code Omittable} properties.</p>
+ *
+ * <p>Merge patches are only read by this converter. It never writes responses.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableMergePatchHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    /**
+     * The {@code application/merge-patch+json} media type.
+     *
+     * @since   2.1.0
+     */
+    public static final MediaType APPLICATION_MERGE_PATCH_JSON = new MediaType("application", "merge-patch+json");
+
+    /**
+     * Creates a new converter.
+     *
+     * @param objectMapper  the object mapper that is used to read merge patches
+     *
+     * @since   2.1.0
+     */
+    public OmittableMergePatchHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_MERGE_PATCH_JSON);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        JavaType javaType = this.getJavaType(type, contextClass);
+        ObjectMapper objectMapper = this.getObjectMapper();
+
+        try (JsonParser parser = objectMapper.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException("JSON Merge Patch document must be an object", inputMessage);
+            }
+
+            /* The reader continues from the current token, so that the document is still bound in a single pass. */
+            return objectMapper.readerFor(javaType).readValue(parser);
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        return this.read(clazz, null, inputMessage);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+}
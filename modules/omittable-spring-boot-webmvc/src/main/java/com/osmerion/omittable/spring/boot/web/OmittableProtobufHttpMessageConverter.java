@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMapper;
+import com.osmerion.omittable.spring.boot.core.protobuf.OmittableProtobufMessage;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * An {@link org.springframework.http.converter.HttpMessageConverter HttpMessageConverter} that reads and writes records
+ * with {@code Omittable} components as Protocol Buffers messages.
+ *
+ * <p>Only records that are annotated with {@link OmittableProtobufMessage} are supported. They are mapped to and from
+ * their message type by an {@link OmittableProtobufMapper}, without an intermediate JSON representation.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Record> {
+
+    /**
+     * The {@code application/x-protobuf} media type.
+     *
+     * @since   2.1.0
+     */
+    public static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    /**
+     * The {@code application/protobuf} media type.
+     *
+     * @since   2.1.0
+     */
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "protobuf");
+
+    /**
+     * Creates a new converter.
+     *
+     * @since   2.1.0
+     */
+    public OmittableProtobufHttpMessageConverter() {
+        super(APPLICATION_X_PROTOBUF, APPLICATION_PROTOBUF);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OmittableProtobufMapper<Record> mapper(Class<? extends Record> type) {
+        return (OmittableProtobufMapper<Record>) OmittableProtobufMapper.of(type);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OmittableProtobufMapper.isMapped(clazz);
+    }
+
+    @Override
+    protected Record readInternal(Class<? extends Record> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return mapper(clazz).parseFrom(inputMessage.getBody());
+        } catch (InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Could not read Protobuf message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Record record, HttpOutputMessage outputMessage) throws IOException {
+        mapper(record.getClass()).toMessage(record).writeTo(outputMessage.getBody());
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+/**
+ * A sample application that was compiled to a native executable and is running in a separate process.
+ *
+ * <p>The path to the executable is read from the {@code omittable.nativeImage} system property.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class NativeApplication implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Starts the native executable and waits until it responds to a request for the given path.
+     *
+     * @param readinessPath the path that is requested to determine whether the application is ready
+     *
+     * @return  the running application
+     */
+    static NativeApplication start(String readinessPath) throws IOException, InterruptedException {
+        String executable = System.getProperty("omittable.nativeImage");
+        if (executable == null) throw new IllegalStateException("System property 'omittable.nativeImage' is not set");
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        HttpClient client = HttpClient.newHttpClient();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(executable, "--server.port=" + port)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        NativeApplication application = new NativeApplication(process, client, baseUri);
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(readinessPath)).GET().build();
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+
+            while (true) {
+                if (!process.isAlive()) throw new IllegalStateException("Native application exited with code " + process.exitValue());
+                if (System.nanoTime() > deadline) throw new IllegalStateException("Native application did not start within " + STARTUP_TIMEOUT);
+
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    break;
+                } catch (ConnectException e) {
+                    Thread.sleep(5);
+                }
+            }
+
+            application.timeToFirstResponse = Duration.ofNanos(System.nanoTime() - start);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+
+        return application;
+    }
+
+    private final Process process;
+    private final HttpClient client;
+    private final URI baseUri;
+
+    private Duration timeToFirstResponse = Duration.ZERO;
+
+    private NativeApplication(Process process, HttpClient client, URI baseUri) {
+        this.process = process;
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * {@return the time from launching the process to the first successful response}
+     */
+    Duration timeToFirstResponse() {
+        return this.timeToFirstResponse;
+    }
+
+    /**
+     * {@return the resident set size of the process in bytes, if it can be determined}
+     */
+    OptionalLong residentSetSize() throws IOException {
+        Path status = Path.of("/proc", Long.toString(this.process.pid()), "status");
+        if (!Files.isReadable(status)) return OptionalLong.empty();
+
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                String[] parts = line.substring("VmRSS:".length()).trim().split("\\s+");
+                return OptionalLong.of(Long.parseLong(parts[0]) * 1024L);
+            }
+        }
+
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Sends a {@code GET} request for the given path and returns the response body.
+     *
+     * @param path  the path to request
+     *
+     * @return  the response body
+     */
+    String get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(this.baseUri.resolve(path)).GET().build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    /**
+     * Writes the startup metrics of this application to standard output and, if configured, to a file in the directory
+     * denoted by the {@code omittable.reportDir} system property.
+     *
+     * @param name  the name of the report file
+     */
+    void report(String name) throws IOException {
+        OptionalLong rss = this.residentSetSize();
+        List<String> lines = List.of(
+            String.format(Locale.ROOT, "time-to-first-response-ms=%d", this.timeToFirstResponse.toMillis()),
+            String.format(Locale.ROOT, "rss-bytes=%s", rss.isPresent() ? Long.toString(rss.getAsLong()) : "unknown")
+        );
+
+        lines.forEach(System.out::println);
+
+        String reportDir = System.getProperty("omittable.reportDir");
+        if (reportDir != null) {
+            Path directory = Path.of(reportDir);
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(name + ".properties"), lines);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.process.destroy();
+
+        try {
+            this.process.waitFor();
+        } catch (InterruptedException e) {
+            this.process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sample application that is running on the JVM in a separate process.
+ *
+ * @author  Leon Linhart
+ */
+final class JvmApplication implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    /**
+     * Starts the application and waits until it responds to a request for the given path.
+     *
+     * @param java          the path to the {@code java} executable
+     * @param jvmArguments  additional arguments for the JVM
+     * @param jar           the path to the application JAR
+     * @param readinessPath the path that is requested to determine whether the application is ready
+     *
+     * @return  the running application
+     */
+    static JvmApplication start(Path java, List<String> jvmArguments, Path jar, String readinessPath) throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(java.toString());
+        command.addAll(jvmArguments);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+
+        HttpClient client = HttpClient.newHttpClient();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(jar.getParent().toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        JvmApplication application = new JvmApplication(process, client, baseUri);
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(readinessPath)).GET().build();
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+
+            while (true) {
+                if (!process.isAlive()) throw new IllegalStateException("Application exited with code " + process.exitValue());
+                if (System.nanoTime() > deadline) throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT);
+
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    break;
+                } catch (ConnectException e) {
+                    Thread.sleep(5);
+                }
+            }
+
+            application.timeToFirstResponse = Duration.ofNanos(System.nanoTime() - start);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+
+        return application;
+    }
+
+    private final Process process;
+    private final HttpClient client;
+    private final URI baseUri;
+
+    private Duration timeToFirstResponse = Duration.ZERO;
+
+    private JvmApplication(Process process, HttpClient client, URI baseUri) {
+        this.process = process;
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * {@return the time from launching the process to the first successful response}
+     */
+    Duration timeToFirstResponse() {
+        return this.timeToFirstResponse;
+    }
+
+    /**
+     * Sends a {@code GET} request for the given path and returns the response body.
+     *
+     * @param path  the path to request
+     *
+     * @return  the response body
+     */
+    String get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(this.baseUri.resolve(path)).GET().build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    /**
+     * Stops the application gracefully and returns its exit code.
+     *
+     * <p>The JVM writes an AOT cache that was requested using {@code -XX:AOTCacheOutput} during a graceful shutdown.</p>
+     *
+     * @return  the exit code of the process
+     */
+    int stop() throws InterruptedException {
+        this.process.destroy();
+        return this.process.waitFor();
+    }
+
+    @Override
+    public void close() {
+        this.process.destroy();
+
+        try {
+            this.process.waitFor();
+        } catch (InterruptedException e) {
+            this.process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
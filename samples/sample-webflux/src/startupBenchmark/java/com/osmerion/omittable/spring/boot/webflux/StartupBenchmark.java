@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.webflux;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Measures the time to the first response of the sample application on the JVM, with and without an AOT cache that
+ * was created in a training run.
+ *
+ * <p>The training run uses {@code -XX:AOTCacheOutput} to record the classes that are loaded and linked while the
+ * application serves requests to the {@code Omittable} endpoints. The measured runs then use the cache with
+ * {@code -XX:AOTMode=on}, which makes the JVM fail if the cache cannot be used.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class StartupBenchmark {
+
+    private static final List<String> REQUEST_PATHS = List.of(
+        "/person?required=Karl",
+        "/person?required=Karl&omittable=d3a33656-3fb4-4430-8103-b7c60f018eb4",
+        "/person?required=Karl&omittable"
+    );
+
+    private static String requiredProperty(String key) {
+        String value = System.getProperty(key);
+        if (value == null) throw new IllegalStateException("System property '" + key + "' is not set");
+
+        return value;
+    }
+
+    @Test
+    public void testStartupWithAotCache() throws Exception {
+        Path java = Path.of(requiredProperty("omittable.java"));
+        Path bootJar = Path.of(requiredProperty("omittable.bootJar"));
+        Path workDir = Path.of(requiredProperty("omittable.workDir"));
+        int iterations = Integer.getInteger("omittable.startup.iterations", 5);
+
+        Path jar = extract(java, bootJar, workDir.resolve("application"));
+
+        List<Duration> baseline = measure(java, List.of(), jar, iterations);
+
+        Path aotCache = workDir.resolve("application.aot");
+        Files.deleteIfExists(aotCache);
+
+        try (JvmApplication training = JvmApplication.start(java, List.of("-XX:AOTCacheOutput=" + aotCache), jar, REQUEST_PATHS.get(0))) {
+            for (int i = 0; i < 100; i++) {
+                for (String path : REQUEST_PATHS) training.get(path);
+            }
+
+            training.stop();
+        }
+
+        assertThat(aotCache).isRegularFile();
+
+        List<Duration> cached = measure(java, List.of("-XX:AOTCache=" + aotCache, "-XX:AOTMode=on"), jar, iterations);
+
+        report(baseline, cached);
+    }
+
+    /*
+     * Extracts the executable JAR so that the application is launched from a plain class path, which is required for
+     * the JVM to use an AOT cache.
+     */
+    private static Path extract(Path java, Path bootJar, Path destination) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(
+            java.toString(),
+            "-Djarmode=tools",
+            "-jar", bootJar.toString(),
+            "extract",
+            "--destination", destination.toString(),
+            "--force"
+        )
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        assertThat(process.waitFor())
+            .as("Exit code of the extraction")
+            .isZero();
+
+        return destination.resolve(bootJar.getFileName());
+    }
+
+    private static List<Duration> measure(Path java, List<String> jvmArguments, Path jar, int iterations) throws IOException, InterruptedException {
+        List<Duration> durations = new ArrayList<>(iterations);
+
+        for (int i = 0; i < iterations; i++) {
+            try (JvmApplication application = JvmApplication.start(java, jvmArguments, jar, REQUEST_PATHS.get(0))) {
+                assertThat(application.get(REQUEST_PATHS.get(1)))
+                    .isEqualTo("Karl, Omittable[d3a33656-3fb4-4430-8103-b7c60f018eb4]");
+
+                durations.add(application.timeToFirstResponse());
+            }
+        }
+
+        return durations;
+    }
+
+    private static Duration median(List<Duration> durations) {
+        List<Duration> sorted = durations.stream().sorted(Comparator.naturalOrder()).toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static void report(List<Duration> baseline, List<Duration> cached) throws IOException {
+        List<String> lines = List.of(
+            String.format(Locale.ROOT, "baseline-time-to-first-response-ms=%d", median(baseline).toMillis()),
+            String.format(Locale.ROOT, "aot-cache-time-to-first-response-ms=%d", median(cached).toMillis())
+        );
+
+        lines.forEach(System.out::println);
+
+        String reportDir = System.getProperty("omittable.reportDir");
+        if (reportDir != null) {
+            Path directory = Path.of(reportDir);
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("startup.properties"), lines);
+        }
+    }
+
+}
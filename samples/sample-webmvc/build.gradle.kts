@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+    id("com.osmerion.java-base-conventions")
+    id("org.graalvm.buildtools.native")
+    id("org.springframework.boot")
+    java
+    `jvm-test-suite`
+}
+
+graalvmNative {
+    binaries.named("main") {
+        javaLauncher = javaToolchains.launcherFor {
+            languageVersion = JavaLanguageVersion.of(25)
+            vendor = JvmVendorSpec.GRAAL_VM
+        }
+    }
+}
+
+testing {
+    suites {
+        register<JvmTestSuite>("nativeIntegrationTest") {
+            useJUnitJupiter()
+
+            dependencies {
+                implementation(buildDeps.assertj.core)
+            }
+
+            targets.configureEach {
+                testTask.configure {
+                    val nativeImage = tasks.nativeCompile.flatMap { it.outputFile }
+                    val reportDir = layout.buildDirectory.dir("reports/nativeIntegrationTest")
+
+                    inputs.file(nativeImage)
+                    outputs.dir(reportDir)
+
+                    jvmArgumentProviders.add(CommandLineArgumentProvider {
+                        listOf(
+                            "-Domittable.nativeImage=${nativeImage.get().asFile.absolutePath}",
+                            "-Domittable.reportDir=${reportDir.get().asFile.absolutePath}"
+                        )
+                    })
+                }
+            }
+        }
+
+        register<JvmTestSuite>("startupBenchmark") {
+            useJUnitJupiter()
+
+            dependencies {
+                implementation(buildDeps.assertj.core)
+            }
+
+            targets.configureEach {
+                testTask.configure {
+                    val bootJar = tasks.bootJar.flatMap { it.archiveFile }
+                    val javaLauncher = javaToolchains.launcherFor(java.toolchain)
+                    val workDir = layout.buildDirectory.dir("startupBenchmark")
+                    val reportDir = layout.buildDirectory.dir("reports/startupBenchmark")
+
+                    inputs.file(bootJar)
+                    outputs.dir(reportDir)
+                    outputs.upToDateWhen { false }
+
+                    jvmArgumentProviders.add(CommandLineArgumentProvider {
+                        listOf(
+                            "-Domittable.bootJar=${bootJar.get().asFile.absolutePath}",
+                            "-Domittable.java=${javaLauncher.get().executablePath.asFile.absolutePath}",
+                            "-Domittable.workDir=${workDir.get().asFile.absolutePath}",
+                            "-Domittable.reportDir=${reportDir.get().asFile.absolutePath}",
+                            "-Domittable.startup.iterations=${providers.gradleProperty("startup.iterations").getOrElse("5")}"
+                        )
+                    })
+                }
+            }
+        }
+    }
+}
+
+dependencies {
+    implementation(project(":omittable-spring-boot-webmvc"))
+
+    implementation(platform(libs.spring.boot.dependencies))
+    implementation(libs.spring.boot.jackson2)
+    implementation(libs.spring.boot.starter.webmvc)
+}
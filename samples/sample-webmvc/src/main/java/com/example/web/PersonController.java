@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.example.web;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/person")
+public final class PersonController {
+
+    @GetMapping
+    public ResponseEntity<String> findByFilter(
+        @RequestParam(name = "name", required = false) Omittable<@Nullable String> name
+    ) {
+        return ResponseEntity.ok(name.toString());
+    }
+
+    @GetMapping("/complex-type")
+    public ResponseEntity<String> callComplexType(
+        @RequestParam(name = "myId") Omittable<@Nullable UUID> id
+    ) {
+        if (id.isPresent()) {
+            UUID idValue = id.orElseThrow();
+            String typeName = idValue != null ? idValue.getClass().getSimpleName() : "null";
+            return ResponseEntity.ok(id + " - " + typeName);
+        } else {
+            return ResponseEntity.ok(id.toString());
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.spring.boot.web;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the assertions of {@code SpringIntegrationTest} against the sample application compiled to a native executable.
+ *
+ * @author  Leon Linhart
+ */
+public final class NativeSpringIntegrationTest {
+
+    private static NativeApplication application;
+
+    @BeforeAll
+    public static void startApplication() throws Exception {
+        application = NativeApplication.start("/person");
+        application.report("webmvc");
+    }
+
+    @AfterAll
+    public static void stopApplication() {
+        if (application != null) application.close();
+    }
+
+    @Test
+    public void testHandlerMethodArgumentResolver() throws Exception {
+        assertThat(application.get("/person"))
+            .isEqualTo("Omittable.absent");
+
+        assertThat(application.get("/person?name=Karl"))
+            .isEqualTo("Omittable[Karl]");
+
+        assertThat(application.get("/person/complex-type?myId=d3a33656-3fb4-4430-8103-b7c60f018eb4"))
+            .isEqualTo("Omittable[d3a33656-3fb4-4430-8103-b7c60f018eb4] - UUID");
+
+        assertThat(application.get("/person/complex-type?myId"))
+            .isEqualTo("Omittable[null] - null");
+    }
+
+}
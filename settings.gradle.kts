@@ -16,6 +16,10 @@
 pluginManagement {
     plugins {
         id("org.gradle.toolchains.foojay-resolver-convention") version "1.0.0"
+        id("com.google.protobuf") version "0.9.5"
+        id("me.champeau.jmh") version "0.7.3"
+        id("org.graalvm.buildtools.native") version "0.11.1"
+        id("org.springframework.boot") version "4.1.1"
     }
 
     includeBuild("build-logic")
@@ -43,8 +47,29 @@ dependencyResolutionManagement {
 
 enableFeaturePreview("STABLE_CONFIGURATION_CACHE")
 
+include(":omittable-spring-boot-benchmarks")
+project(":omittable-spring-boot-benchmarks").projectDir = file("modules/omittable-spring-boot-benchmarks")
+
+include(":omittable-spring-boot-core")
+project(":omittable-spring-boot-core").projectDir = file("modules/omittable-spring-boot-core")
+
+include(":omittable-spring-boot-jdbc")
+project(":omittable-spring-boot-jdbc").projectDir = file("modules/omittable-spring-boot-jdbc")
+
+include(":omittable-spring-boot-jpa")
+project(":omittable-spring-boot-jpa").projectDir = file("modules/omittable-spring-boot-jpa")
+
+include(":omittable-spring-boot-processor")
+project(":omittable-spring-boot-processor").projectDir = file("modules/omittable-spring-boot-processor")
+
 include(":omittable-spring-boot-webflux")
 project(":omittable-spring-boot-webflux").projectDir = file("modules/omittable-spring-boot-webflux")
 
 include(":omittable-spring-boot-webmvc")
 project(":omittable-spring-boot-webmvc").projectDir = file("modules/omittable-spring-boot-webmvc")
+
+include(":sample-webflux")
+project(":sample-webflux").projectDir = file("samples/sample-webflux")
+
+include(":sample-webmvc")
+project(":sample-webmvc").projectDir = file("samples/sample-webmvc")